@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.compare.CompareNodeExecute;
+import com.aliyun.fastmodel.compare.CompareStrategy;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.Comment;
+import com.aliyun.fastmodel.core.tree.QualifiedName;
+import com.aliyun.fastmodel.core.tree.datatype.GenericDataType;
+import com.aliyun.fastmodel.core.tree.expr.Identifier;
+import com.aliyun.fastmodel.core.tree.statement.table.ColumnDefinition;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 两张表的增量比对，after相对于before删除、修改以及新增了部分列
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompareBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int columnCount;
+
+    private final CompareNodeExecute compareNodeExecute = CompareNodeExecute.getInstance();
+
+    private CreateDimTable before;
+
+    private CreateDimTable after;
+
+    @Setup
+    public void setUp() {
+        List<ColumnDefinition> beforeColumns = new ArrayList<>(columnCount);
+        List<ColumnDefinition> afterColumns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            beforeColumns.add(column("c" + i, "bigint", "comment" + i));
+            if (i % 10 == 9) {
+                continue;
+            }
+            if (i % 7 == 6) {
+                afterColumns.add(column("c" + i, "string", "changed" + i));
+            } else {
+                afterColumns.add(column("c" + i, "bigint", "comment" + i));
+            }
+        }
+        for (int i = 0; i < columnCount / 10; i++) {
+            afterColumns.add(column("n" + i, "bigint", "new" + i));
+        }
+        before = CreateDimTable.builder().tableName(QualifiedName.of("a.b")).columns(beforeColumns).build();
+        after = CreateDimTable.builder().tableName(QualifiedName.of("a.b")).columns(afterColumns).build();
+    }
+
+    @Benchmark
+    public List<BaseStatement> compare() {
+        return compareNodeExecute.compare(before, after, CompareStrategy.INCREMENTAL);
+    }
+
+    private static ColumnDefinition column(String name, String dataType, String comment) {
+        return ColumnDefinition.builder()
+            .colName(new Identifier(name))
+            .dataType(new GenericDataType(new Identifier(dataType)))
+            .comment(new Comment(comment))
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.parser.NodeParser;
+import com.aliyun.fastmodel.parser.StatementSplitter;
+import com.aliyun.fastmodel.parser.StatementSplitter.StatementText;
+import com.google.common.io.ByteStreams;
+
+/**
+ * 基准测试使用的语料，来自performance/dsl-test.txt
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+public final class Corpus {
+
+    private static final List<String> STATEMENTS = load();
+
+    private Corpus() {
+    }
+
+    private static List<String> load() {
+        try (InputStream inputStream = Corpus.class.getResourceAsStream("/performance/dsl-test.txt")) {
+            String text = new String(ByteStreams.toByteArray(inputStream), StandardCharsets.UTF_8);
+            return new StatementSplitter(text).getStatements().stream()
+                .map(StatementText::getStatement)
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 获取指定语句数的脚本，超过语料中的语句数时循环使用
+     *
+     * @param count 语句数
+     * @return 使用分号分隔的脚本
+     */
+    public static String script(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(STATEMENTS.get(i % STATEMENTS.size())).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 获取指定语句数的脚本解析后的语句
+     *
+     * @param count 语句数
+     * @return {@link BaseStatement}
+     */
+    public static List<BaseStatement> statements(int count) {
+        return new NodeParser().multiParse(new DomainLanguage(script(count)));
+    }
+
+    /**
+     * 获取语料中的建表语句，超过语料中的建表语句数时循环使用
+     *
+     * @param count 语句数
+     * @return {@link CreateTable}
+     */
+    public static List<CreateTable> createTables(int count) {
+        List<CreateTable> all = statements(STATEMENTS.size()).stream()
+            .filter(statement -> statement instanceof CreateTable)
+            .map(statement -> (CreateTable)statement)
+            .collect(Collectors.toList());
+        List<CreateTable> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(all.get(i % all.size()));
+        }
+        return list;
+    }
+}
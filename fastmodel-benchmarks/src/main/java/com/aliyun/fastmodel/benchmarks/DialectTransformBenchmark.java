@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.transform.api.Transformer;
+import com.aliyun.fastmodel.transform.api.TransformerFactory;
+import com.aliyun.fastmodel.transform.api.context.ReverseContext;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransform;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransformParam;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 方言之间的转换，包含reverse以及transform两个阶段
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DialectTransformBenchmark {
+
+    /**
+     * 源方言:目标方言
+     */
+    @Param({"FML:HIVE", "HIVE:MYSQL", "MYSQL:HIVE", "HIVE:HOLOGRES"})
+    private String direction;
+
+    @Param({"10", "100"})
+    private int tableCount;
+
+    private List<DialectTransformParam> params;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        String[] dialects = direction.split(":");
+        DialectMeta sourceMeta = DialectMeta.getByName(DialectName.valueOf(dialects[0]));
+        DialectMeta targetMeta = DialectMeta.getByName(DialectName.valueOf(dialects[1]));
+        Transformer<CreateTable> source = TransformerFactory.getInstance().get(sourceMeta);
+        params = Corpus.createTables(tableCount).stream()
+            .map(table -> DialectTransformParam.builder()
+                .sourceMeta(sourceMeta)
+                .targetMeta(targetMeta)
+                .sourceNode(source.transform(table))
+                .reverseContext(ReverseContext.builder().build())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void transform(Blackhole blackhole) {
+        for (DialectTransformParam param : params) {
+            DialectNode dialectNode = DialectTransform.transform(param);
+            blackhole.consume(dialectNode);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.core.formatter.FastModelFormatter;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 将节点格式化为fml
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatterBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int statementCount;
+
+    private List<BaseStatement> statements;
+
+    @Setup
+    public void setUp() {
+        statements = Corpus.statements(statementCount);
+    }
+
+    @Benchmark
+    public void formatNode(Blackhole blackhole) {
+        for (BaseStatement statement : statements) {
+            blackhole.consume(FastModelFormatter.formatNode(statement));
+        }
+    }
+}
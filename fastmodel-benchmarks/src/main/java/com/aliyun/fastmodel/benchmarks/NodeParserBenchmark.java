@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
+import com.aliyun.fastmodel.core.tree.expr.BaseExpression;
+import com.aliyun.fastmodel.parser.NodeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 单个语句、表达式以及数据类型的解析
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeParserBenchmark {
+
+    private final NodeParser nodeParser = new NodeParser();
+
+    private final String statement = Corpus.script(1);
+
+    private final DomainLanguage expression = new DomainLanguage(
+        "sum(a.b) + coalesce(c, 1) * 2 > 10 and d in ('x', 'y')");
+
+    private final DomainLanguage dataType = new DomainLanguage("decimal(10,2)");
+
+    @Benchmark
+    public BaseStatement parseStatement() {
+        return nodeParser.parseStatement(statement);
+    }
+
+    @Benchmark
+    public BaseExpression parseExpression() {
+        return nodeParser.parseExpr(expression);
+    }
+
+    @Benchmark
+    public BaseDataType parseDataType() {
+        return nodeParser.parseDataType(dataType);
+    }
+}
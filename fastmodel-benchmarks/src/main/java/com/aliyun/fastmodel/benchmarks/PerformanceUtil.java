@@ -47,7 +47,7 @@ public class PerformanceUtil {
             TimeUnit.SECONDS,
             new ArrayBlockingQueue<>(queueSize),
             r -> {
-                Thread t = new Thread("PerformanceTest-Thread");
+                Thread t = new Thread(r, "PerformanceTest-Thread");
                 t.setDaemon(true);
                 return t;
             }
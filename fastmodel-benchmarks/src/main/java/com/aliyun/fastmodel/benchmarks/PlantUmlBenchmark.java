@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.transform.plantuml.PlantUmlTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 将建表语句生成plantuml的er图文本，结果除以tableCount即为每个语句的耗时，
+ * 模版只编译一次，每个语句的耗时不随表的数量增长。generateParallel在commonPool中并行生成片段
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlantUmlBenchmark {
+
+    @Param({"10", "100", "2000"})
+    private int tableCount;
+
+    private PlantUmlTransformer transformer;
+
+    private List<BaseStatement> statements;
+
+    @Setup
+    public void setUp() {
+        transformer = new PlantUmlTransformer();
+        statements = new ArrayList<>(Corpus.createTables(tableCount));
+    }
+
+    @Benchmark
+    public byte[] generate() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        transformer.generate(statements, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] generateParallel() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        transformer.generate(statements, outputStream, ForkJoinPool.commonPool());
+        return outputStream.toByteArray();
+    }
+}
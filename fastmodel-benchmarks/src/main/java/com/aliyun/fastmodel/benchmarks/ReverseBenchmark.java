@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.transform.api.Transformer;
+import com.aliyun.fastmodel.transform.api.TransformerFactory;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 各方言将方言的建表语句转换为fml，方言的文本由transform生成
+ *
+ * @author panguanjing
+ * @date 2022/7/1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReverseBenchmark {
+
+    @Param({"FML", "HIVE", "MYSQL"})
+    private String dialect;
+
+    @Param({"10", "100"})
+    private int tableCount;
+
+    private Transformer<CreateTable> transformer;
+
+    private List<DialectNode> dialectNodes;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        transformer = TransformerFactory.getInstance().get(DialectMeta.getByName(DialectName.valueOf(dialect)));
+        dialectNodes = Corpus.createTables(tableCount).stream()
+            .map(transformer::transform)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void reverse(Blackhole blackhole) {
+        for (DialectNode dialectNode : dialectNodes) {
+            blackhole.consume(transformer.reverse(dialectNode));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内置的耗时统计实现，按照语法或者方言以及阶段记录次数、总耗时以及最大耗时。
+ * 需要直方图等更丰富的统计时，可以基于Micrometer或者HdrHistogram自行实现{@link ParseMetrics}以及{@link TransformMetrics}。
+ *
+ * @author panguanjing
+ * @date 2022/6/30
+ */
+public class LatencyMetrics implements ParseMetrics, TransformMetrics {
+
+    private final Map<String, LatencyStats[]> parseStats = new ConcurrentHashMap<>(8);
+
+    private final Map<String, LatencyStats[]> transformStats = new ConcurrentHashMap<>(8);
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void record(String grammar, ParsePhase phase, long nanos) {
+        parseStats.computeIfAbsent(grammar, k -> newStats(ParsePhase.values().length))[phase.ordinal()]
+            .record(nanos);
+    }
+
+    @Override
+    public void record(String dialect, TransformPhase phase, long nanos) {
+        transformStats.computeIfAbsent(dialect, k -> newStats(TransformPhase.values().length))[phase.ordinal()]
+            .record(nanos);
+    }
+
+    /**
+     * 获取解析的统计
+     *
+     * @param grammar 语法名称
+     * @param phase   阶段
+     * @return {@link LatencyStats}，没有记录时返回null
+     */
+    public LatencyStats getStats(String grammar, ParsePhase phase) {
+        LatencyStats[] stats = parseStats.get(grammar);
+        return stats == null ? null : stats[phase.ordinal()];
+    }
+
+    /**
+     * 获取转换的统计
+     *
+     * @param dialect 方言名称
+     * @param phase   阶段
+     * @return {@link LatencyStats}，没有记录时返回null
+     */
+    public LatencyStats getStats(String dialect, TransformPhase phase) {
+        LatencyStats[] stats = transformStats.get(dialect);
+        return stats == null ? null : stats[phase.ordinal()];
+    }
+
+    public void reset() {
+        parseStats.clear();
+        transformStats.clear();
+    }
+
+    private static LatencyStats[] newStats(int size) {
+        LatencyStats[] stats = new LatencyStats[size];
+        for (int i = 0; i < size; i++) {
+            stats[i] = new LatencyStats();
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.common.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * 统计的注册入口
+ * <p>
+ * 启动时通过ServiceLoader加载{@link ParseMetrics}以及{@link TransformMetrics}的实现，
+ * 没有实现时使用不进行统计的NOOP，也可以调用set方法手动设置。
+ *
+ * @author panguanjing
+ * @date 2022/6/30
+ */
+public final class MetricsRegistry {
+
+    private static volatile ParseMetrics parseMetrics = load(ParseMetrics.class, ParseMetrics.NOOP);
+
+    private static volatile TransformMetrics transformMetrics = load(TransformMetrics.class,
+        TransformMetrics.NOOP);
+
+    private MetricsRegistry() {
+    }
+
+    public static ParseMetrics getParseMetrics() {
+        return parseMetrics;
+    }
+
+    /**
+     * 设置解析的统计
+     *
+     * @param metrics {@link ParseMetrics}，为null时关闭统计
+     */
+    public static void setParseMetrics(ParseMetrics metrics) {
+        parseMetrics = metrics == null ? ParseMetrics.NOOP : metrics;
+    }
+
+    public static TransformMetrics getTransformMetrics() {
+        return transformMetrics;
+    }
+
+    /**
+     * 设置转换的统计
+     *
+     * @param metrics {@link TransformMetrics}，为null时关闭统计
+     */
+    public static void setTransformMetrics(TransformMetrics metrics) {
+        transformMetrics = metrics == null ? TransformMetrics.NOOP : metrics;
+    }
+
+    private static <T> T load(Class<T> clazz, T defaultValue) {
+        Iterator<T> iterator = ServiceLoader.load(clazz).iterator();
+        return iterator.hasNext() ? iterator.next() : defaultValue;
+    }
+}
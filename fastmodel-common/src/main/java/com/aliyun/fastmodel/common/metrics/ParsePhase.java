@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.common.metrics;
+
+/**
+ * 解析的阶段
+ *
+ * @author panguanjing
+ * @date 2022/6/30
+ */
+public enum ParsePhase {
+    /**
+     * 只进行词法分析的阶段，例如脚本的切分。
+     * antlr在语法分析时按需进行词法分析，因此语法分析的耗时包含了词法分析
+     */
+    LEX,
+    /**
+     * 词法以及语法分析，生成语法树
+     */
+    PARSE,
+    /**
+     * 根据语法树生成节点
+     */
+    AST_BUILD
+}
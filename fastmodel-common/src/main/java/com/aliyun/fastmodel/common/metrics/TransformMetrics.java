@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.common.metrics;
+
+/**
+ * 方言转换耗时的统计，通过{@link MetricsRegistry}注册，默认不进行统计。
+ * <p>
+ * 调用方在{@link #isEnabled()}返回false时不会读取时间，也不会产生任何对象。
+ *
+ * @author panguanjing
+ * @date 2022/6/30
+ */
+public interface TransformMetrics {
+
+    TransformMetrics NOOP = new TransformMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(String dialect, TransformPhase phase, long nanos) {
+        }
+    };
+
+    /**
+     * 是否开启统计
+     *
+     * @return true表示开启
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param dialect 方言名称，reverse时为源方言，transform时为目标方言
+     * @param phase   阶段
+     * @param nanos   耗时，单位：纳秒
+     */
+    void record(String dialect, TransformPhase phase, long nanos);
+}
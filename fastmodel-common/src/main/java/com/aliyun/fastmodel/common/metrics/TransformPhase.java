@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.common.metrics;
+
+/**
+ * 方言转换的阶段
+ *
+ * @author panguanjing
+ * @date 2022/6/30
+ */
+public enum TransformPhase {
+    /**
+     * 将源方言的节点转换为fml的节点
+     */
+    REVERSE,
+    /**
+     * 将fml的节点转换为目标方言
+     */
+    TRANSFORM
+}
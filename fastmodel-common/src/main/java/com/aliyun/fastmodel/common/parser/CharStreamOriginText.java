@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser;
+
+import com.aliyun.fastmodel.core.tree.OriginText;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * 基于antlr的{@link CharStream}的原始文本，CharStream是不可变的并且已经被token引用，
+ * 这里只保存起止位置，不复制文本
+ *
+ * @author panguanjing
+ * @date 2022/7/4
+ */
+class CharStreamOriginText implements OriginText {
+
+    private final CharStream input;
+
+    private final int start;
+
+    private final int stop;
+
+    CharStreamOriginText(CharStream input, int start, int stop) {
+        this.input = input;
+        this.start = start;
+        this.stop = stop;
+    }
+
+    @Override
+    public String getText() {
+        return input.getText(Interval.of(start, stop));
+    }
+
+    @Override
+    public String toString() {
+        return getText();
+    }
+}
@@ -20,24 +20,26 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.core.tree.NodeLocation;
+import com.aliyun.fastmodel.core.tree.OriginText;
+import com.aliyun.fastmodel.core.tree.expr.BaseExpression;
 import com.aliyun.fastmodel.core.tree.expr.Identifier;
 import com.aliyun.fastmodel.core.tree.expr.literal.BaseLiteral;
 import com.aliyun.fastmodel.core.tree.expr.literal.DecimalLiteral;
 import com.aliyun.fastmodel.core.tree.expr.literal.DoubleLiteral;
 import com.aliyun.fastmodel.core.tree.expr.literal.LongLiteral;
 import com.aliyun.fastmodel.core.tree.expr.literal.StringLiteral;
-import lombok.extern.slf4j.Slf4j;
-import org.antlr.v4.runtime.CharStream;
+import com.aliyun.fastmodel.core.tree.util.NameInterner;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
-import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.tree.AbstractParseTreeVisitor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.StopWatch;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -48,11 +50,46 @@ import static java.util.stream.Collectors.toList;
  * @author panguanjing
  * @date 2020/11/19
  */
-@Slf4j
 public class ParserHelper {
 
     public static final String PREFIX = "`";
 
+    /**
+     * 当前线程是否关闭了原始文本的记录
+     */
+    private static final ThreadLocal<Boolean> ORIGIN_DISABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * 在关闭原始文本记录的情况下执行，执行期间{@link #getOrigin}以及{@link #getOriginText}都返回null，
+     * 适用于不需要原始文本的批量导入场景
+     *
+     * @param supplier 执行的内容
+     * @param <T>      返回类型
+     * @return 执行的结果
+     */
+    public static <T> T withoutOrigin(Supplier<T> supplier) {
+        Boolean previous = ORIGIN_DISABLED.get();
+        ORIGIN_DISABLED.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous) {
+                ORIGIN_DISABLED.set(previous);
+            } else {
+                ORIGIN_DISABLED.remove();
+            }
+        }
+    }
+
+    /**
+     * 当前线程是否记录原始文本
+     *
+     * @return 是否记录原始文本
+     */
+    public static boolean isOriginEnabled() {
+        return !ORIGIN_DISABLED.get();
+    }
+
     /**
      * 获取原始的文本
      *
@@ -60,27 +97,69 @@ public class ParserHelper {
      * @return 原始的内容
      */
     public static String getOrigin(ParserRuleContext parserRuleContext) {
-        Token start = parserRuleContext.getStart();
-        int startIndex = start.getStartIndex();
-        Token stop = parserRuleContext.getStop();
-        int endIndex = stop.getStopIndex();
-        Interval interval = new Interval(startIndex, endIndex);
-        CharStream input = start.getInputStream();
-        return input.getText(interval);
+        OriginText originText = getOriginText(parserRuleContext);
+        return originText == null ? null : originText.getText();
     }
 
     public static String getOrigin(Token token) {
-        int startIndex = token.getStartIndex();
-        int endIndex = token.getStopIndex();
-        Interval interval = new Interval(startIndex, endIndex);
-        CharStream input = token.getInputStream();
-        return input.getText(interval);
+        OriginText originText = getOriginText(token);
+        return originText == null ? null : originText.getText();
     }
 
     public static String getOrigin(TerminalNode token) {
         return getOrigin(token.getSymbol());
     }
 
+    /**
+     * 获取延迟生成的原始文本，只引用token的输入以及位置，不复制文本
+     *
+     * @param parserRuleContext context
+     * @return {@link OriginText}，关闭原始文本记录时返回null
+     */
+    public static OriginText getOriginText(ParserRuleContext parserRuleContext) {
+        if (!isOriginEnabled()) {
+            return null;
+        }
+        Token start = parserRuleContext.getStart();
+        Token stop = parserRuleContext.getStop();
+        return new CharStreamOriginText(start.getInputStream(), start.getStartIndex(), stop.getStopIndex());
+    }
+
+    public static OriginText getOriginText(Token token) {
+        if (!isOriginEnabled()) {
+            return null;
+        }
+        return new CharStreamOriginText(token.getInputStream(), token.getStartIndex(), token.getStopIndex());
+    }
+
+    /**
+     * 为节点设置延迟生成的原始文本，只有表达式以及语句有原始文本
+     *
+     * @param node              节点
+     * @param parserRuleContext 节点对应的context
+     * @param <T>               节点类型
+     * @return 节点本身
+     */
+    public static <T extends Node> T withOrigin(T node, ParserRuleContext parserRuleContext) {
+        return setOriginText(node, getOriginText(parserRuleContext));
+    }
+
+    public static <T extends Node> T withOrigin(T node, TerminalNode token) {
+        return setOriginText(node, getOriginText(token.getSymbol()));
+    }
+
+    private static <T extends Node> T setOriginText(T node, OriginText originText) {
+        if (originText == null) {
+            return node;
+        }
+        if (node instanceof BaseExpression) {
+            ((BaseExpression)node).setOriginText(originText);
+        } else if (node instanceof BaseStatement) {
+            ((BaseStatement)node).setOriginText(originText);
+        }
+        return node;
+    }
+
     /**
      * 根据baseLiteral，获取数字，如果不是指定几种数字类型的字变量，那么返回false
      *
@@ -138,27 +217,26 @@ public class ParserHelper {
 
     public static <T> List<T> visit(AbstractParseTreeVisitor visitor, List<? extends ParseTree> contexts,
                                     Class<T> clazz) {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-        List<T> list = contexts.stream()
+        return contexts.stream()
             .map(visitor::visit)
             .map(clazz::cast)
             .collect(toList());
-        stopWatch.stop();
-        log.info("第{}步运行时间：{}", 1, stopWatch.getTime());
-        return list;
     }
 
     public static Identifier getIdentifier(ParserRuleContext ctx) {
         if (ctx == null) {
             return null;
         }
+        //标识符通常只有一个token，直接使用token的文本，避免拼接
+        Token start = ctx.getStart();
+        String text = start == ctx.getStop() ? start.getText() : ctx.getText();
         //大小写忽略处理
-        String text = ctx.getText().toLowerCase(Locale.ROOT);
+        text = text.toLowerCase(Locale.ROOT);
         if (text.startsWith(PREFIX)) {
-            text = text.substring(1, text.length() - 1).replaceAll(PREFIX, StringUtils.EMPTY);
-            return new Identifier(getLocation(ctx), getOrigin(ctx), text, true);
+            text = StringUtils.remove(text.substring(1, text.length() - 1), PREFIX);
+            return withOrigin(new Identifier(getLocation(ctx), null, NameInterner.intern(text), true), ctx);
         }
-        return new Identifier(getLocation(ctx), getOrigin(ctx), text);
+        //同一个名称在脚本中会出现多次，共享同一个字符串
+        return withOrigin(new Identifier(getLocation(ctx), null, NameInterner.intern(text)), ctx);
     }
 }
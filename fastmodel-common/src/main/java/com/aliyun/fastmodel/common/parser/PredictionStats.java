@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Getter;
+
+/**
+ * 两阶段解析的统计
+ * <p>
+ * 记录SLL成功次数、LL回退次数、两种模式各自的耗时，以及导致回退的语法规则。
+ *
+ * @author panguanjing
+ * @date 2022/6/24
+ */
+public class PredictionStats {
+
+    /**
+     * 语法名称
+     */
+    @Getter
+    private final String name;
+
+    private final LongAdder sllSuccesses = new LongAdder();
+
+    private final LongAdder llFallbacks = new LongAdder();
+
+    private final LongAdder sllNanos = new LongAdder();
+
+    private final LongAdder llNanos = new LongAdder();
+
+    private final Map<String, LongAdder> fallbackRules = new ConcurrentHashMap<>();
+
+    public PredictionStats(String name) {
+        this.name = name;
+    }
+
+    void recordSll(long nanos) {
+        sllSuccesses.increment();
+        sllNanos.add(nanos);
+    }
+
+    void recordSllFailure(String rule, long nanos) {
+        llFallbacks.increment();
+        sllNanos.add(nanos);
+        fallbackRules.computeIfAbsent(rule, k -> new LongAdder()).increment();
+    }
+
+    void recordLl(long nanos) {
+        llNanos.add(nanos);
+    }
+
+    public long getSllSuccesses() {
+        return sllSuccesses.sum();
+    }
+
+    public long getLlFallbacks() {
+        return llFallbacks.sum();
+    }
+
+    public long getSllNanos() {
+        return sllNanos.sum();
+    }
+
+    public long getLlNanos() {
+        return llNanos.sum();
+    }
+
+    /**
+     * 导致LL回退的规则以及次数
+     *
+     * @return rule name -> count
+     */
+    public Map<String, Long> getFallbackRules() {
+        ImmutableMap.Builder<String, Long> builder = ImmutableMap.builder();
+        fallbackRules.forEach((k, v) -> builder.put(k, v.sum()));
+        return builder.build();
+    }
+
+    public void reset() {
+        sllSuccesses.reset();
+        llFallbacks.reset();
+        sllNanos.reset();
+        llNanos.reset();
+        fallbackRules.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "PredictionStats(name=" + name + ", sllSuccesses=" + getSllSuccesses() + ", llFallbacks="
+            + getLlFallbacks() + ", sllNanos=" + getSllNanos() + ", llNanos=" + getLlNanos() + ", fallbackRules="
+            + getFallbackRules() + ")";
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.Getter;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * 脚本规则的描述，脚本由多个语句以及分隔符组成。
+ * 用于{@link TwoStageParser}按照语句逐个解析脚本，只对失败的语句使用LL模式。
+ *
+ * @author panguanjing
+ * @date 2022/6/24
+ */
+@Getter
+public class ScriptRule<P extends Parser> {
+
+    /**
+     * 整个脚本的解析规则
+     */
+    private final Function<P, ParserRuleContext> script;
+
+    /**
+     * 单个语句的解析规则
+     */
+    private final Function<P, ParserRuleContext> statement;
+
+    /**
+     * 语句之间的分隔符token类型
+     */
+    private final Set<Integer> separators;
+
+    /**
+     * 每个语句之后是否必须有分隔符
+     */
+    private final boolean separatorRequired;
+
+    /**
+     * 将语句组装为与{@link #script}相同结构的context
+     */
+    private final Assembler assembler;
+
+    public ScriptRule(Function<P, ParserRuleContext> script, Function<P, ParserRuleContext> statement,
+                      Set<Integer> separators, boolean separatorRequired, Assembler assembler) {
+        this.script = script;
+        this.statement = statement;
+        this.separators = ImmutableSet.copyOf(separators);
+        this.separatorRequired = separatorRequired;
+        this.assembler = assembler;
+    }
+
+    public interface Assembler {
+        /**
+         * 组装脚本的context
+         *
+         * @param statements 语句的context
+         * @param start      脚本的第一个token
+         * @param stop       脚本的最后一个token
+         * @return 脚本的context
+         */
+        ParserRuleContext assemble(List<ParserRuleContext> statements, Token start, Token stop);
+    }
+}
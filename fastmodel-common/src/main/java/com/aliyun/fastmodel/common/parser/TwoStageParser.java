@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+/**
+ * 两阶段解析：先使用SLL模式以及{@link BailErrorStrategy}快速解析，失败后再使用LL模式解析。
+ * <p>
+ * 对于脚本，SLL失败后不会直接对整个脚本进行LL解析，而是复用已经分词的tokenStream，按语句逐个解析，
+ * 只有SLL失败的语句才会使用LL模式。如果按语句解析仍然失败，最后才对整个脚本进行LL解析，保证结果以及异常信息与之前一致。
+ *
+ * @author panguanjing
+ * @date 2022/6/24
+ */
+public class TwoStageParser<P extends Parser> {
+
+    private static final String UNKNOWN_RULE = "unknown";
+
+    @Getter
+    private final PredictionStats stats;
+
+    public TwoStageParser(String name) {
+        stats = new PredictionStats(name);
+    }
+
+    /**
+     * 解析单个规则
+     *
+     * @param parser 已经设置了输入的parser
+     * @param rule   解析规则
+     * @return {@link ParserRuleContext}
+     */
+    public ParserRuleContext parse(P parser, Function<P, ParserRuleContext> rule) {
+        long start = System.nanoTime();
+        try {
+            ParserRuleContext tree = sll(parser, rule);
+            stats.recordSll(System.nanoTime() - start);
+            return tree;
+        } catch (ParseCancellationException e) {
+            stats.recordSllFailure(getRuleName(parser, e), System.nanoTime() - start);
+        }
+        return fullLl(parser, rule);
+    }
+
+    /**
+     * 解析脚本
+     *
+     * @param parser     已经设置了输入的parser
+     * @param scriptRule 脚本规则
+     * @return {@link ParserRuleContext}
+     */
+    public ParserRuleContext parseScript(P parser, ScriptRule<P> scriptRule) {
+        long start = System.nanoTime();
+        try {
+            ParserRuleContext tree = sll(parser, scriptRule.getScript());
+            stats.recordSll(System.nanoTime() - start);
+            return tree;
+        } catch (ParseCancellationException e) {
+            stats.recordSllFailure(getRuleName(parser, e), System.nanoTime() - start);
+        }
+        ParserRuleContext tree = parseStatements(parser, scriptRule);
+        if (tree != null) {
+            return tree;
+        }
+        return fullLl(parser, scriptRule.getScript());
+    }
+
+    /**
+     * 按语句逐个解析脚本，每个语句先使用SLL，失败后对该语句使用LL。
+     *
+     * @param parser     已经设置了输入的parser
+     * @param scriptRule 脚本规则
+     * @return 组装后的脚本context，如果无法按语句解析，返回null
+     */
+    public ParserRuleContext parseStatements(P parser, ScriptRule<P> scriptRule) {
+        TokenStream tokens = parser.getInputStream();
+        parser.reset();
+        Token first = tokens.LT(1);
+        List<ParserRuleContext> statements = new ArrayList<>();
+        boolean separated = false;
+        while (true) {
+            while (scriptRule.getSeparators().contains(tokens.LA(1))) {
+                tokens.consume();
+                separated = true;
+            }
+            if (tokens.LA(1) == Token.EOF) {
+                break;
+            }
+            if (scriptRule.isSeparatorRequired() && !statements.isEmpty() && !separated) {
+                return null;
+            }
+            int index = tokens.index();
+            ParserRuleContext statement = parseStatement(parser, scriptRule, index);
+            if (statement == null || tokens.index() == index) {
+                return null;
+            }
+            statements.add(statement);
+            separated = false;
+        }
+        if (statements.isEmpty() || (scriptRule.isSeparatorRequired() && !separated)) {
+            return null;
+        }
+        return scriptRule.getAssembler().assemble(statements, first, tokens.LT(-1));
+    }
+
+    private ParserRuleContext parseStatement(P parser, ScriptRule<P> scriptRule, int index) {
+        long start = System.nanoTime();
+        try {
+            ParserRuleContext statement = sll(parser, scriptRule.getStatement());
+            stats.recordSll(System.nanoTime() - start);
+            return statement;
+        } catch (ParseCancellationException e) {
+            stats.recordSllFailure(getRuleName(parser, e), System.nanoTime() - start);
+        }
+        start = System.nanoTime();
+        parser.getInputStream().seek(index);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        try {
+            return scriptRule.getStatement().apply(parser);
+        } catch (RuntimeException e) {
+            //交给整个脚本的LL解析处理
+            return null;
+        } finally {
+            stats.recordLl(System.nanoTime() - start);
+        }
+    }
+
+    private ParserRuleContext sll(P parser, Function<P, ParserRuleContext> rule) {
+        parser.setErrorHandler(new SllErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        return rule.apply(parser);
+    }
+
+    private ParserRuleContext fullLl(P parser, Function<P, ParserRuleContext> rule) {
+        long start = System.nanoTime();
+        try {
+            parser.reset();
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        } finally {
+            stats.recordLl(System.nanoTime() - start);
+        }
+    }
+
+    private static String getRuleName(Parser parser, ParseCancellationException e) {
+        if (!(e.getCause() instanceof RecognitionException)) {
+            return UNKNOWN_RULE;
+        }
+        RuleContext ctx = ((RecognitionException)e.getCause()).getCtx();
+        if (ctx == null || ctx.getRuleIndex() < 0 || ctx.getRuleIndex() >= parser.getRuleNames().length) {
+            return UNKNOWN_RULE;
+        }
+        return parser.getRuleNames()[ctx.getRuleIndex()];
+    }
+
+    /**
+     * SLL阶段的错误不需要通知listener，直接中断解析
+     */
+    private static class SllErrorStrategy extends BailErrorStrategy {
+        @Override
+        public void reportError(Parser recognizer, RecognitionException e) {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 语法DFA缓存的统计信息
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DfaCacheStats {
+
+    /**
+     * 语法名称
+     */
+    private final String name;
+
+    /**
+     * lexer的DFA状态数
+     */
+    private final long lexerStates;
+
+    /**
+     * parser的DFA状态数
+     */
+    private final long parserStates;
+
+    /**
+     * 所有状态中ATN配置的总数
+     */
+    private final long configs;
+
+    /**
+     * 估算的内存占用，单位：字节
+     */
+    private final long estimatedBytes;
+
+    public long getTotalStates() {
+        return lexerStates + parserStates;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.ToString;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.dfa.DFA;
+
+/**
+ * 一个antlr语法的DFA缓存描述
+ * <p>
+ * antlr生成的lexer与parser将DFA保存在静态数组中，所有实例共享，
+ * 这里持有这两个数组的引用，用于统计、清理以及预热。
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@Getter
+@ToString(of = {"name", "corpus"})
+public class GrammarCache {
+
+    /**
+     * 语法名称，比如：fml、hive
+     */
+    private final String name;
+
+    private final ATN lexerAtn;
+
+    private final DFA[] lexerDfa;
+
+    private final ATN parserAtn;
+
+    private final DFA[] parserDfa;
+
+    /**
+     * 预热时执行的解析动作，可以为空
+     */
+    private final Consumer<String> warmer;
+
+    /**
+     * 预热语料，classpath中的资源路径
+     */
+    private final List<String> corpus;
+
+    /**
+     * 用于加载预热语料的class
+     */
+    private final Class<?> resourceOwner;
+
+    private GrammarCache(Builder builder) {
+        Preconditions.checkNotNull(builder.name, "name can't be null");
+        Preconditions.checkNotNull(builder.lexer, "lexer can't be null");
+        Preconditions.checkNotNull(builder.parser, "parser can't be null");
+        name = builder.name;
+        lexerAtn = builder.lexer.getInterpreter().atn;
+        lexerDfa = builder.lexer.getInterpreter().decisionToDFA;
+        parserAtn = builder.parser.getInterpreter().atn;
+        parserDfa = builder.parser.getInterpreter().decisionToDFA;
+        warmer = builder.warmer;
+        corpus = ImmutableList.copyOf(builder.corpus);
+        resourceOwner = builder.resourceOwner == null ? builder.parser.getClass() : builder.resourceOwner;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String name;
+
+        private Lexer lexer;
+
+        private Parser parser;
+
+        private Consumer<String> warmer;
+
+        private List<String> corpus = ImmutableList.of();
+
+        private Class<?> resourceOwner;
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * 任意一个lexer实例，只用于获取共享的DFA
+         *
+         * @param lexer lexer
+         * @return {@link Builder}
+         */
+        public Builder lexer(Lexer lexer) {
+            this.lexer = lexer;
+            return this;
+        }
+
+        /**
+         * 任意一个parser实例，只用于获取共享的DFA
+         *
+         * @param parser parser
+         * @return {@link Builder}
+         */
+        public Builder parser(Parser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        public Builder warmer(Consumer<String> warmer) {
+            this.warmer = warmer;
+            return this;
+        }
+
+        public Builder corpus(String... corpus) {
+            this.corpus = ImmutableList.copyOf(corpus);
+            return this;
+        }
+
+        public Builder resourceOwner(Class<?> resourceOwner) {
+            this.resourceOwner = resourceOwner;
+            return this;
+        }
+
+        public GrammarCache build() {
+            return new GrammarCache(this);
+        }
+    }
+}
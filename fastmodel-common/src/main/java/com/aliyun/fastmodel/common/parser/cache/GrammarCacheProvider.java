@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser.cache;
+
+/**
+ * 语法缓存的SPI，各个解析模块通过ServiceLoader注册自己的语法
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+public interface GrammarCacheProvider {
+
+    /**
+     * 获取语法的缓存描述
+     *
+     * @return {@link GrammarCache}
+     */
+    GrammarCache getGrammarCache();
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.parser.cache;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Resources;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * antlr的DFA缓存管理
+ * <p>
+ * antlr的DFA缓存是静态的，每个JVM启动时都是空的，并且会随着输入不断增长。
+ * 这里提供统一的管理入口：
+ * <ul>
+ *     <li>启动时使用各语法自带的语料进行预热</li>
+ *     <li>统计各语法的DFA状态数以及估算内存</li>
+ *     <li>清理或者按照状态数上限裁剪缓存，支持在老年代内存紧张时自动清理</li>
+ * </ul>
+ * 语法通过{@link GrammarCacheProvider}注册，也可以调用{@link #register(GrammarCache)}手动注册。
+ * 清理时正在进行的解析仍然使用旧的DFA，不影响正确性，只会在下一次解析时重新构建。
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@Slf4j
+public class ParserCacheManager {
+
+    private static final ParserCacheManager INSTANCE = new ParserCacheManager();
+
+    /**
+     * 估算内存使用的常量，参考64位JVM开启指针压缩的对象大小
+     */
+    private static final int STATE_BYTES = 64;
+
+    private static final int EDGE_BYTES = 4;
+
+    private static final int CONFIG_BYTES = 40;
+
+    private final Map<String, GrammarCache> grammars = new ConcurrentHashMap<>(8);
+
+    /**
+     * 单个语法允许的最大状态数，小于等于0表示不限制
+     */
+    private volatile long maxStates;
+
+    private volatile NotificationListener memoryListener;
+
+    private ParserCacheManager() {
+        ServiceLoader<GrammarCacheProvider> loader = ServiceLoader.load(GrammarCacheProvider.class);
+        for (GrammarCacheProvider provider : loader) {
+            register(provider.getGrammarCache());
+        }
+    }
+
+    public static ParserCacheManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 注册语法，相同名称的语法会被覆盖
+     *
+     * @param grammarCache {@link GrammarCache}
+     */
+    public void register(GrammarCache grammarCache) {
+        grammars.put(grammarCache.getName(), grammarCache);
+    }
+
+    public Collection<GrammarCache> getGrammars() {
+        return ImmutableList.copyOf(grammars.values());
+    }
+
+    /**
+     * 使用语料预热所有的语法
+     */
+    public void warmUp() {
+        for (GrammarCache grammarCache : grammars.values()) {
+            warmUp(grammarCache);
+        }
+    }
+
+    /**
+     * 使用语料预热指定的语法
+     *
+     * @param name 语法名称
+     */
+    public void warmUp(String name) {
+        GrammarCache grammarCache = grammars.get(name);
+        if (grammarCache == null) {
+            throw new IllegalArgumentException("grammar not found with name:" + name);
+        }
+        warmUp(grammarCache);
+    }
+
+    private void warmUp(GrammarCache grammarCache) {
+        if (grammarCache.getWarmer() == null) {
+            return;
+        }
+        for (String resource : grammarCache.getCorpus()) {
+            String text = loadCorpus(grammarCache, resource);
+            if (text == null) {
+                continue;
+            }
+            try {
+                grammarCache.getWarmer().accept(text);
+            } catch (RuntimeException e) {
+                //预热只关心DFA的构建，语料解析失败不影响使用
+                log.warn("warm up grammar:{} with corpus:{} failed", grammarCache.getName(), resource, e);
+            }
+        }
+    }
+
+    private String loadCorpus(GrammarCache grammarCache, String resource) {
+        URL url = grammarCache.getResourceOwner().getResource(resource);
+        if (url == null) {
+            log.warn("corpus:{} of grammar:{} not found", resource, grammarCache.getName());
+            return null;
+        }
+        try {
+            return Resources.toString(url, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("read corpus:{} of grammar:{} failed", resource, grammarCache.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 获取所有语法的统计信息
+     *
+     * @return {@link DfaCacheStats}
+     */
+    public List<DfaCacheStats> getStats() {
+        List<DfaCacheStats> list = new ArrayList<>(grammars.size());
+        for (GrammarCache grammarCache : grammars.values()) {
+            list.add(getStats(grammarCache));
+        }
+        return list;
+    }
+
+    /**
+     * 获取指定语法的统计信息
+     *
+     * @param name 语法名称
+     * @return {@link DfaCacheStats}, 如果没有注册返回null
+     */
+    public DfaCacheStats getStats(String name) {
+        GrammarCache grammarCache = grammars.get(name);
+        return grammarCache == null ? null : getStats(grammarCache);
+    }
+
+    private DfaCacheStats getStats(GrammarCache grammarCache) {
+        long[] lexer = count(grammarCache.getLexerDfa());
+        long[] parser = count(grammarCache.getParserDfa());
+        return new DfaCacheStats(grammarCache.getName(), lexer[0], parser[0], lexer[1] + parser[1],
+            lexer[2] + parser[2]);
+    }
+
+    /**
+     * 统计DFA数组
+     *
+     * @param dfas DFA数组
+     * @return [状态数, 配置数, 估算字节数]
+     */
+    private static long[] count(DFA[] dfas) {
+        long states = 0;
+        long configs = 0;
+        long bytes = 0;
+        for (DFA dfa : dfas) {
+            if (dfa == null) {
+                continue;
+            }
+            synchronized (dfa.states) {
+                for (DFAState state : dfa.states.values()) {
+                    states++;
+                    bytes += STATE_BYTES;
+                    if (state.edges != null) {
+                        bytes += (long)state.edges.length * EDGE_BYTES;
+                    }
+                    if (state.configs != null) {
+                        configs += state.configs.size();
+                        bytes += (long)state.configs.size() * CONFIG_BYTES;
+                    }
+                }
+            }
+        }
+        return new long[] {states, configs, bytes};
+    }
+
+    /**
+     * 清理所有语法的缓存
+     */
+    public void clearAll() {
+        for (GrammarCache grammarCache : grammars.values()) {
+            clear(grammarCache);
+        }
+    }
+
+    /**
+     * 清理指定语法的缓存
+     *
+     * @param name 语法名称
+     */
+    public void clear(String name) {
+        GrammarCache grammarCache = grammars.get(name);
+        if (grammarCache != null) {
+            clear(grammarCache);
+        }
+    }
+
+    private void clear(GrammarCache grammarCache) {
+        clear(grammarCache.getLexerAtn(), grammarCache.getLexerDfa());
+        clear(grammarCache.getParserAtn(), grammarCache.getParserDfa());
+        log.info("clear dfa cache of grammar:{}", grammarCache.getName());
+    }
+
+    private static void clear(ATN atn, DFA[] dfas) {
+        for (int d = 0; d < dfas.length; d++) {
+            dfas[d] = new DFA(atn.getDecisionState(d), d);
+        }
+    }
+
+    public long getMaxStates() {
+        return maxStates;
+    }
+
+    /**
+     * 设置单个语法允许的最大状态数
+     *
+     * @param maxStates 最大状态数，小于等于0表示不限制
+     */
+    public void setMaxStates(long maxStates) {
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * 清理状态数超过上限的语法，可以由调用方定期执行
+     *
+     * @return 被清理的语法名称
+     */
+    public List<String> trimIfNecessary() {
+        long max = maxStates;
+        if (max <= 0) {
+            return ImmutableList.of();
+        }
+        List<String> trimmed = new ArrayList<>();
+        for (GrammarCache grammarCache : grammars.values()) {
+            if (getStats(grammarCache).getTotalStates() > max) {
+                clear(grammarCache);
+                trimmed.add(grammarCache.getName());
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * 在GC之后老年代使用率超过阈值时清理所有的缓存。
+     * 会修改JVM中老年代内存池的collectionUsageThreshold，eden以及survivor不受影响。
+     *
+     * @param usageRatio 使用率阈值，取值(0, 1)
+     */
+    public synchronized void enableMemoryPressureClear(double usageRatio) {
+        if (usageRatio <= 0 || usageRatio >= 1) {
+            throw new IllegalArgumentException("usageRatio must between 0 and 1, actual:" + usageRatio);
+        }
+        MemoryPoolMXBean tenuredPool = findTenuredPool();
+        if (tenuredPool == null) {
+            log.warn("cannot find the tenured memory pool, memory pressure clear is disabled");
+            return;
+        }
+        long max = tenuredPool.getUsage().getMax();
+        if (max > 0) {
+            tenuredPool.setCollectionUsageThreshold((long)(max * usageRatio));
+        }
+        if (memoryListener != null) {
+            return;
+        }
+        NotificationListener listener = (notification, handback) -> {
+            if (!MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+                return;
+            }
+            MemoryNotificationInfo info = MemoryNotificationInfo.from((CompositeData)notification.getUserData());
+            //其他组件可能在别的内存池上设置了阈值，只处理老年代的通知
+            if (handback.equals(info.getPoolName())) {
+                log.warn("memory collection threshold exceeded, clear all dfa cache");
+                clearAll();
+            }
+        };
+        ((NotificationEmitter)ManagementFactory.getMemoryMXBean()).addNotificationListener(listener, null,
+            tenuredPool.getName());
+        memoryListener = listener;
+    }
+
+    /**
+     * 老年代的内存池。eden以及survivor只支持GC后的阈值，老年代同时支持使用率的阈值，以此区分
+     *
+     * @return 老年代的内存池，没有时返回null
+     */
+    private static MemoryPoolMXBean findTenuredPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                && pool.isCollectionUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+}
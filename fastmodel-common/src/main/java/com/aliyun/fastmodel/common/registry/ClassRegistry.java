@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.registry;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 按照(key, Class)注册以及查找的注册表，key一般为方言，不区分方言时使用null
+ * <p>
+ * 查找时沿着类的继承链寻找最近的注册项，先依次查找类本身以及各级父类，再按照广度优先的顺序查找接口。
+ * 每个类只在第一次查找时解析一次继承链，结果缓存在{@link ClassValue}中，之后的查找只是一次hash读取，不会创建对象。
+ * 注册会让已经缓存的结果失效，一般只在启动时进行注册。
+ *
+ * @param <K> key的类型，需要实现equals以及hashCode
+ * @param <V> 注册的值
+ * @author panguanjing
+ * @date 2022/7/4
+ */
+public class ClassRegistry<K, V> {
+
+    private volatile Map<Class<?>, Map<K, V>> registered = Collections.emptyMap();
+
+    private volatile Resolver<K, V> resolver = new Resolver<>(registered);
+
+    /**
+     * 注册不区分key的值
+     *
+     * @param type  类型
+     * @param value 值
+     */
+    public void register(Class<?> type, V value) {
+        register(null, type, value);
+    }
+
+    /**
+     * 注册，相同的key以及类型后注册的会覆盖之前的
+     *
+     * @param key   key，可以为null
+     * @param type  类型
+     * @param value 值
+     */
+    public synchronized void register(K key, Class<?> type, V value) {
+        Map<Class<?>, Map<K, V>> copy = new HashMap<>(registered);
+        Map<K, V> values = new HashMap<>(copy.getOrDefault(type, Collections.emptyMap()));
+        values.put(key, value);
+        copy.put(type, values);
+        registered = copy;
+        resolver = new Resolver<>(copy);
+    }
+
+    /**
+     * 获取不区分key的值
+     *
+     * @param type 类型
+     * @return 继承链上最近的注册项，没有时返回null
+     */
+    public V get(Class<?> type) {
+        return get(null, type);
+    }
+
+    /**
+     * 获取值
+     *
+     * @param key  key，可以为null
+     * @param type 类型
+     * @return 继承链上最近的注册项，没有时返回null
+     */
+    public V get(K key, Class<?> type) {
+        return resolver.get(type).get(key);
+    }
+
+    /**
+     * 获取直接注册在该类型上的值，不查找继承链
+     *
+     * @param key  key，可以为null
+     * @param type 类型
+     * @return 注册的值，没有时返回null
+     */
+    public V getExact(K key, Class<?> type) {
+        Map<K, V> values = registered.get(type);
+        return values == null ? null : values.get(key);
+    }
+
+    @Override
+    public String toString() {
+        return registered.toString();
+    }
+
+    private static class Resolver<K, V> extends ClassValue<Map<K, V>> {
+
+        private final Map<Class<?>, Map<K, V>> registered;
+
+        private Resolver(Map<Class<?>, Map<K, V>> registered) {
+            this.registered = registered;
+        }
+
+        @Override
+        protected Map<K, V> computeValue(Class<?> type) {
+            Map<K, V> result = new HashMap<>();
+            for (Class<?> c : linearize(type)) {
+                Map<K, V> values = registered.get(c);
+                if (values == null) {
+                    continue;
+                }
+                for (Map.Entry<K, V> entry : values.entrySet()) {
+                    result.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+            return result.isEmpty() ? Collections.emptyMap() : result;
+        }
+
+        /**
+         * 类本身以及各级父类在前，接口按照广度优先的顺序在后
+         */
+        private static Set<Class<?>> linearize(Class<?> type) {
+            Set<Class<?>> classes = new LinkedHashSet<>();
+            Deque<Class<?>> interfaces = new ArrayDeque<>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                classes.add(c);
+                Collections.addAll(interfaces, c.getInterfaces());
+            }
+            while (!interfaces.isEmpty()) {
+                Class<?> c = interfaces.poll();
+                if (classes.add(c)) {
+                    Collections.addAll(interfaces, c.getInterfaces());
+                }
+            }
+            return classes;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.common.registry;
+
+import java.io.Serializable;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * ClassRegistryTest
+ *
+ * @author panguanjing
+ * @date 2022/7/4
+ */
+public class ClassRegistryTest {
+
+    ClassRegistry<String, String> registry = new ClassRegistry<>();
+
+    @Test
+    public void testHierarchy() {
+        registry.register("hive", Number.class, "number");
+        registry.register("hive", Object.class, "object");
+        registry.register("mysql", Serializable.class, "serializable");
+        assertEquals("number", registry.get("hive", Integer.class));
+        assertEquals("object", registry.get("hive", String.class));
+        assertEquals("serializable", registry.get("mysql", Integer.class));
+        assertNull(registry.get("oracle", Integer.class));
+        assertNull(registry.getExact("hive", Integer.class));
+    }
+
+    @Test
+    public void testClassBeforeInterface() {
+        registry.register(Comparable.class, "comparable");
+        registry.register(Object.class, "object");
+        assertEquals("object", registry.get(Integer.class));
+    }
+
+    @Test
+    public void testRegisterAfterGet() {
+        registry.register("hive", Number.class, "number");
+        assertEquals("number", registry.get("hive", Integer.class));
+        registry.register("hive", Integer.class, "integer");
+        assertEquals("integer", registry.get("hive", Integer.class));
+        assertEquals("number", registry.get("hive", Long.class));
+    }
+}
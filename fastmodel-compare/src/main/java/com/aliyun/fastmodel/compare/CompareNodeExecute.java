@@ -19,7 +19,9 @@ package com.aliyun.fastmodel.compare;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.compare.impl.CompositeCompareNode;
 import com.aliyun.fastmodel.compare.impl.CreateTableCompareNode;
 import com.aliyun.fastmodel.compare.impl.DropTableCompareNode;
@@ -33,6 +35,7 @@ import com.aliyun.fastmodel.core.tree.statement.table.CreateDwsTable;
 import com.aliyun.fastmodel.core.tree.statement.table.CreateFactTable;
 import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
 import com.aliyun.fastmodel.core.tree.statement.table.DropTable;
+import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.ImmutableList;
 import lombok.Getter;
 
@@ -44,8 +47,18 @@ import lombok.Getter;
  */
 public class CompareNodeExecute {
 
+    /**
+     * 按照语句的类型注册比对的节点，子类没有单独注册时使用父类的比对节点
+     */
     @Getter
-    private Map<String, BaseCompareNode> maps = new ConcurrentHashMap<>(10);
+    private final ClassRegistry<Void, BaseCompareNode> registry = new ClassRegistry<>();
+
+    /**
+     * 按照类名索引的比对节点，只为兼容{@link #getMaps()}
+     */
+    private final Map<String, BaseCompareNode> maps = new RegistryMap();
+
+    private final CompositeCompareNode compositeCompareNode;
 
     private CompareNodeExecute() {
         CreateTableCompareNode value = new CreateTableCompareNode();
@@ -57,7 +70,7 @@ public class CompareNodeExecute {
         maps.put(CreateAdsTable.class.getName(), value);
         DropTableCompareNode dropTableCompareNode = new DropTableCompareNode();
         maps.put(DropTable.class.getName(), dropTableCompareNode);
-        CompositeCompareNode compositeCompareNode = new CompositeCompareNode(maps);
+        compositeCompareNode = new CompositeCompareNode(registry);
         maps.put(CompositeStatement.class.getName(), compositeCompareNode);
     }
 
@@ -67,6 +80,15 @@ public class CompareNodeExecute {
         return INSTANCE;
     }
 
+    /**
+     * 设置复合语句比对时使用的线程池，每对语句的比对作为一个任务并行执行，结果的顺序与串行一致
+     *
+     * @param executor 线程池，为空时在调用线程中串行执行
+     */
+    public void setExecutor(Executor executor) {
+        compositeCompareNode.setExecutor(executor);
+    }
+
     /**
      * 比对
      *
@@ -91,17 +113,28 @@ public class CompareNodeExecute {
         }
         //只要其中有一个是复合statement，那么就按照compositeStatement的方式进行处理
         if (beforeClazz == CompositeStatement.class || afterClazz == CompositeStatement.class) {
-            return maps.get(CompositeStatement.class.getName()).compareNode(before, after, strategy);
+            return compositeCompareNode.compareNode(before, after, strategy);
         }
         //取其中一个clazz对象内容
         Class clazz = beforeClazz == null ? afterClazz : beforeClazz;
-        BaseCompareNode baseCompareNode = maps.get(clazz.getName());
+        BaseCompareNode baseCompareNode = registry.get(clazz);
         if (baseCompareNode == null) {
             throw new UnsupportedOperationException("Unsupported compare Node with class:" + clazz);
         }
         return baseCompareNode.compareNode(before, after, strategy);
     }
 
+    /**
+     * 按照类名注册的比对节点，put时同时注册到{@link #getRegistry()}，删除不会取消注册
+     *
+     * @return 类名到比对节点的map
+     * @deprecated 使用{@link #getRegistry()}按照类型注册以及查找，后续版本删除
+     */
+    @Deprecated
+    public Map<String, BaseCompareNode> getMaps() {
+        return maps;
+    }
+
     /**
      * compare
      *
@@ -113,5 +146,29 @@ public class CompareNodeExecute {
     public List<BaseStatement> compare(BaseStatement before, BaseStatement after, CompareStrategy strategy) {
         return compareNode(before, after, strategy);
     }
-}
 
+    private class RegistryMap extends ForwardingMap<String, BaseCompareNode> {
+
+        private final Map<String, BaseCompareNode> delegate = new ConcurrentHashMap<>(10);
+
+        @Override
+        protected Map<String, BaseCompareNode> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public BaseCompareNode put(String key, BaseCompareNode value) {
+            try {
+                registry.register(Class.forName(key, false, CompareNodeExecute.class.getClassLoader()), value);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalArgumentException("cannot find the statement class:" + key, e);
+            }
+            return delegate.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends BaseCompareNode> map) {
+            standardPutAll(map);
+        }
+    }
+}
@@ -16,15 +16,19 @@
 
 package com.aliyun.fastmodel.compare.impl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.compare.BaseCompareNode;
 import com.aliyun.fastmodel.compare.ComparePair;
 import com.aliyun.fastmodel.compare.CompareStrategy;
@@ -33,8 +37,9 @@ import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.core.tree.QualifiedName;
 import com.aliyun.fastmodel.core.tree.statement.BaseCreate;
 import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
-import com.aliyun.fastmodel.core.tree.statement.table.SetTableComment;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import lombok.Setter;
 
 /**
  * 复合语句的对比操作
@@ -44,10 +49,30 @@ import com.google.common.collect.Lists;
  */
 public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
 
-    private final Map<String, BaseCompareNode> singleStatementCompare;
+    private final Function<Class<?>, BaseCompareNode> singleStatementCompare;
+
+    /**
+     * 执行单个语句比对的线程池，为空时在调用线程中执行
+     */
+    @Setter
+    private volatile Executor executor;
 
     public CompositeCompareNode(Map<String, BaseCompareNode> singleStatementCompare) {
-        this.singleStatementCompare = singleStatementCompare;
+        this(singleStatementCompare, null);
+    }
+
+    public CompositeCompareNode(Map<String, BaseCompareNode> singleStatementCompare, Executor executor) {
+        this.singleStatementCompare = clazz -> singleStatementCompare.get(clazz.getName());
+        this.executor = executor;
+    }
+
+    /**
+     * 从注册表中查找单个语句的比对节点，子类没有单独注册时使用父类的比对节点
+     *
+     * @param registry 比对节点的注册表
+     */
+    public CompositeCompareNode(ClassRegistry<?, BaseCompareNode> registry) {
+        this.singleStatementCompare = registry::get;
     }
 
     @Override
@@ -71,6 +96,11 @@ public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
         return new ComparePair(left, right);
     }
 
+    /**
+     * 1. 按照表名进行关联，语句数量多的一方按照另一方的顺序进行匹配，相同表名的语句按照出现的顺序一一对应
+     * 2. 两边都没有匹配上的语句按照位置配对，由单个语句的比对处理改名，多余的语句作为删除或者新增
+     * 3. 配对后的比对可以在{@link #executor}中并行执行，结果按照配对的顺序合并
+     */
     @Override
     public List<BaseStatement> compareResult(CompositeStatement before,
                                              CompositeStatement after,
@@ -80,83 +110,92 @@ public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
         if (result != null) {
             return result;
         }
-        result = new ArrayList<>();
-        //将传入的statement都改为可以排序的列表
-        List<BaseStatement> beforeList = Lists.newArrayList(before.getStatements());
-        List<BaseStatement> afterList = Lists.newArrayList(after.getStatements());
-        List<QualifiedName> beforeQualifiedName = getQualifiedNames(beforeList);
-        List<QualifiedName> afterQualifiedName = getQualifiedNames(afterList);
-        int beforeSize = beforeList.size();
-        int afterSize = afterList.size();
-        int size = beforeSize > afterSize ? afterSize : beforeSize;
-
-        //如果before集合大小，大于after的集合大小，那么将before集合按照after的集合的名字进行排序
-        if (beforeSize >= afterSize) {
-            //排序，将相同的名字的操作进行处理
-            sort(beforeList, afterQualifiedName);
-            beforeQualifiedName = getQualifiedNames(beforeList);
-            sort(afterList, beforeQualifiedName);
-        } else {
-            //排序，将相同的名字的操作进行处理
-            //如果before集合大小，小于after的集合大小，那么将after集合按照before的集合的名字进行排序
-            sort(afterList, beforeQualifiedName);
-            afterQualifiedName = getQualifiedNames(afterList);
-            sort(beforeList, afterQualifiedName);
+        List<BaseStatement> beforeList = before.getStatements();
+        List<BaseStatement> afterList = after.getStatements();
+        boolean driveByAfter = beforeList.size() >= afterList.size();
+        List<BaseStatement> driving = driveByAfter ? afterList : beforeList;
+        List<BaseStatement> other = driveByAfter ? beforeList : afterList;
+
+        Map<QualifiedName, Deque<Integer>> otherIndex = index(other);
+        boolean[] matched = new boolean[other.size()];
+        List<StatementPair> pairs = new ArrayList<>(driving.size());
+        List<BaseStatement> drivingUnmatched = new ArrayList<>();
+        for (BaseStatement statement : driving) {
+            Deque<Integer> positions = otherIndex.get(getKey(statement));
+            Integer position = positions == null ? null : positions.poll();
+            if (position == null) {
+                drivingUnmatched.add(statement);
+                continue;
+            }
+            matched[position] = true;
+            BaseStatement otherStatement = other.get(position);
+            pairs.add(driveByAfter ? new StatementPair(otherStatement, statement)
+                : new StatementPair(statement, otherStatement));
         }
-        for (int i = 0; i < size; i++) {
-            BaseStatement baseStatement = beforeList.get(i);
-            BaseStatement afterStatement = afterList.get(i);
-            BaseCompareNode baseCompareNode = singleStatementCompare.get(baseStatement.getClass().getName());
-            if (baseCompareNode != null) {
-                result.addAll(baseCompareNode.compareResult(baseStatement, afterStatement, strategy));
+        List<BaseStatement> otherUnmatched = new ArrayList<>();
+        for (int i = 0; i < other.size(); i++) {
+            if (!matched[i]) {
+                otherUnmatched.add(other.get(i));
             }
         }
-        if (size < beforeSize) {
-            for (int start = size; start < beforeSize; start++) {
-                BaseStatement baseStatement = beforeList.get(start);
-                BaseCompareNode baseCompareNode = singleStatementCompare.get(baseStatement.getClass().getName());
-                if(baseCompareNode != null) {
-                	result.addAll(baseCompareNode.compareResult(baseStatement, null, strategy));
-                }
+        List<BaseStatement> beforeUnmatched = driveByAfter ? otherUnmatched : drivingUnmatched;
+        List<BaseStatement> afterUnmatched = driveByAfter ? drivingUnmatched : otherUnmatched;
+        int unmatchedSize = Math.max(beforeUnmatched.size(), afterUnmatched.size());
+        for (int i = 0; i < unmatchedSize; i++) {
+            pairs.add(new StatementPair(
+                i < beforeUnmatched.size() ? beforeUnmatched.get(i) : null,
+                i < afterUnmatched.size() ? afterUnmatched.get(i) : null));
+        }
+        return compare(pairs, strategy);
+    }
+
+    private List<BaseStatement> compare(List<StatementPair> pairs, CompareStrategy strategy) {
+        List<BaseStatement> result = new ArrayList<>();
+        Executor current = executor;
+        if (current == null || pairs.size() <= 1) {
+            for (StatementPair pair : pairs) {
+                result.addAll(pair.compare(strategy));
             }
-        } else if (size < afterSize) {
-            for (int start = size; start < afterSize; start++) {
-                BaseStatement baseStatement = afterList.get(start);
-                BaseCompareNode baseCompareNode = singleStatementCompare.get(baseStatement.getClass().getName());
-                result.addAll(baseCompareNode.compareResult(null, baseStatement, strategy));
+            return result;
+        }
+        List<CompletableFuture<List<BaseStatement>>> futures = new ArrayList<>(pairs.size());
+        for (StatementPair pair : pairs) {
+            futures.add(CompletableFuture.supplyAsync(() -> pair.compare(strategy), current));
+        }
+        for (CompletableFuture<List<BaseStatement>> future : futures) {
+            try {
+                result.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException)e.getCause();
+                }
+                throw e;
             }
         }
         return result;
     }
 
-    private List<QualifiedName> getQualifiedNames(List<BaseStatement> beforeList) {
-        return beforeList.stream()
-                .filter(statement -> statement instanceof BaseCreate).map(
-                        baseStatement -> {
-                            BaseCreate b = (BaseCreate) baseStatement;
-                            return b.getQualifiedName();
-                        }
-                )
-                .collect(Collectors.toList());
+    /**
+     * 建立表名与语句位置的索引，只有创建语句参与关联
+     * {@link QualifiedName}忽略大小写并且缓存了hashCode，可以直接作为key
+     */
+    private Map<QualifiedName, Deque<Integer>> index(List<BaseStatement> statements) {
+        Map<QualifiedName, Deque<Integer>> index = Maps.newHashMapWithExpectedSize(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            QualifiedName key = getKey(statements.get(i));
+            if (key == null) {
+                continue;
+            }
+            index.computeIfAbsent(key, k -> new ArrayDeque<>(1)).add(i);
+        }
+        return index;
     }
 
-    private void sort(List<BaseStatement> beforeList, List<QualifiedName> afterQualifiedName) {
-        Collections.sort(beforeList,
-                Comparator.comparing(item -> {
-                    QualifiedName beforeQualifiedName = null;
-                    if (item instanceof BaseCreate) {
-                        BaseCreate baseCreate = (BaseCreate) item;
-                        beforeQualifiedName = baseCreate.getQualifiedName();
-                    } else if (item instanceof SetTableComment) {
-                        SetTableComment setTableComment = (SetTableComment) item;
-                        beforeQualifiedName = setTableComment.getQualifiedName();
-                    }
-                    int index = afterQualifiedName.indexOf(beforeQualifiedName);
-                    if (index == -1) {
-                        return Integer.MAX_VALUE;
-                    }
-                    return index;
-                }));
+    private QualifiedName getKey(BaseStatement statement) {
+        if (!(statement instanceof BaseCreate)) {
+            return null;
+        }
+        return ((BaseCreate)statement).getQualifiedName();
     }
 
     private List<BaseStatement> getBaseStatementsIfOneNull(CompositeStatement before, CompositeStatement after,
@@ -165,7 +204,7 @@ public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
             List<BaseStatement> result = new ArrayList<>();
             List<BaseStatement> statements = after.getStatements();
             for (BaseStatement statement : statements) {
-                BaseCompareNode baseCompareNode = singleStatementCompare.get(statement.getClass().getName());
+                BaseCompareNode baseCompareNode = singleStatementCompare.apply(statement.getClass());
                 List<BaseStatement> list = baseCompareNode.compareResult(before, statement, strategy);
                 result.addAll(list);
             }
@@ -175,7 +214,7 @@ public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
             List<BaseStatement> result = new ArrayList<>();
             List<BaseStatement> statements = before.getStatements();
             for (BaseStatement statement : statements) {
-                BaseCompareNode baseCompareNode = singleStatementCompare.get(statement.getClass().getName());
+                BaseCompareNode baseCompareNode = singleStatementCompare.apply(statement.getClass());
                 List<BaseStatement> list = baseCompareNode.compareResult(statement, after, strategy);
                 result.addAll(list);
             }
@@ -183,4 +222,27 @@ public class CompositeCompareNode extends BaseCompareNode<CompositeStatement> {
         }
         return null;
     }
+
+    /**
+     * 配对的语句，其中一方可以为空
+     */
+    private class StatementPair {
+        private final BaseStatement before;
+
+        private final BaseStatement after;
+
+        private StatementPair(BaseStatement before, BaseStatement after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        private List<BaseStatement> compare(CompareStrategy strategy) {
+            BaseStatement statement = before != null ? before : after;
+            BaseCompareNode baseCompareNode = singleStatementCompare.apply(statement.getClass());
+            if (baseCompareNode == null) {
+                return ImmutableList.of();
+            }
+            return baseCompareNode.compareResult(before, after, strategy);
+        }
+    }
 }
@@ -17,15 +17,14 @@
 package com.aliyun.fastmodel.compare.table;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import com.aliyun.fastmodel.compare.CompareUtil;
+import com.aliyun.fastmodel.compare.table.column.ColumnIndex;
 import com.aliyun.fastmodel.compare.table.column.OrderColumnManager;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.core.tree.Comment;
@@ -43,7 +42,6 @@ import com.aliyun.fastmodel.core.tree.statement.table.DropCol;
 import com.aliyun.fastmodel.core.tree.statement.table.SetColumnOrder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
-import com.google.common.collect.Lists;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -55,6 +53,19 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ColumnCompare implements TableElementCompare {
 
+    /**
+     * 是否只生成最少的列移动语句，默认对每个位置发生变化的列都生成语句
+     */
+    private final boolean minimalColumnOrder;
+
+    public ColumnCompare() {
+        this(false);
+    }
+
+    public ColumnCompare(boolean minimalColumnOrder) {
+        this.minimalColumnOrder = minimalColumnOrder;
+    }
+
     @Override
     public List<BaseStatement> compareTableElement(CreateTable before, CreateTable after) {
         List<ColumnDefinition> beforeColumnDefines = before.getColumnDefines();
@@ -91,6 +102,10 @@ public class ColumnCompare implements TableElementCompare {
         //顺序的调整
         OrderColumnManager beforeOrderColumnManager = new OrderColumnManager(qualifiedName, beforeColumnDefines);
         OrderColumnManager afterOrderColumnManager = new OrderColumnManager(qualifiedName, afterColumnDefines);
+        if (minimalColumnOrder) {
+            builder.addAll(beforeOrderColumnManager.minimalCompare(afterOrderColumnManager));
+            return builder.build();
+        }
         for (ColumnDefinition c : beforeColumnDefines) {
             SetColumnOrder compare = beforeOrderColumnManager.compare(c.getColName(), afterOrderColumnManager);
             if (compare == null) {
@@ -109,29 +124,27 @@ public class ColumnCompare implements TableElementCompare {
                                                           List<BaseStatement>> addCols) {
         Builder<BaseStatement> builder = ImmutableList.builder();
         //如果两边的都有的话内容
-        List<ColumnDefinition> afterCopy = Lists.newArrayList(afterColumnDefines);
-        Map<String, ColumnDefinition> afterMapColumn = uuidMap(afterColumnDefines);
-        Map<String, ColumnDefinition> afterColMap = colMap(afterCopy);
+        ColumnIndex afterIndex = new ColumnIndex(afterColumnDefines);
         for (ColumnDefinition c : beforeColumnDefines) {
-            if (afterColumnDefines.contains(c)) {
-                afterCopy.remove(c);
+            if (afterIndex.contains(c)) {
+                afterIndex.remove(c);
             } else {
                 Optional<String> uuid = uuid(c);
-                if (uuid.isPresent() && afterMapColumn.get(uuid.get()) != null) {
-                    ColumnDefinition afterColumnDefine = afterMapColumn.get(uuid.get());
+                if (uuid.isPresent() && afterIndex.getByUuid(uuid.get()) != null) {
+                    ColumnDefinition afterColumnDefine = afterIndex.getByUuid(uuid.get());
                     ChangeCol statement = compare(qualifiedName, c, afterColumnDefine);
                     if (statement != null) {
                         builder.add(statement);
                     }
-                    afterCopy.remove(afterColumnDefine);
+                    afterIndex.remove(afterColumnDefine);
                 } else {
-                    ColumnDefinition columnDefinition = afterColMap.get(c.getColName().getValue().toLowerCase());
+                    ColumnDefinition columnDefinition = afterIndex.getByName(c);
                     if (columnDefinition != null) {
                         ChangeCol element = compare(qualifiedName, c, columnDefinition);
                         if (element != null) {
                             builder.add(element);
                         }
-                        afterCopy.remove(columnDefinition);
+                        afterIndex.remove(columnDefinition);
                     } else {
                         BaseStatement apply = addDrop.apply(qualifiedName, c);
                         builder.add(apply);
@@ -139,6 +152,7 @@ public class ColumnCompare implements TableElementCompare {
                 }
             }
         }
+        List<ColumnDefinition> afterCopy = afterIndex.getRemaining();
         if (!afterCopy.isEmpty()) {
             List<BaseStatement> apply = addCols.apply(qualifiedName, afterCopy);
             builder.addAll(apply);
@@ -146,44 +160,6 @@ public class ColumnCompare implements TableElementCompare {
         return builder;
     }
 
-    /**
-     * 根据列进行转换
-     *
-     * @param afterCopy
-     * @return {@code }
-     */
-    private Map<String, ColumnDefinition> colMap(List<ColumnDefinition> afterCopy) {
-        Map<String, ColumnDefinition> map = new HashMap<>(afterCopy.size());
-        for (ColumnDefinition c : afterCopy) {
-            map.put(c.getColName().getValue().toLowerCase(), c);
-        }
-        return map;
-    }
-
-    /**
-     * 将column转换，uuid的map转换
-     *
-     * @param beforeColumnDefines
-     * @return
-     */
-    private Map<String, ColumnDefinition> uuidMap(List<ColumnDefinition> beforeColumnDefines) {
-        Map<String, ColumnDefinition> columnDefinitionMap = new HashMap<>(20);
-        for (ColumnDefinition c : beforeColumnDefines) {
-            List<Property> columnProperties = c.getColumnProperties();
-            if (columnProperties == null || columnProperties.isEmpty()) {
-                continue;
-            }
-            Optional<Property> value = columnProperties.stream().filter(x -> x.getName().equalsIgnoreCase(
-                    ColumnPropertyDefaultKey.uuid
-                        .name()))
-                .findFirst();
-            value.ifPresent(x -> {
-                columnDefinitionMap.put(x.getValue(), c);
-            });
-        }
-        return columnDefinitionMap;
-    }
-
     /**
      * 统一使用changeCol语句进行处理
      *
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.aliyun.fastmodel.compare.table.column;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.aliyun.fastmodel.core.tree.Property;
+import com.aliyun.fastmodel.core.tree.statement.constants.ColumnPropertyDefaultKey;
+import com.aliyun.fastmodel.core.tree.statement.table.ColumnDefinition;
+import com.google.common.collect.Maps;
+
+/**
+ * 比对时对目标列的索引
+ * <p>
+ * 按照小写的列名分桶，相等的列的列名一定是忽略大小写相等的，因此判断包含以及删除时只需要比较桶内的列，
+ * 正常情况下每个桶只有一个列，整体的比对是线性的。
+ * 删除只做标记，剩余的列保持原有的顺序。
+ *
+ * @author panguanjing
+ * @date 2022/7/4
+ */
+public class ColumnIndex {
+
+    private final List<ColumnDefinition> columns;
+
+    /**
+     * 小写列名与列位置的关系，位置按照升序排列
+     */
+    private final Map<String, List<Integer>> nameIndex;
+
+    /**
+     * 列的uuid与列的关系，uuid重复时保留最后一个
+     */
+    private final Map<String, ColumnDefinition> uuidIndex;
+
+    private final boolean[] removed;
+
+    private int removedCount;
+
+    public ColumnIndex(List<ColumnDefinition> columns) {
+        this.columns = columns;
+        nameIndex = Maps.newHashMapWithExpectedSize(columns.size());
+        uuidIndex = Maps.newHashMapWithExpectedSize(columns.size());
+        removed = new boolean[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnDefinition columnDefinition = columns.get(i);
+            nameIndex.computeIfAbsent(lowerName(columnDefinition), k -> new ArrayList<>(1)).add(i);
+            List<Property> columnProperties = columnDefinition.getColumnProperties();
+            if (columnProperties == null || columnProperties.isEmpty()) {
+                continue;
+            }
+            columnProperties.stream()
+                .filter(x -> x.getName().equalsIgnoreCase(ColumnPropertyDefaultKey.uuid.name()))
+                .findFirst()
+                .ifPresent(x -> uuidIndex.put(x.getValue(), columnDefinition));
+        }
+    }
+
+    /**
+     * 是否包含相等的列，已经删除的列同样参与判断
+     *
+     * @param columnDefinition 列
+     * @return true 如果包含
+     */
+    public boolean contains(ColumnDefinition columnDefinition) {
+        List<Integer> positions = nameIndex.get(lowerName(columnDefinition));
+        if (positions == null) {
+            return false;
+        }
+        for (Integer position : positions) {
+            if (columns.get(position).equals(columnDefinition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 根据uuid获取列
+     *
+     * @param uuid uuid
+     * @return 列，不存在返回null
+     */
+    public ColumnDefinition getByUuid(String uuid) {
+        return uuidIndex.get(uuid);
+    }
+
+    /**
+     * 根据列名获取列，忽略大小写，重名时返回最后一个
+     *
+     * @param columnDefinition 列
+     * @return 列，不存在返回null
+     */
+    public ColumnDefinition getByName(ColumnDefinition columnDefinition) {
+        List<Integer> positions = nameIndex.get(lowerName(columnDefinition));
+        if (positions == null) {
+            return null;
+        }
+        return columns.get(positions.get(positions.size() - 1));
+    }
+
+    /**
+     * 删除第一个未被删除的相等的列
+     *
+     * @param columnDefinition 列
+     */
+    public void remove(ColumnDefinition columnDefinition) {
+        List<Integer> positions = nameIndex.get(lowerName(columnDefinition));
+        if (positions == null) {
+            return;
+        }
+        for (Integer position : positions) {
+            if (!removed[position] && columns.get(position).equals(columnDefinition)) {
+                removed[position] = true;
+                removedCount++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 获取没有被删除的列
+     *
+     * @return 剩余的列，保持原有顺序
+     */
+    public List<ColumnDefinition> getRemaining() {
+        List<ColumnDefinition> remaining = new ArrayList<>(columns.size() - removedCount);
+        for (int i = 0; i < columns.size(); i++) {
+            if (!removed[i]) {
+                remaining.add(columns.get(i));
+            }
+        }
+        return remaining;
+    }
+
+    private static String lowerName(ColumnDefinition columnDefinition) {
+        return columnDefinition.getColName().getLowerCaseValue();
+    }
+}
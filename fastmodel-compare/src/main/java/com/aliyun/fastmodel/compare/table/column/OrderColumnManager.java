@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.compare.table.column;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -150,4 +151,83 @@ public class OrderColumnManager {
         }
     }
 
+    /**
+     * 计算最少的列移动
+     * <p>
+     * 两边都存在的列按照目标的顺序排列，当前位置构成最长递增子序列的列不需要移动，
+     * 其余的列按照目标的顺序依次移动到目标中前一列的后面，目标中的第一列移动到第一个。
+     *
+     * @param afterColumnManager 目标的列
+     * @return 列移动的语句
+     */
+    public List<SetColumnOrder> minimalCompare(OrderColumnManager afterColumnManager) {
+        List<ColumnDefinition> afterList = afterColumnManager.list;
+        int[] afterPositions = new int[afterList.size()];
+        int[] positions = new int[afterList.size()];
+        int size = 0;
+        for (int i = 0; i < afterList.size(); i++) {
+            OrderColumn orderColumn = maps.get(afterList.get(i).getColName());
+            if (orderColumn == null) {
+                continue;
+            }
+            afterPositions[size] = i;
+            positions[size] = orderColumn.getPosition();
+            size++;
+        }
+        boolean[] stable = longestIncreasing(positions, size);
+        List<SetColumnOrder> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (stable[i]) {
+                continue;
+            }
+            int afterPosition = afterPositions[i];
+            ColumnDefinition afterColumn = afterList.get(afterPosition);
+            Identifier oldColName = list.get(positions[i]).getColName();
+            if (afterPosition == 0) {
+                result.add(new SetColumnOrder(tableName, oldColName, afterColumn.getColName(),
+                    afterColumn.getDataType(), null, true));
+            } else {
+                result.add(new SetColumnOrder(tableName, oldColName, afterColumn.getColName(),
+                    afterColumn.getDataType(), afterList.get(afterPosition - 1).getColName(), false));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 严格递增的最长子序列，O(nlogn)
+     *
+     * @param values 序列
+     * @param size   序列的长度
+     * @return 是否属于子序列
+     */
+    private static boolean[] longestIncreasing(int[] values, int size) {
+        //tails[k]为长度为k+1的子序列的最小结尾的下标
+        int[] tails = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] result = new boolean[size];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
 }
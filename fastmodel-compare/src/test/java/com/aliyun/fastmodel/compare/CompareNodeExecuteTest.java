@@ -33,6 +33,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 /**
  * Desc:
@@ -59,6 +62,21 @@ public class CompareNodeExecuteTest {
         assertEquals(getExpected(statement), "ALTER TABLE a.b RENAME TO a.c");
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testDeprecatedMaps() {
+        BaseCompareNode node = compareNodeExecute.getRegistry().get(CreateDimTable.class);
+        assertSame(node, compareNodeExecute.getMaps().get(CreateDimTable.class.getName()));
+        compareNodeExecute.getMaps().put(CreateDimTable.class.getName(), node);
+        assertSame(node, compareNodeExecute.getRegistry().get(CreateDimTable.class));
+        try {
+            compareNodeExecute.getMaps().put("com.aliyun.NotExist", node);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertFalse(compareNodeExecute.getMaps().containsKey("com.aliyun.NotExist"));
+        }
+    }
+
     @Test
     public void compareDimFact() {
         CreateDimTable createDimTable = CreateDimTable.builder().tableName(
@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import com.aliyun.fastmodel.compare.BaseCompareNode;
@@ -123,6 +125,41 @@ public class CompositeCompareNodeTest {
         assertEquals("ALTER TABLE a RENAME TO x", collect);
     }
 
+    @Test
+    public void testCompareResultWithExecutor() {
+        List<BaseStatement> before = Lists.newArrayList();
+        List<BaseStatement> after = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            before.add(CreateTable.builder()
+                .tableName(QualifiedName.of("t" + i))
+                .detailType(TableDetailType.NORMAL_DIM)
+                .build());
+            after.add(CreateTable.builder()
+                .tableName(QualifiedName.of("T" + (99 - i)))
+                .columns(ImmutableList.of(ColumnDefinition.builder().colName(new Identifier("c" + i)).build()))
+                .detailType(TableDetailType.NORMAL_DIM)
+                .build());
+        }
+        after.add(CreateTable.builder()
+            .tableName(QualifiedName.of("x"))
+            .detailType(TableDetailType.NORMAL_DIM)
+            .build());
+        List<BaseStatement> expected = compositeCompareNode.compareResult(new CompositeStatement(before),
+            new CompositeStatement(after), CompareStrategy.INCREMENTAL);
+        assertEquals(101, expected.size());
+        assertEquals("CREATE DIM TABLE x", expected.get(100).toString().trim());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            compositeCompareNode.setExecutor(executorService);
+            List<BaseStatement> actual = compositeCompareNode.compareResult(new CompositeStatement(before),
+                new CompositeStatement(after), CompareStrategy.INCREMENTAL);
+            assertEquals(expected, actual);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testPrepareCompare() {
         CreateTable c = CreateTable.builder()
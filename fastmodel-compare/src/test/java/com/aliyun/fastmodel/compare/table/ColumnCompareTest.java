@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.compare.table;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.aliyun.fastmodel.core.tree.BaseStatement;
@@ -179,4 +180,70 @@ public class ColumnCompareTest {
         assertEquals(join, "ALTER TABLE dim_shop DROP COLUMN c1");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void compareOrderMinimal() {
+        CreateTable before = CreateTable.builder()
+            .columns(columns("a", "b", "c", "d"))
+            .tableName(QualifiedName.of("dim_shop")).build();
+        CreateTable after = CreateTable.builder()
+            .columns(columns("a", "c", "d"))
+            .tableName(QualifiedName.of("dim_shop")).build();
+
+        List<BaseStatement> baseStatementList = columnCompare.compareTableElement(before, after);
+        assertEquals("ALTER TABLE dim_shop DROP COLUMN b\n"
+            + "ALTER TABLE dim_shop CHANGE COLUMN c c BIGINT AFTER a\n"
+            + "ALTER TABLE dim_shop CHANGE COLUMN d d BIGINT AFTER c", Joiner.on("\n").join(baseStatementList));
+
+        baseStatementList = new ColumnCompare(true).compareTableElement(before, after);
+        assertEquals("ALTER TABLE dim_shop DROP COLUMN b", Joiner.on("\n").join(baseStatementList));
+    }
+
+    @Test
+    public void compareOrderMinimalMove() {
+        CreateTable before = CreateTable.builder()
+            .columns(columns("a", "b", "c", "d", "e"))
+            .tableName(QualifiedName.of("dim_shop")).build();
+        CreateTable after = CreateTable.builder()
+            .columns(columns("e", "a", "b", "d", "c"))
+            .tableName(QualifiedName.of("dim_shop")).build();
+
+        List<BaseStatement> baseStatementList = new ColumnCompare(true).compareTableElement(before, after);
+        assertEquals("ALTER TABLE dim_shop CHANGE COLUMN e e BIGINT FIRST\n"
+            + "ALTER TABLE dim_shop CHANGE COLUMN d d BIGINT AFTER b", Joiner.on("\n").join(baseStatementList));
+    }
+
+    @Test
+    public void compareWideTable() {
+        List<ColumnDefinition> beforeColumns = new ArrayList<>();
+        List<ColumnDefinition> afterColumns = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            ColumnDefinition columnDefinition = ColumnDefinition.builder()
+                .colName(new Identifier("c" + i))
+                .dataType(DataTypeUtil.simpleType(DataTypeEnums.BIGINT))
+                .build();
+            beforeColumns.add(columnDefinition);
+            afterColumns.add(columnDefinition);
+        }
+        afterColumns.add(0, afterColumns.remove(1999));
+        CreateTable before = CreateTable.builder().columns(beforeColumns)
+            .tableName(QualifiedName.of("dim_shop")).build();
+        CreateTable after = CreateTable.builder().columns(afterColumns)
+            .tableName(QualifiedName.of("dim_shop")).build();
+
+        assertEquals(1999, columnCompare.compareTableElement(before, after).size());
+        List<BaseStatement> baseStatementList = new ColumnCompare(true).compareTableElement(before, after);
+        assertEquals("[ALTER TABLE dim_shop CHANGE COLUMN c1999 c1999 BIGINT FIRST]", baseStatementList.toString());
+    }
+
+    private List<ColumnDefinition> columns(String... names) {
+        List<ColumnDefinition> list = new ArrayList<>();
+        for (String name : names) {
+            list.add(ColumnDefinition.builder()
+                .colName(new Identifier(name))
+                .dataType(DataTypeUtil.simpleType(DataTypeEnums.BIGINT))
+                .build());
+        }
+        return list;
+    }
+}
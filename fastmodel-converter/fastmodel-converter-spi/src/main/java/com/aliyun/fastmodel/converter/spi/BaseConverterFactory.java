@@ -18,10 +18,9 @@ package com.aliyun.fastmodel.converter.spi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.converter.util.GenericTypeUtil;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.google.common.collect.Lists;
@@ -107,7 +106,7 @@ public abstract class BaseConverterFactory {
      */
     static class ConverterFactoryImpl extends BaseConverterFactory {
 
-        protected Map<String, StatementConverter> maps = new ConcurrentHashMap<>();
+        protected ClassRegistry<Void, StatementConverter> registry = new ClassRegistry<>();
 
         public ConverterFactoryImpl() {
             init();
@@ -117,19 +116,13 @@ public abstract class BaseConverterFactory {
             ServiceLoader<StatementConverter> load = ServiceLoader.load(StatementConverter.class);
             for (StatementConverter transformer : load) {
                 Class superClassGenericType = GenericTypeUtil.getSuperClassGenericType(transformer.getClass(), 0);
-                maps.put(superClassGenericType.getName(), transformer);
+                registry.register(superClassGenericType, transformer);
             }
         }
 
         @Override
         public StatementConverter create(BaseStatement baseStatement) {
-            Class<? extends BaseStatement> aClass = baseStatement.getClass();
-            StatementConverter statementConverter = maps.get(aClass.getName());
-            if (statementConverter == null) {
-                return maps.get(aClass.getSuperclass().getName());
-            } else {
-                return statementConverter;
-            }
+            return registry.get(baseStatement.getClass());
         }
     }
 }
@@ -16,6 +16,10 @@
 
 package com.aliyun.fastmodel.core.formatter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 import com.aliyun.fastmodel.core.tree.Node;
 
 /**
@@ -35,4 +39,27 @@ public class FastModelFormatter {
         return fastModelVisitor.getBuilder().toString();
     }
 
+    /**
+     * 将格式化的结果写到writer中，组合语句每格式化完一个语句就写出，
+     * 适用于导出大量语句到文件或者网络，不会在内存中保留全部的文本。
+     * 输出与{@link #formatNode(Node)}一致，writer由调用方关闭
+     *
+     * @param root   节点
+     * @param writer 输出
+     * @throws IOException 写出失败
+     */
+    public static void formatTo(Node root, Writer writer) throws IOException {
+        if (root == null) {
+            throw new IllegalArgumentException("root can't be null");
+        }
+        FastModelVisitor fastModelVisitor = new FastModelVisitor();
+        fastModelVisitor.setOutput(writer);
+        try {
+            fastModelVisitor.process(root, 0);
+            fastModelVisitor.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
 }
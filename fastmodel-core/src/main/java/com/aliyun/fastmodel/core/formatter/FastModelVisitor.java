@@ -16,6 +16,8 @@
 
 package com.aliyun.fastmodel.core.formatter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -155,6 +157,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -182,9 +185,25 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
     public static final String NEW_LINE = "\n";
     public static final String SUFFIX_NEW_LINE = ";\n";
 
+    private static final char NEW_LINE_CHAR = '\n';
+
+    /**
+     * 格式化的结果，设置了{@link #output}时只保留还没有写出的内容
+     */
     @Getter
     protected StringBuilder builder = new StringBuilder();
 
+    /**
+     * 格式化的输出，不为空时组合语句每格式化完一个语句就写出，内存只与最大的语句相关
+     */
+    @Setter
+    private Appendable output;
+
+    /**
+     * 最后写出的字符，用于builder为空时判断是否以换行结尾
+     */
+    private char lastFlushed;
+
     @Override
     public Boolean visitNode(Node node, Integer indent) {
         throw new UnsupportedOperationException("not yet implemented: " + node.getClass());
@@ -203,13 +222,10 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
                 continue;
             }
             Boolean process = process(node, context);
-            String str = builder.toString();
+            boolean endWithComma = isEndWith(builder, SUFFIX.charAt(0));
             if (BooleanUtils.isNotTrue(process)) {
-                String[] split = StringUtils.split(str, NEW_LINE);
-                String content = split[split.length - 1];
-                builder.insert(str.length() - content.length(), "-- ");
+                commentLastLine();
             }
-            boolean endWithComma = str.endsWith(SUFFIX);
             if (i < size - 1) {
                 if (endWithComma) {
                     builder.append(NEW_LINE);
@@ -221,11 +237,41 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
                     builder.append(SUFFIX);
                 }
             }
-
+            flush();
         }
         return true;
     }
 
+    /**
+     * 注释掉最后一个非空行，不支持的语句会被注释
+     */
+    private void commentLastLine() {
+        int end = builder.length();
+        while (end > 0 && builder.charAt(end - 1) == NEW_LINE_CHAR) {
+            end--;
+        }
+        int start = builder.lastIndexOf(NEW_LINE, end - 1) + 1;
+        builder.insert(builder.length() - (end - start), "-- ");
+    }
+
+    /**
+     * 将builder中的内容写到{@link #output}，没有设置output时不处理
+     *
+     * @throws UncheckedIOException 写出失败
+     */
+    public void flush() {
+        if (output == null || builder.length() == 0) {
+            return;
+        }
+        try {
+            output.append(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lastFlushed = builder.charAt(builder.length() - 1);
+        builder.setLength(0);
+    }
+
     @Override
     public Boolean visitCreateAtomicIndicator(CreateAtomicIndicator createIndicator, Integer context) {
         builder.append("CREATE ATOMIC INDICATOR ");
@@ -448,15 +494,15 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
                 builder.append(newLine(")*/"));
             }
         }
-        builder.append(formatComment(node.getComment(), isEndNewLine(builder.toString())));
+        builder.append(formatComment(node.getComment(), isEndNewLine()));
         if (!node.isPartitionEmpty()) {
             PartitionedBy partitionedBy = node.getPartitionedBy();
             List<ColumnDefinition> columnDefinitions = partitionedBy.getColumnDefinitions();
             builder.append(
-                formatPartitions(columnDefinitions, isEndNewLine(builder.toString()), indentString(newIndent)));
+                formatPartitions(columnDefinitions, isEndNewLine(), indentString(newIndent)));
         }
         List<Property> properties = node.getProperties();
-        builder.append(formatWith(properties, isEndNewLine(builder.toString())));
+        builder.append(formatWith(properties, isEndNewLine()));
         removeNewLine(builder);
         return true;
     }
@@ -738,14 +784,31 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
         if (column.getDefaultValue() != null) {
             sb.append(" DEFAULT ").append(formatExpression(column.getDefaultValue()));
         }
-        sb.append(formatComment(column.getComment(), isEndNewLine(sb.toString())));
+        sb.append(formatComment(column.getComment(), isEndNewLine(sb)));
         appendProperties(sb, column.getColumnProperties());
         appendReferenceObjects(sb, column);
         return sb.toString();
     }
 
-    protected boolean isEndNewLine(String text) {
-        return text.endsWith(NEW_LINE);
+    /**
+     * 已经格式化的内容是否以换行结尾，只检查最后一个字符
+     *
+     * @return 是否以换行结尾
+     */
+    protected boolean isEndNewLine() {
+        if (builder.length() == 0) {
+            return lastFlushed == NEW_LINE_CHAR;
+        }
+        return isEndNewLine(builder);
+    }
+
+    protected boolean isEndNewLine(CharSequence text) {
+        return isEndWith(text, NEW_LINE_CHAR);
+    }
+
+    private static boolean isEndWith(CharSequence text, char c) {
+        int length = text.length();
+        return length > 0 && text.charAt(length - 1) == c;
     }
 
     protected String newLine(String text) {
@@ -753,7 +816,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
     }
 
     protected void removeNewLine(StringBuilder text) {
-        if (text.toString().endsWith(NEW_LINE)) {
+        if (isEndNewLine(text)) {
             text.deleteCharAt(text.length() - 1);
         }
     }
@@ -1046,7 +1109,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
 
     @Override
     public Boolean visitComment(Comment comment, Integer context) {
-        builder.append(formatComment(comment, isEndNewLine(builder.toString())));
+        builder.append(formatComment(comment, isEndNewLine()));
         return true;
     }
 
@@ -1257,7 +1320,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
         if (baseCreate.getCommentValue() != null) {
             builder.append(formatComment(baseCreate.getComment(), false));
         }
-        builder.append(formatWith(baseCreate.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatWith(baseCreate.getProperties(), isEndNewLine()));
         return true;
     }
 
@@ -1373,7 +1436,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             builder.append(" DEFAULT ").append(createDict.getDefaultValue());
         }
         builder.append(formatComment(createDict.getComment(), false));
-        builder.append(formatWith(createDict.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatWith(createDict.getProperties(), isEndNewLine()));
         return true;
     }
 
@@ -1384,7 +1447,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
         builder.append(formatName(createGroup.getQualifiedName()));
         builder.append(formatAliasedName(createGroup.getAliasedName()));
         builder.append(formatComment(createGroup.getComment(), false));
-        builder.append(formatWith(createGroup.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatWith(createGroup.getProperties(), isEndNewLine()));
         return true;
     }
 
@@ -1413,8 +1476,8 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             }
         }
         builder.append("\n)");
-        builder.append(formatComment(createRules.getComment(), isEndNewLine(builder.toString())));
-        builder.append(formatWith(createRules.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatComment(createRules.getComment(), isEndNewLine()));
+        builder.append(formatWith(createRules.getProperties(), isEndNewLine()));
         return true;
     }
 
@@ -1437,8 +1500,8 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             }
         }
         builder.append("\n)");
-        builder.append(formatComment(createRules.getComment(), isEndNewLine(builder.toString())));
-        builder.append(formatWith(createRules.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatComment(createRules.getComment(), isEndNewLine()));
+        builder.append(formatWith(createRules.getProperties(), isEndNewLine()));
         return true;
     }
 
@@ -1704,7 +1767,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             builder.append(";\n");
         });
         //删除最后一个换行
-        builder.deleteCharAt(builder.toString().length() - 1);
+        builder.deleteCharAt(builder.length() - 1);
         return true;
     }
 
@@ -1749,8 +1812,8 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             builder.append(formatAttributes(createDimension.getDimensionAttributes(), elementIndent));
             builder.append(newLine(")"));
         }
-        builder.append(formatComment(createDimension.getComment(), isEndNewLine(builder.toString())));
-        builder.append(formatWith(createDimension.getProperties(), isEndNewLine(builder.toString())));
+        builder.append(formatComment(createDimension.getComment(), isEndNewLine()));
+        builder.append(formatWith(createDimension.getProperties(), isEndNewLine()));
         removeNewLine(builder);
         //默认false，物理引擎不支持
         return false;
@@ -1811,7 +1874,7 @@ public class FastModelVisitor extends AstVisitor<Boolean, Integer> {
             stringBuilder.append(" ").append("PRIMARY KEY");
         }
         stringBuilder.append(formatComment(element.getComment()));
-        stringBuilder.append(formatWith(element.getProperties(), isEndNewLine(stringBuilder.toString())));
+        stringBuilder.append(formatWith(element.getProperties(), isEndNewLine(stringBuilder)));
         return stringBuilder.toString();
     }
 
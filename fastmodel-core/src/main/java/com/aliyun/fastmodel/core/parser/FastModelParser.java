@@ -17,6 +17,7 @@
 package com.aliyun.fastmodel.core.parser;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
@@ -73,6 +74,19 @@ public interface FastModelParser extends LanguageParser<Node, Void> {
      */
     List<BaseStatement> multiParse(DomainLanguage script) throws ParseException;
 
+    /**
+     * 并行解析多个语句，语句的顺序与脚本中的顺序一致。
+     * 默认使用串行解析，实现类可以将脚本切分后在pool中并行解析。
+     *
+     * @param script 脚本
+     * @param pool   用于并行解析的{@link ForkJoinPool}
+     * @return {@link BaseStatement}
+     * @throws ParseException 解析异常
+     */
+    default List<BaseStatement> multiParse(DomainLanguage script, ForkJoinPool pool) throws ParseException {
+        return multiParse(script);
+    }
+
     /**
      * 支持解析表达式处理
      *
@@ -18,6 +18,7 @@ package com.aliyun.fastmodel.core.tree;
 
 import com.aliyun.fastmodel.core.formatter.FastModelFormatter;
 import com.aliyun.fastmodel.core.tree.statement.constants.StatementType;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -39,8 +40,17 @@ public abstract class BaseStatement extends AbstractNode {
     /**
      * 语句的原始信息
      */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private String origin;
 
+    /**
+     * 延迟生成的原始信息，与{@link #origin}只会有一个有值
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private OriginText originText;
+
     public BaseStatement(NodeLocation nodeLocation) {
         this(nodeLocation, null);
     }
@@ -50,6 +60,33 @@ public abstract class BaseStatement extends AbstractNode {
         this.origin = origin;
     }
 
+    /**
+     * 获取原始文本，延迟生成的原始文本在每次调用时生成
+     *
+     * @return 原始文本，没有记录时返回null
+     */
+    public String getOrigin() {
+        if (originText != null) {
+            return originText.getText();
+        }
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+        originText = null;
+    }
+
+    /**
+     * 设置延迟生成的原始文本
+     *
+     * @param originText {@link OriginText}
+     */
+    public void setOriginText(OriginText originText) {
+        this.originText = originText;
+        origin = null;
+    }
+
     @Override
     public <R, C> R accept(AstVisitor<R, C> visitor, C context) {
         return visitor.visitStatement(this, context);
@@ -61,7 +98,7 @@ public abstract class BaseStatement extends AbstractNode {
             String formatNode = FastModelFormatter.formatNode(this);
             return formatNode;
         } catch (Exception ignore) {
-            return getClass() + ":{statementType:" + statementType + ";origin:" + origin + "}";
+            return getClass() + ":{statementType:" + statementType + ";origin:" + getOrigin() + "}";
         }
     }
 
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.core.tree;
+
+/**
+ * 节点的原始文本，只引用共享的原始输入以及起止位置，
+ * 在调用{@link #getText()}时才生成字符串，避免大的脚本在内存中保留多份重叠的文本。
+ *
+ * @author panguanjing
+ * @date 2022/7/4
+ */
+public interface OriginText {
+
+    /**
+     * 生成原始文本，每次调用都会重新生成
+     *
+     * @return 原始文本
+     */
+    String getText();
+}
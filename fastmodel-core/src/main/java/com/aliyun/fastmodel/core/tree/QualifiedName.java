@@ -27,12 +27,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
-import lombok.EqualsAndHashCode;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import static com.google.common.collect.ImmutableList.toImmutableList;
-import static java.util.Locale.ENGLISH;
-
 /**
  * Desc:
  *
@@ -40,17 +37,32 @@ import static java.util.Locale.ENGLISH;
  * @date 2020/11/3
  */
 @Getter
-@EqualsAndHashCode(callSuper = false)
 public class QualifiedName extends AbstractNode {
 
     private final List<String> parts;
 
     private final List<Identifier> originalParts;
 
+    /**
+     * 缓存的hashCode，0表示还没有计算
+     */
+    @Getter(AccessLevel.NONE)
+    private int hash;
+
+    /**
+     * 缓存的toString
+     */
+    @Getter(AccessLevel.NONE)
+    private String name;
+
     private QualifiedName(List<Identifier> originalParts) {
         this.originalParts = originalParts;
-        parts = originalParts.stream().map(identifier -> identifier.getValue().toLowerCase(ENGLISH)).collect(
-            toImmutableList());
+        ImmutableList.Builder<String> builder = ImmutableList.builderWithExpectedSize(originalParts.size());
+        for (Identifier identifier : originalParts) {
+            //identifier已经缓存了小写的值
+            builder.add(identifier.getLowerCaseValue());
+        }
+        parts = builder.build();
     }
 
     public static QualifiedName of(String name) {
@@ -135,9 +147,43 @@ public class QualifiedName extends AbstractNode {
     }
 
     @Override
-
     public String toString() {
-        return Joiner.on('.').join(parts);
+        String result = name;
+        if (result == null) {
+            result = parts.size() == 1 ? parts.get(0) : String.join(".", parts);
+            name = result;
+        }
+        return result;
+    }
+
+    /**
+     * parts相同时originalParts一定相同，只比较parts
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QualifiedName that = (QualifiedName)o;
+        int h = hash;
+        int thatHash = that.hash;
+        if (h != 0 && thatHash != 0 && h != thatHash) {
+            return false;
+        }
+        return parts.equals(that.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = parts.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
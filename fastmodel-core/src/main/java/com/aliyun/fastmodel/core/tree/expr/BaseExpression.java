@@ -23,7 +23,9 @@ import com.aliyun.fastmodel.core.tree.AbstractNode;
 import com.aliyun.fastmodel.core.tree.AstVisitor;
 import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.core.tree.NodeLocation;
+import com.aliyun.fastmodel.core.tree.OriginText;
 import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -40,8 +42,17 @@ public abstract class BaseExpression extends AbstractNode {
     /**
      * 原始的文本表达式
      */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private String origin;
 
+    /**
+     * 延迟生成的原始文本，与{@link #origin}只会有一个有值
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private OriginText originText;
+
     /**
      * 是否被括号包围
      */
@@ -56,6 +67,33 @@ public abstract class BaseExpression extends AbstractNode {
         this.origin = origin;
     }
 
+    /**
+     * 获取原始文本，延迟生成的原始文本在每次调用时生成
+     *
+     * @return 原始文本，没有记录时返回null
+     */
+    public String getOrigin() {
+        if (originText != null) {
+            return originText.getText();
+        }
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+        originText = null;
+    }
+
+    /**
+     * 设置延迟生成的原始文本
+     *
+     * @param originText {@link OriginText}
+     */
+    public void setOriginText(OriginText originText) {
+        this.originText = originText;
+        origin = null;
+    }
+
     @Override
     public List<? extends Node> getChildren() {
         return ImmutableList.of();
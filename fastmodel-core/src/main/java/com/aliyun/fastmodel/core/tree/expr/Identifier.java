@@ -17,6 +17,7 @@
 package com.aliyun.fastmodel.core.tree.expr;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 import com.aliyun.fastmodel.core.tree.AstVisitor;
@@ -25,7 +26,6 @@ import com.aliyun.fastmodel.core.tree.NodeLocation;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import lombok.Getter;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * 标识符，列名、表名等等
@@ -39,12 +39,18 @@ public class Identifier extends BaseExpression {
     private final String value;
     private final boolean delimited;
 
+    /**
+     * 小写的value，用于忽略大小写的比较以及hashCode
+     */
+    private final String lowerCaseValue;
+
     private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_0-9]([a-zA-Z0-9_:@])*");
 
     public Identifier(NodeLocation location, String origin, String value) {
         super(location, origin);
         this.value = value;
         delimited = !NAME_PATTERN.matcher(value).matches();
+        lowerCaseValue = toLowerCase(value);
     }
 
     public Identifier(String value) {
@@ -59,6 +65,12 @@ public class Identifier extends BaseExpression {
         super(location, origin);
         this.value = value;
         this.delimited = delimited;
+        lowerCaseValue = toLowerCase(value);
+    }
+
+    private static String toLowerCase(String value) {
+        //已经是小写时，toLowerCase返回的是同一个对象
+        return value == null ? null : value.toLowerCase(Locale.ENGLISH);
     }
 
     @Override
@@ -66,13 +78,16 @@ public class Identifier extends BaseExpression {
         if (this == o) {return true;}
         if (o == null || getClass() != o.getClass()) {return false;}
         Identifier that = (Identifier)o;
-        //只看value的值
-        return StringUtils.equalsIgnoreCase(value, that.value);
+        //只看value的值，忽略大小写
+        return Objects.equal(lowerCaseValue, that.lowerCaseValue);
     }
 
+    /**
+     * 与equals保持一致，使用小写的value计算
+     */
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        return lowerCaseValue == null ? 0 : lowerCaseValue.hashCode();
     }
 
     @Override
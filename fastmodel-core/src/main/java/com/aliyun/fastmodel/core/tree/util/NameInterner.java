@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.core.tree.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * 名称的规范化池，相同的名称共享同一个对象。
+ * <p>
+ * 使用弱引用，没有被引用的名称会被回收。大的脚本中同一个列名、表名会出现很多次，
+ * 共享后可以减少内存，并且作为map的key时可以先通过引用比较。
+ * 只规范化名称的字符串，语法树中的节点带有位置以及原始文本，不适合共享。
+ *
+ * @author panguanjing
+ * @date 2022/7/5
+ */
+public final class NameInterner {
+
+    private static final Interner<String> STRING_INTERNER = Interners.newWeakInterner();
+
+    private NameInterner() {
+    }
+
+    /**
+     * 获取规范化的名称
+     *
+     * @param name 名称
+     * @return 规范化的名称，name为null时返回null
+     */
+    public static String intern(String name) {
+        return name == null ? null : STRING_INTERNER.intern(name);
+    }
+}
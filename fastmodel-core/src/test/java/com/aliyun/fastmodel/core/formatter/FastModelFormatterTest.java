@@ -16,9 +16,13 @@
 
 package com.aliyun.fastmodel.core.formatter;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.aliyun.fastmodel.core.tree.AliasedName;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.core.tree.Comment;
 import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.core.tree.Property;
@@ -29,6 +33,7 @@ import com.aliyun.fastmodel.core.tree.expr.CustomExpression;
 import com.aliyun.fastmodel.core.tree.expr.Identifier;
 import com.aliyun.fastmodel.core.tree.expr.atom.TableOrColumn;
 import com.aliyun.fastmodel.core.tree.expr.literal.StringLiteral;
+import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
 import com.aliyun.fastmodel.core.tree.statement.constants.ColumnCategory;
 import com.aliyun.fastmodel.core.tree.statement.constants.ShowObjectsType;
 import com.aliyun.fastmodel.core.tree.statement.constants.ShowType;
@@ -494,4 +499,48 @@ public class FastModelFormatterTest {
         String format = format(code_test);
         assertEquals("CREATE CODE TABLE code_test", format);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFormatTo() throws IOException {
+        List<BaseStatement> statements = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            statements.add(CreateDimTable.builder()
+                .tableName(QualifiedName.of("dim_" + i))
+                .columns(ImmutableList.of(ColumnDefinition.builder()
+                    .colName(new Identifier("c1"))
+                    .dataType(DataTypeUtil.simpleType(DataTypeEnums.BIGINT))
+                    .comment(new Comment("comment"))
+                    .build()))
+                .comment(new Comment("comment"))
+                .properties(ImmutableList.of(new Property("k", "v")))
+                .build());
+            statements.add(new DropTable(QualifiedName.of("dim_" + i)));
+        }
+        CompositeStatement compositeStatement = new CompositeStatement(statements);
+        StringWriter writer = new StringWriter();
+        FastModelFormatter.formatTo(compositeStatement, writer);
+        assertEquals(FastModelFormatter.formatNode(compositeStatement), writer.toString());
+
+        writer = new StringWriter();
+        FastModelFormatter.formatTo(new DropTable(QualifiedName.of("a")), writer);
+        assertEquals("DROP TABLE a", writer.toString());
+    }
+
+    @Test
+    public void testCommentUnsupported() {
+        FastModelVisitor visitor = new FastModelVisitor() {
+            @Override
+            public Boolean visitDropTable(DropTable dropTable, Integer context) {
+                super.visitDropTable(dropTable, context);
+                return false;
+            }
+        };
+        StringWriter writer = new StringWriter();
+        visitor.setOutput(writer);
+        visitor.process(new CompositeStatement(ImmutableList.of(
+            new RenameTable(QualifiedName.of("a"), QualifiedName.of("b")),
+            new DropTable(QualifiedName.of("b")))), 0);
+        visitor.flush();
+        assertEquals("ALTER TABLE a RENAME TO b;\n-- DROP TABLE b;", writer.toString());
+    }
+}
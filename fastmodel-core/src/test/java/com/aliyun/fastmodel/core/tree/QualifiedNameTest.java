@@ -16,10 +16,16 @@
 
 package com.aliyun.fastmodel.core.tree;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import com.aliyun.fastmodel.core.tree.util.NameInterner;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author panguanjing
@@ -71,4 +77,23 @@ public class QualifiedNameTest {
         prefixPath = of.getPrefixPath();
         assertEquals(prefixPath, "b");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEqualsIgnoreCase() {
+        QualifiedName upper = QualifiedName.of("A.Table");
+        QualifiedName lower = QualifiedName.of("a.table");
+        assertEquals(upper, lower);
+        assertEquals(upper.hashCode(), lower.hashCode());
+        assertEquals("a.table", upper.toString());
+        assertNotEquals(upper, QualifiedName.of("a.table2"));
+        Map<QualifiedName, String> map = new HashMap<>();
+        map.put(upper, "value");
+        assertEquals("value", map.get(lower));
+    }
+
+    @Test
+    public void testIntern() {
+        assertSame(NameInterner.intern(new String("col")), NameInterner.intern("col"));
+        assertNull(NameInterner.intern((String)null));
+    }
+}
@@ -16,30 +16,28 @@
 
 package com.aliyun.fastmodel.driver.client;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Type;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
-import com.alibaba.fastjson.JSON;
-import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.TypeReference;
 
 import com.aliyun.fastmodel.driver.client.command.BaseCommandProperties;
 import com.aliyun.fastmodel.driver.client.command.ExecuteCommand;
-import com.aliyun.fastmodel.driver.client.exception.FastModelException;
-import com.aliyun.fastmodel.driver.client.exception.ResultContainErrorException;
-import com.aliyun.fastmodel.driver.client.exception.ResultParseException;
+import com.aliyun.fastmodel.driver.client.request.FastModelResponseReader;
 import com.aliyun.fastmodel.driver.client.request.FastModelWrapperResponse;
+import com.aliyun.fastmodel.driver.model.DriverResult;
 import com.aliyun.fastmodel.driver.model.DriverUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.BooleanUtils;
 
 /**
  * Desc:
@@ -58,6 +56,9 @@ public class FastModelEngineStatement implements Statement {
     private boolean closeOnCompletion;
 
     private int maxRows;
+    private int fetchSize;
+    @Getter(AccessLevel.NONE)
+    private final List<String> batch = new ArrayList<>();
     private int queryTimeout;
     private ResultSet currentResult;
     private int currentUpdateCount;
@@ -66,6 +67,8 @@ public class FastModelEngineStatement implements Statement {
 
     public static final String SQL = "sql";
 
+    private static final Type BATCH_RESULT_TYPE = new TypeReference<List<DriverResult<Integer>>>() {}.getType();
+
     public FastModelEngineStatement(FastModelEngineConnection fastModelEngineConnection,
                                     int resultSetType) {
         connection = fastModelEngineConnection;
@@ -79,23 +82,28 @@ public class FastModelEngineStatement implements Statement {
         if (!select) {
             throw new SQLFeatureNotSupportedException("Provided query is not a SELECT, SHOW, DESC, CALL");
         }
-        ExecuteCommand strategy = connection.getStrategy();
-        FastModelWrapperResponse response = strategy.execute(sql);
-        InputStream is = null;
-        try {
-            JSONObject check = check(response);
-            is = response.getResponse();
-            currentResult = new FastModelResultSet(check, this);
-            return currentResult;
-        } finally {
-            if (is != null) {
-                try {
-                    is.close();
-                } catch (IOException e) {
-                    log.error("can not close stream", e);
-                }
-            }
+        if (currentResult != null) {
+            currentResult.close();
+            currentResult = null;
+        }
+        ExecuteCommand<?> strategy = connection.getStrategy();
+        int pageSize = getPageSize();
+        FastModelWrapperResponse response = strategy.execute(sql, pageSize);
+        FastModelResponseReader reader = new FastModelResponseReader(response, getHost(), true);
+        reader.open();
+        PagedRowIterator iterator = new PagedRowIterator(strategy, reader, pageSize, getHost());
+        currentResult = new FastModelResultSet(reader.getColumnInfos(), iterator, iterator, this);
+        return currentResult;
+    }
+
+    /**
+     * 每页请求的行数，设置了maxRows时不需要请求更多的行
+     */
+    private int getPageSize() {
+        if (maxRows > 0) {
+            return fetchSize > 0 ? Math.min(fetchSize, maxRows) : maxRows;
         }
+        return fetchSize;
     }
 
     @Override
@@ -103,70 +111,24 @@ public class FastModelEngineStatement implements Statement {
         if (isSelect(sql)) {
             throw new SQLFeatureNotSupportedException("Unable to parse provided update sql");
         }
-        InputStream is = null;
-        try {
-            FastModelWrapperResponse response = connection.getStrategy().execute(sql);
-            is = response.getResponse();
-            check(response);
-        } finally {
-            if (is != null) {
-                try {
-                    is.close();
-                } catch (IOException e) {
-                    log.error("can not close stream", e);
-                }
-            }
+        FastModelWrapperResponse response = connection.getStrategy().execute(sql);
+        try (FastModelResponseReader reader = new FastModelResponseReader(response, getHost(),
+            false)) {
+            reader.open();
+            reader.finish();
         }
         return 1;
     }
 
-    private String toStringValue(InputStream is) throws IOException {
-        return IOUtils.toString(is, StandardCharsets.UTF_8);
-    }
-
-    private JSONObject check(FastModelWrapperResponse response) throws FastModelException {
-        InputStream is = response.getResponse();
-        JSONObject json;
-        try {
-            json = JSON.parseObject(toStringValue(is));
-        } catch (IOException e) {
-            throw new ResultParseException(e.getMessage(), connection.getCommandProperties().getHost())
-                .addContextValue(SQL, response.getRequestSql()).addContextValue(REQUEST_ID, response.getRequestId());
-        }
-        if (json == null) {
-            throw new ResultParseException("response is null", connection.getCommandProperties().getHost()
-            ).addContextValue(SQL, response.getRequestSql()).addContextValue(REQUEST_ID,
-                response.getRequestId());
-        }
-        Boolean success = json.getBoolean("success");
-        if (BooleanUtils.isTrue(success)) {
-            return json;
-        }
-        boolean status = json.containsKey("status");
-        String errorCode;
-        if (status) {
-            errorCode = json.getString("status");
-        } else {
-            errorCode = json.getString("errCode");
-        }
-        boolean message = json.containsKey("message");
-        String errorMessage;
-        if (message) {
-            errorMessage = json.getString("message");
-        } else {
-            errorMessage = json.getString("errMsg");
-        }
-        throw new ResultContainErrorException(
-            errorCode + ":" + errorMessage,
-            getProperties().getHost()
-        ).addContextValue(SQL, response.getRequestSql()).addContextValue(REQUEST_ID,
-            response.getRequestId());
-    }
-
     public BaseCommandProperties getProperties() {
         return connection.getCommandProperties();
     }
 
+    private String getHost() {
+        BaseCommandProperties properties = getProperties();
+        return properties == null ? null : properties.getHost();
+    }
+
     @Override
     public void close() throws SQLException {
         if (currentResult != null) {
@@ -185,7 +147,7 @@ public class FastModelEngineStatement implements Statement {
     }
 
     @Override
-    public int getMaxRows() throws SQLException {
+    public int getMaxRows() {
         return maxRows;
     }
 
@@ -278,12 +240,15 @@ public class FastModelEngineStatement implements Statement {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-
+        if (rows < 0) {
+            throw new SQLException("Illegal fetchSize value:" + rows);
+        }
+        fetchSize = rows;
     }
 
     @Override
-    public int getFetchSize() throws SQLException {
-        return 0;
+    public int getFetchSize() {
+        return fetchSize;
     }
 
     @Override
@@ -298,17 +263,63 @@ public class FastModelEngineStatement implements Statement {
 
     @Override
     public void addBatch(String sql) throws SQLException {
-
+        if (isSelect(sql)) {
+            throw new SQLFeatureNotSupportedException("Batch can not contain query:" + sql);
+        }
+        batch.add(sql);
     }
 
     @Override
     public void clearBatch() throws SQLException {
-
+        batch.clear();
     }
 
+    /**
+     * 所有的语句在一次请求中发送，服务端按照顺序执行，某个语句失败时继续执行后面的语句，
+     * 失败的语句对应的更新数为{@link Statement#EXECUTE_FAILED}
+     */
     @Override
     public int[] executeBatch() throws SQLException {
-        return new int[0];
+        if (batch.isEmpty()) {
+            return new int[0];
+        }
+        List<String> sqls = new ArrayList<>(batch);
+        batch.clear();
+        FastModelWrapperResponse response = connection.getStrategy().executeBatch(sqls);
+        List<DriverResult<Integer>> results;
+        try (FastModelResponseReader reader = new FastModelResponseReader(response, getHost(), true,
+            BATCH_RESULT_TYPE)) {
+            reader.open();
+            reader.finish();
+            results = reader.getData();
+        }
+        if (results == null || results.size() != sqls.size()) {
+            throw new SQLException("batch result size is not match, expect:" + sqls.size() + ", actual:"
+                + (results == null ? 0 : results.size()));
+        }
+        int[] updateCounts = new int[sqls.size()];
+        SQLException failure = null;
+        for (int i = 0; i < updateCounts.length; i++) {
+            DriverResult<Integer> result = results.get(i);
+            if (result.isSuccess()) {
+                updateCounts[i] = result.getData() == null ? SUCCESS_NO_INFO : result.getData();
+                continue;
+            }
+            updateCounts[i] = EXECUTE_FAILED;
+            SQLException exception = new SQLException(
+                "execute error, index:" + i + ", sql:" + sqls.get(i) + ", reason:" + result.getErrorMessage());
+            if (failure == null) {
+                failure = exception;
+            } else {
+                failure.setNextException(exception);
+            }
+        }
+        if (failure != null) {
+            BatchUpdateException batchUpdateException = new BatchUpdateException(failure.getMessage(), updateCounts);
+            batchUpdateException.setNextException(failure);
+            throw batchUpdateException;
+        }
+        return updateCounts;
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.driver.client;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -42,6 +43,7 @@ import java.sql.Timestamp;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -54,12 +56,16 @@ import com.aliyun.fastmodel.driver.model.DriverColumnInfo;
 import com.aliyun.fastmodel.driver.model.DriverResult;
 import com.aliyun.fastmodel.driver.model.DriverRow;
 import com.aliyun.fastmodel.driver.model.QueryResult;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.SerializationUtils;
 
 /**
  * ResultSet
+ * <p>
+ * 行通过{@link Iterator}逐行读取，流式读取时行不会全部保存在内存中，
+ * 读取到{@link Statement#getMaxRows()}行或者所有的行之后，关闭底层的数据源。
  *
  * @author panguanjing
  * @date 2020/12/4
@@ -71,8 +77,26 @@ public class FastModelResultSet implements ResultSet {
 
     private final FastModelEngineStatement fastModelEngineStatement;
 
+    /**
+     * 通过json构造时的所有行，流式读取时为null
+     */
     private List<DriverRow> rows;
 
+    @Getter(AccessLevel.NONE)
+    private Iterator<DriverRow> rowIterator;
+
+    /**
+     * 行的数据源，读取结束或者关闭时关闭
+     */
+    @Getter(AccessLevel.NONE)
+    private Closeable source;
+
+    private int maxRows;
+
+    private int fetchSize;
+
+    private boolean closed;
+
     private DriverRow nextLine;
 
     private DriverRow values;
@@ -95,6 +119,35 @@ public class FastModelResultSet implements ResultSet {
         is = jsonObject;
         this.fastModelEngineStatement = fastModelEngineStatement;
         init(jsonObject);
+        if (rows != null) {
+            rowIterator = rows.iterator();
+        }
+        initMaxRows();
+    }
+
+    /**
+     * 流式读取行
+     *
+     * @param columnInfos              列的信息，为null时没有行
+     * @param rowIterator              行的迭代器
+     * @param source                   行的数据源，读取结束或者关闭时关闭
+     * @param fastModelEngineStatement statement
+     */
+    public FastModelResultSet(List<DriverColumnInfo> columnInfos, Iterator<DriverRow> rowIterator,
+                              Closeable source, FastModelEngineStatement fastModelEngineStatement) {
+        is = null;
+        this.fastModelEngineStatement = fastModelEngineStatement;
+        driverColumnInfoList = columnInfos;
+        this.rowIterator = columnInfos == null ? null : rowIterator;
+        this.source = source;
+        initMaxRows();
+    }
+
+    private void initMaxRows() {
+        if (fastModelEngineStatement != null) {
+            maxRows = fastModelEngineStatement.getMaxRows();
+            fetchSize = fastModelEngineStatement.getFetchSize();
+        }
     }
 
     private void init(JSONObject json) throws FastModelException {
@@ -134,7 +187,7 @@ public class FastModelResultSet implements ResultSet {
     public boolean next() throws SQLException {
         boolean hasNext = hasNext();
         if (hasNext) {
-            values = rows.get(currentIndex);
+            values = nextLine;
             nextLine = null;
             currentIndex += 1;
             return true;
@@ -144,26 +197,20 @@ public class FastModelResultSet implements ResultSet {
     }
 
     private boolean hasNext() throws SQLException {
-        if (rows == null) {
+        if (rowIterator == null) {
             return false;
         }
         if (nextLine == null && !lastReached) {
-            boolean end = currentIndex == rows.size();
-            if (end) {
-                try {
-                    endStream();
-                } catch (IOException e) {
-                    throw new SQLException(e);
+            try {
+                boolean end = maxRows > 0 && currentIndex >= maxRows || !rowIterator.hasNext();
+                if (!end) {
+                    nextLine = rowIterator.next();
                 }
-            } else {
-                nextLine = rows.get(currentIndex);
                 if (nextLine == null) {
-                    try {
-                        endStream();
-                    } catch (IOException e) {
-                        throw new SQLException(e);
-                    }
+                    endStream();
                 }
+            } catch (IOException | FastModelException e) {
+                throw new SQLException(e);
             }
         }
         return nextLine != null;
@@ -172,10 +219,20 @@ public class FastModelResultSet implements ResultSet {
     private void endStream() throws IOException {
         lastReached = true;
         nextLine = null;
+        if (source != null) {
+            source.close();
+            source = null;
+        }
     }
 
     @Override
     public void close() throws SQLException {
+        closed = true;
+        try {
+            endStream();
+        } catch (IOException e) {
+            throw new SQLException(e);
+        }
     }
 
     @Override
@@ -551,12 +608,18 @@ public class FastModelResultSet implements ResultSet {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        throw new UnsupportedOperationException();
+        if (rows < 0) {
+            throw new SQLException("Illegal fetchSize value:" + rows);
+        }
+        fetchSize = rows;
+        if (rowIterator instanceof PagedRowIterator) {
+            ((PagedRowIterator)rowIterator).setFetchSize(rows);
+        }
     }
 
     @Override
     public int getFetchSize() throws SQLException {
-        throw new UnsupportedOperationException();
+        return fetchSize;
     }
 
     @Override
@@ -973,7 +1036,7 @@ public class FastModelResultSet implements ResultSet {
 
     @Override
     public boolean isClosed() throws SQLException {
-        return false;
+        return closed;
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.client;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.aliyun.fastmodel.driver.client.command.ExecuteCommand;
+import com.aliyun.fastmodel.driver.client.request.FastModelResponseReader;
+import com.aliyun.fastmodel.driver.client.request.FastModelWrapperResponse;
+import com.aliyun.fastmodel.driver.model.DriverRow;
+import lombok.Setter;
+
+/**
+ * 分页读取行的迭代器
+ * <p>
+ * 当前页的行从{@link FastModelResponseReader}中流式读取，读取完之后如果服务端返回了游标，
+ * 使用{@link ExecuteCommand#fetch(String, int)}获取下一页。
+ * 读取或者解析失败时抛出{@link com.aliyun.fastmodel.driver.client.exception.FastModelException}。
+ *
+ * @author panguanjing
+ * @date 2022/7/7
+ */
+class PagedRowIterator implements Iterator<DriverRow>, Closeable {
+
+    private final ExecuteCommand<?> strategy;
+
+    private final String host;
+
+    private FastModelResponseReader reader;
+
+    private DriverRow next;
+
+    /**
+     * 获取下一页时的行数
+     */
+    @Setter
+    private int fetchSize;
+
+    PagedRowIterator(ExecuteCommand<?> strategy, FastModelResponseReader reader, int fetchSize, String host) {
+        this.strategy = strategy;
+        this.reader = reader;
+        this.fetchSize = fetchSize;
+        this.host = host;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && reader != null) {
+            next = reader.nextRow();
+            if (next != null) {
+                return true;
+            }
+            String cursor = reader.getCursor();
+            reader.close();
+            reader = null;
+            if (cursor != null) {
+                FastModelWrapperResponse response = strategy.fetch(cursor, fetchSize);
+                FastModelResponseReader nextReader = new FastModelResponseReader(response, host, true);
+                nextReader.open();
+                reader = nextReader;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public DriverRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DriverRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        next = null;
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+    }
+}
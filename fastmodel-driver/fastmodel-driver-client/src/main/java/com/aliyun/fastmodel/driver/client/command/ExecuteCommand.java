@@ -16,6 +16,8 @@
 
 package com.aliyun.fastmodel.driver.client.command;
 
+import java.util.List;
+
 import com.aliyun.fastmodel.driver.client.exception.CommandException;
 import com.aliyun.fastmodel.driver.client.request.FastModelWrapperResponse;
 
@@ -43,6 +45,41 @@ public interface ExecuteCommand<T extends BaseCommandProperties> {
      */
     FastModelWrapperResponse execute(String sql) throws CommandException;
 
+    /**
+     * 执行语句，服务端支持分页时，每页最多返回fetchSize行，并在结果中返回游标
+     *
+     * @param sql       语句
+     * @param fetchSize 每页的行数，0表示不分页
+     * @return 第一页的结果
+     * @throws CommandException
+     */
+    default FastModelWrapperResponse execute(String sql, int fetchSize) throws CommandException {
+        return execute(sql);
+    }
+
+    /**
+     * 根据游标获取下一页的结果
+     *
+     * @param cursor    上一页结果中返回的游标
+     * @param fetchSize 每页的行数
+     * @return 下一页的结果
+     * @throws CommandException
+     */
+    default FastModelWrapperResponse fetch(String cursor, int fetchSize) throws CommandException {
+        throw new CommandException("fetch with cursor is not supported", null, getProperties().getHost());
+    }
+
+    /**
+     * 批量执行语句，所有的语句在一次请求中发送，结果中包含每个语句的执行结果
+     *
+     * @param sqls 语句列表
+     * @return 批量执行的结果
+     * @throws CommandException
+     */
+    default FastModelWrapperResponse executeBatch(List<String> sqls) throws CommandException {
+        throw new CommandException("batch execute is not supported", null, getProperties().getHost());
+    }
+
     /**
      * 关闭信息
      *
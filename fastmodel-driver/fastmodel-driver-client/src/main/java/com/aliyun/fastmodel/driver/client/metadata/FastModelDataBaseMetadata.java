@@ -787,7 +787,7 @@ public class FastModelDataBaseMetadata implements DatabaseMetaData {
 
     @Override
     public boolean supportsBatchUpdates() throws SQLException {
-        return false;
+        return true;
     }
 
     @Override
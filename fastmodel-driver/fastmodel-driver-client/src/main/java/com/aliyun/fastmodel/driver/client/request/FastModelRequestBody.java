@@ -16,6 +16,8 @@
 
 package com.aliyun.fastmodel.driver.client.request;
 
+import java.util.List;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -35,4 +37,19 @@ FastModelRequestBody {
      */
     private String fml;
 
+    /**
+     * 每页返回的行数，为空时不分页
+     */
+    private Integer fetchSize;
+
+    /**
+     * 获取下一页时使用的游标
+     */
+    private String cursor;
+
+    /**
+     * 批量执行的语句，不为空时忽略fml
+     */
+    private List<String> batch;
+
 }
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.client.request;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.JSONReader;
+import com.alibaba.fastjson.parser.JSONReaderScanner;
+import com.alibaba.fastjson.parser.JSONToken;
+
+import com.aliyun.fastmodel.driver.client.exception.FastModelException;
+import com.aliyun.fastmodel.driver.client.exception.ResultContainErrorException;
+import com.aliyun.fastmodel.driver.client.exception.ResultParseException;
+import com.aliyun.fastmodel.driver.model.DriverColumnInfo;
+import com.aliyun.fastmodel.driver.model.DriverRow;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.aliyun.fastmodel.driver.client.FastModelEngineStatement.REQUEST_ID;
+import static com.aliyun.fastmodel.driver.client.FastModelEngineStatement.SQL;
+
+/**
+ * 流式的读取http请求的结果
+ * <p>
+ * 结果的结构为{"data":{"data":{"columnInfos":[],"cursor":"","rows":[]},"errorMessage":"","success":true},
+ * "success":true}，使用{@link JSONReader}直接从{@link InputStream}中读取，读取到rows数组时暂停，
+ * 之后通过{@link #nextRow()}逐行读取，行不会全部保存在内存中。
+ * 字段的顺序不固定，rows之后的success等字段在行读取完之后再校验。
+ *
+ * @author panguanjing
+ * @date 2022/7/7
+ */
+@Slf4j
+public class FastModelResponseReader implements Closeable {
+
+    private static final String SUCCESS = "success";
+
+    private static final String DATA = "data";
+
+    private static final String STATUS = "status";
+
+    private static final String ERR_CODE = "errCode";
+
+    private static final String MESSAGE = "message";
+
+    private static final String ERR_MSG = "errMsg";
+
+    private static final String ERROR_MESSAGE = "errorMessage";
+
+    private static final String COLUMN_INFOS = "columnInfos";
+
+    private static final String CURSOR = "cursor";
+
+    private static final String ROWS = "rows";
+
+    private final FastModelWrapperResponse response;
+
+    private final String host;
+
+    /**
+     * 是否校验data中的success，执行更新时与之前保持一致，只校验最外层的success
+     */
+    private final boolean checkResult;
+
+    /**
+     * data中结果的类型，为null时按照{@link com.aliyun.fastmodel.driver.model.QueryResult}流式读取行
+     */
+    private final Type dataType;
+
+    /**
+     * 按照dataType读取的结果
+     */
+    private Object data;
+
+    private JSONReaderScanner lexer;
+
+    private JSONReader reader;
+
+    private State state = State.TOP;
+
+    private Boolean success;
+
+    private String errorCode;
+
+    private String errorMessage;
+
+    private Boolean resultSuccess;
+
+    private String resultErrorMessage;
+
+    /**
+     * 列的信息，没有时为null
+     */
+    @Getter
+    private List<DriverColumnInfo> columnInfos;
+
+    /**
+     * 服务端游标，还有下一页的时候不为null
+     */
+    @Getter
+    private String cursor;
+
+    /**
+     * rows在columnInfos之前出现时，先将行读取到内存中
+     */
+    private List<DriverRow> bufferedRows;
+
+    private int bufferedIndex;
+
+    public FastModelResponseReader(FastModelWrapperResponse response, String host, boolean checkResult) {
+        this(response, host, checkResult, null);
+    }
+
+    /**
+     * @param response    http请求的结果
+     * @param host        服务端的地址，用于异常信息
+     * @param checkResult 是否校验data中的success
+     * @param dataType    data中结果的类型，不为null时整体读取，不再流式读取行
+     */
+    public FastModelResponseReader(FastModelWrapperResponse response, String host, boolean checkResult,
+                                   Type dataType) {
+        this.response = response;
+        this.host = host;
+        this.checkResult = checkResult;
+        this.dataType = dataType;
+    }
+
+    /**
+     * 开始读取，读取到rows数组或者整个结果结束
+     *
+     * @throws FastModelException 结果不能解析或者包含错误
+     */
+    public void open() throws FastModelException {
+        InputStream is = response.getResponse();
+        if (is == null) {
+            throw parseError("response is null");
+        }
+        try {
+            lexer = new JSONReaderScanner(new InputStreamReader(is, StandardCharsets.UTF_8));
+            reader = new JSONReader(lexer);
+            if (reader.peek() != JSONToken.LBRACE) {
+                throw parseError("response is null");
+            }
+            reader.startObject();
+            readTop();
+        } catch (JSONException e) {
+            close();
+            throw parseError(e.getMessage());
+        } catch (FastModelException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 读取下一行，所有的行读取完后继续读取剩余的字段并校验结果
+     *
+     * @return 下一行，没有时返回null
+     * @throws FastModelException 结果不能解析或者包含错误
+     */
+    public DriverRow nextRow() throws FastModelException {
+        if (bufferedRows != null) {
+            return bufferedIndex < bufferedRows.size() ? bufferedRows.get(bufferedIndex++) : null;
+        }
+        if (state != State.ROWS) {
+            return null;
+        }
+        try {
+            if (reader.hasNext()) {
+                return reader.readObject(DriverRow.class);
+            }
+            reader.endArray();
+            state = State.QUERY;
+            resume();
+            return null;
+        } catch (JSONException e) {
+            close();
+            throw parseError(e.getMessage());
+        } catch (FastModelException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 按照dataType读取的结果，需要在{@link #finish()}之后调用
+     *
+     * @param <T> 结果的类型
+     * @return 结果，没有时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getData() {
+        return (T)data;
+    }
+
+    /**
+     * 跳过剩余的行，读取剩余的字段并校验结果
+     *
+     * @throws FastModelException 结果不能解析或者包含错误
+     */
+    public void finish() throws FastModelException {
+        DriverRow row;
+        do {
+            row = nextRow();
+        } while (row != null);
+    }
+
+    private void resume() {
+        if (state == State.QUERY && readQuery()) {
+            return;
+        }
+        if (state == State.RESULT && readResult()) {
+            return;
+        }
+        if (state == State.TOP) {
+            readTop();
+        }
+    }
+
+    private void readTop() {
+        while (reader.hasNext()) {
+            String key = reader.readString();
+            if (DATA.equals(key) && peekValue() == '{' && !Boolean.FALSE.equals(success)) {
+                reader.startObject();
+                state = State.RESULT;
+                if (readResult()) {
+                    return;
+                }
+            } else if (SUCCESS.equals(key)) {
+                success = toBoolean(reader.readObject());
+            } else if (STATUS.equals(key) || ERR_CODE.equals(key) && errorCode == null) {
+                errorCode = toString(reader.readObject());
+            } else if (MESSAGE.equals(key) || ERR_MSG.equals(key) && errorMessage == null) {
+                errorMessage = toString(reader.readObject());
+            } else {
+                reader.readObject();
+            }
+        }
+        reader.endObject();
+        state = State.DONE;
+        if (!Boolean.TRUE.equals(success)) {
+            throw new ResultContainErrorException(errorCode + ":" + errorMessage, host)
+                .addContextValue(SQL, response.getRequestSql())
+                .addContextValue(REQUEST_ID, response.getRequestId());
+        }
+    }
+
+    private boolean readResult() {
+        while (reader.hasNext()) {
+            String key = reader.readString();
+            if (DATA.equals(key) && dataType != null) {
+                data = reader.readObject(dataType);
+            } else if (DATA.equals(key) && peekValue() == '{') {
+                reader.startObject();
+                state = State.QUERY;
+                checkResult();
+                if (readQuery()) {
+                    return true;
+                }
+            } else if (SUCCESS.equals(key)) {
+                resultSuccess = toBoolean(reader.readObject());
+                checkResult();
+            } else if (ERROR_MESSAGE.equals(key)) {
+                resultErrorMessage = toString(reader.readObject());
+            } else {
+                reader.readObject();
+            }
+        }
+        reader.endObject();
+        state = State.TOP;
+        if (resultSuccess == null) {
+            resultSuccess = false;
+        }
+        checkResult();
+        return false;
+    }
+
+    private boolean readQuery() {
+        while (reader.hasNext()) {
+            String key = reader.readString();
+            if (COLUMN_INFOS.equals(key)) {
+                //与之前的解析方式保持一致，通过JSONArray转换，列的信息很少，不影响内存
+                columnInfos = reader.readObject(JSONArray.class).toJavaList(DriverColumnInfo.class);
+            } else if (CURSOR.equals(key)) {
+                cursor = toString(reader.readObject());
+            } else if (ROWS.equals(key) && peekValue() == '[') {
+                reader.startArray();
+                if (columnInfos != null) {
+                    state = State.ROWS;
+                    return true;
+                }
+                bufferedRows = new ArrayList<>();
+                while (reader.hasNext()) {
+                    bufferedRows.add(reader.readObject(DriverRow.class));
+                }
+                reader.endArray();
+            } else {
+                reader.readObject();
+            }
+        }
+        reader.endObject();
+        state = State.RESULT;
+        return false;
+    }
+
+    /**
+     * 读取key之后，当前的token是冒号，{@link JSONReader#peek()}无法判断值的类型，直接查看下一个字符
+     */
+    private char peekValue() {
+        lexer.skipWhitespace();
+        return lexer.getCurrent();
+    }
+
+    private void checkResult() {
+        if (checkResult && Boolean.FALSE.equals(resultSuccess)) {
+            throw new FastModelException("execute error, reason:" + resultErrorMessage, null, host);
+        }
+    }
+
+    private FastModelException parseError(String message) {
+        FastModelException exception = new ResultParseException(message, host);
+        exception.addContextValue(SQL, response.getRequestSql()).addContextValue(REQUEST_ID, response.getRequestId());
+        return exception;
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Boolean ? (Boolean)value : Boolean.valueOf(value.toString());
+    }
+
+    private static String toString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public void close() {
+        state = State.DONE;
+        InputStream is = response.getResponse();
+        if (is == null) {
+            return;
+        }
+        try {
+            is.close();
+        } catch (IOException e) {
+            log.error("can not close stream", e);
+        }
+    }
+
+    private enum State {
+        /**
+         * 最外层
+         */
+        TOP,
+        /**
+         * DriverResult
+         */
+        RESULT,
+        /**
+         * QueryResult
+         */
+        QUERY,
+        /**
+         * 正在读取行
+         */
+        ROWS,
+        /**
+         * 读取结束
+         */
+        DONE
+    }
+}
@@ -42,6 +42,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 
 /**
@@ -65,6 +66,7 @@ public class FastModelEngineStatementTest {
         given(connection.getStrategy()).willReturn(executeCommand);
         FastModelWrapperResponse response = Mockito.mock(FastModelWrapperResponse.class);
         given(executeCommand.execute(anyString())).willReturn(response);
+        given(executeCommand.execute(anyString(), anyInt())).willReturn(response);
         String input = "{'success' : true}";
         InputStream inputStream = IOUtils.toInputStream(input, StandardCharsets.UTF_8);
         given(response.getResponse()).willReturn(inputStream);
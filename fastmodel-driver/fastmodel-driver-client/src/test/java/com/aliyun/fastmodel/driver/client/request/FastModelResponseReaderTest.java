@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.client.request;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.aliyun.fastmodel.driver.client.exception.FastModelException;
+import com.aliyun.fastmodel.driver.client.exception.ResultContainErrorException;
+import com.aliyun.fastmodel.driver.client.exception.ResultParseException;
+import com.aliyun.fastmodel.driver.client.request.FastModelWrapperResponse.RequestContext;
+import com.aliyun.fastmodel.driver.model.DriverRow;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * FastModelResponseReaderTest
+ *
+ * @author panguanjing
+ * @date 2022/7/7
+ */
+public class FastModelResponseReaderTest {
+
+    @Test
+    public void testNextRow() {
+        FastModelResponseReader reader = open("{\"data\":{\"data\":{\"columnInfos\":[{\"columnName\":\"name\"}],"
+            + "\"cursor\":\"c1\",\"rows\":[{\"data\":[\"a\"]},{\"data\":[\"b\"]}]},\"success\":true},"
+            + "\"success\":true}", true);
+        assertEquals(1, reader.getColumnInfos().size());
+        assertEquals("a", reader.nextRow().getValue(0));
+        assertEquals("b", reader.nextRow().getValue(0));
+        assertNull(reader.nextRow());
+        assertEquals("c1", reader.getCursor());
+    }
+
+    @Test
+    public void testRowsBeforeColumns() {
+        FastModelResponseReader reader = open("{\"success\":true,\"data\":{\"success\":true,\"data\":"
+            + "{\"rows\":[{\"data\":[1]}],\"columnInfos\":[{\"columnName\":\"id\"}]}}}", true);
+        assertEquals("id", reader.getColumnInfos().get(0).getColumnName());
+        DriverRow row = reader.nextRow();
+        assertEquals(1, row.getValue(0));
+        assertNull(reader.nextRow());
+        assertNull(reader.getCursor());
+    }
+
+    @Test(expected = ResultContainErrorException.class)
+    public void testError() {
+        FastModelResponseReader reader = open("{\"errCode\":\"500\",\"errMsg\":\"error\",\"success\":false}", true);
+        reader.finish();
+    }
+
+    @Test(expected = FastModelException.class)
+    public void testResultError() {
+        FastModelResponseReader reader = open("{\"data\":{\"errorMessage\":\"error\",\"success\":false},"
+            + "\"success\":true}", true);
+        reader.finish();
+    }
+
+    @Test
+    public void testResultErrorNotChecked() {
+        FastModelResponseReader reader = open("{\"data\":{\"errorMessage\":\"error\",\"success\":false},"
+            + "\"success\":true}", false);
+        reader.finish();
+        assertNull(reader.getColumnInfos());
+    }
+
+    @Test(expected = ResultParseException.class)
+    public void testParseError() {
+        open("<html></html>", true);
+    }
+
+    private FastModelResponseReader open(String json, boolean checkResult) {
+        InputStream inputStream = IOUtils.toInputStream(json, StandardCharsets.UTF_8);
+        FastModelWrapperResponse response = new FastModelWrapperResponse(inputStream, new RequestContext());
+        FastModelResponseReader reader = new FastModelResponseReader(response, "localhost", checkResult);
+        reader.open();
+        return reader;
+    }
+}
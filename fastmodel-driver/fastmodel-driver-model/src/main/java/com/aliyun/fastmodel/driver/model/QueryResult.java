@@ -44,9 +44,19 @@ public class QueryResult implements Serializable {
      */
     private final List<DriverRow> rows;
 
+    /**
+     * 分页时下一页的游标，没有下一页时为null
+     */
+    private final String cursor;
+
     public QueryResult(List<DriverColumnInfo> columnInfos, List<DriverRow> rows) {
+        this(columnInfos, rows, null);
+    }
+
+    public QueryResult(List<DriverColumnInfo> columnInfos, List<DriverRow> rows, String cursor) {
         this.columnInfos = columnInfos;
         this.rows = rows;
+        this.cursor = cursor;
     }
 
     public static final QueryResult EMPTY = new QueryResult(null, null);
@@ -21,6 +21,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.alibaba.fastjson.JSON;
 
@@ -49,43 +58,95 @@ public class FastModelHttpHandler implements HttpHandler {
 
     private static final FastModelParser PARSER = FastModelParserFactory.getInstance().get();
 
+    private static final int PARSE_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 批量解析使用的线程池，线程数以及排队数都有上限，队列满时由请求的线程自己解析
+     */
+    private static final ExecutorService PARSE_EXECUTOR = new ThreadPoolExecutor(PARSE_THREADS, PARSE_THREADS,
+        60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(PARSE_THREADS * 16), runnable -> {
+        Thread thread = new Thread(runnable, "batch-parse");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private final ResultCursorStore cursorStore = new ResultCursorStore();
+
     @Override
     public void handle(HttpExchange httpExchange) throws IOException {
+        FastModelRequestBody request = getRequest(httpExchange);
+        int fetchSize = request == null || request.getFetchSize() == null ? 0 : request.getFetchSize();
+        //根据游标获取下一页
+        if (request != null && request.getCursor() != null) {
+            handleResponse(httpExchange, new ResultWrapper(cursorStore.fetch(request.getCursor(), fetchSize)));
+            return;
+        }
+        //批量执行
+        if (request != null && request.getBatch() != null) {
+            handleResponse(httpExchange, new ResultWrapper(executeBatch(request.getBatch())));
+            return;
+        }
         //获取到sql
-        String language = getLanguage(httpExchange);
+        String language = request == null ? null : request.getFml();
         if (language == null) {
             handleResponse(httpExchange,
                 new ResultWrapper(DriverResult.error("can't parse the statement from request body")));
             return;
         }
         //使用parser进行解析
+        DriverResult execute;
         try {
-            BaseStatement parse = PARSER.parse(new DomainLanguage(language));
-            if (parse == null) {
-                handleResponse(httpExchange, new ResultWrapper(DriverResult.error("statement is null")));
-                return;
-            }
-            //解析成功，根据语句类型，转到不同的command进行处理
-            FmlCommand fmlCommand = CommandFactory.INSTANCE.getCommand(parse);
-            if (fmlCommand == null) {
-                handleResponse(httpExchange,
-                    new ResultWrapper(DriverResult.error("cannot find command with statement")));
-                return;
-            }
-            DriverResult execute = fmlCommand.execute(parse);
-            //直接返回json处理
-            handleResponse(httpExchange, new ResultWrapper(execute));
+            execute = execute(PARSER.parse(new DomainLanguage(language)));
         } catch (ParseException e) {
             //如果解析失败，直接返回处理
-            DriverResult driverResult = new DriverResult();
-            driverResult.setSuccess(false);
-            driverResult.setErrorMessage(e.getMessage());
-            handleResponse(httpExchange, new ResultWrapper(driverResult));
+            execute = DriverResult.error(e.getMessage());
+        }
+        //直接返回json处理
+        handleResponse(httpExchange, new ResultWrapper(cursorStore.open(execute, fetchSize)));
+    }
+
+    /**
+     * 批量执行，语句之间的解析相互独立，并行解析，
+     * 执行时按照顺序，后面的语句可能依赖前面的语句，某个语句失败时继续执行后面的语句
+     *
+     * @param batch 语句列表
+     * @return 每个语句的执行结果，成功时的结果为更新数
+     */
+    private DriverResult<List<DriverResult<Integer>>> executeBatch(List<String> batch) {
+        List<CompletableFuture<BaseStatement>> statements = batch.stream()
+            .map(sql -> CompletableFuture.supplyAsync(() -> (BaseStatement)PARSER.parse(new DomainLanguage(sql)),
+                PARSE_EXECUTOR))
+            .collect(Collectors.toList());
+        List<DriverResult<Integer>> results = new ArrayList<>(batch.size());
+        for (CompletableFuture<BaseStatement> future : statements) {
+            DriverResult execute;
+            try {
+                execute = execute(future.join());
+            } catch (CompletionException e) {
+                execute = DriverResult.error(e.getCause().getMessage());
+            } catch (RuntimeException e) {
+                log.error("execute batch statement error", e);
+                execute = DriverResult.error(e.getMessage());
+            }
+            results.add(execute.isSuccess() ? new DriverResult<>(1, true, null)
+                : new DriverResult<>(null, false, execute.getErrorMessage()));
         }
+        return new DriverResult<>(results, true, null);
+    }
 
+    private DriverResult execute(BaseStatement parse) {
+        if (parse == null) {
+            return DriverResult.error("statement is null");
+        }
+        //解析成功，根据语句类型，转到不同的command进行处理
+        FmlCommand fmlCommand = CommandFactory.INSTANCE.getCommand(parse);
+        if (fmlCommand == null) {
+            return DriverResult.error("cannot find command with statement");
+        }
+        return fmlCommand.execute(parse);
     }
 
-    private String getLanguage(HttpExchange query) {
+    private FastModelRequestBody getRequest(HttpExchange query) {
         InputStream requestBody = query.getRequestBody();
         if (requestBody == null) {
             return null;
@@ -93,8 +154,7 @@ public class FastModelHttpHandler implements HttpHandler {
         StringWriter output = new StringWriter();
         try {
             IOUtils.copy(requestBody, output, StandardCharsets.UTF_8);
-            FastModelRequestBody requestBody2 = JSON.parseObject(output.toString(), FastModelRequestBody.class);
-            return requestBody2.getFml();
+            return JSON.parseObject(output.toString(), FastModelRequestBody.class);
         } catch (IOException e) {
             return null;
         }
@@ -104,14 +164,14 @@ public class FastModelHttpHandler implements HttpHandler {
         OutputStream outputStream = httpExchange.getResponseBody();
         httpExchange.getResponseHeaders().set("Content-Type", "application/json");
         httpExchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
-        String htmlResponse = JSON.toJSONString(execute);
+        //使用chunked的方式直接写入，不需要先生成整个字符串计算长度
         if (execute.getData().isSuccess()) {
-            httpExchange.sendResponseHeaders(200, htmlResponse.length());
+            httpExchange.sendResponseHeaders(200, 0);
         } else {
-            httpExchange.sendResponseHeaders(500, htmlResponse.length());
+            httpExchange.sendResponseHeaders(500, 0);
         }
-        log.info("write the result:{}", htmlResponse);
-        outputStream.write(htmlResponse.getBytes());
+        log.info("write the result, success:{}", execute.getData().isSuccess());
+        JSON.writeJSONString(outputStream, StandardCharsets.UTF_8, execute);
         outputStream.flush();
         outputStream.close();
     }
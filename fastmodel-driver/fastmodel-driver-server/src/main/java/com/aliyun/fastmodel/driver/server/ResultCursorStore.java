@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.server;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.driver.model.DriverColumnInfo;
+import com.aliyun.fastmodel.driver.model.DriverResult;
+import com.aliyun.fastmodel.driver.model.DriverRow;
+import com.aliyun.fastmodel.driver.model.QueryResult;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * 服务端游标，用于分页返回查询的结果
+ * <p>
+ * 结果的行数超过fetchSize时，剩余的行保存在游标中，客户端使用游标获取下一页。
+ * 游标在读取到最后一页或者一段时间没有访问后释放。
+ *
+ * @author panguanjing
+ * @date 2022/7/7
+ */
+public class ResultCursorStore {
+
+    private static final long DEFAULT_EXPIRE_MINUTES = 5;
+
+    private final Cache<String, ResultCursor> cursors;
+
+    public ResultCursorStore() {
+        this(DEFAULT_EXPIRE_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public ResultCursorStore(long expire, TimeUnit timeUnit) {
+        cursors = CacheBuilder.newBuilder().expireAfterAccess(expire, timeUnit).build();
+    }
+
+    /**
+     * 返回结果的第一页，行数不超过fetchSize时直接返回
+     *
+     * @param result    执行的结果
+     * @param fetchSize 每页的行数
+     * @return 第一页的结果
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public DriverResult open(DriverResult result, int fetchSize) {
+        if (fetchSize <= 0 || !result.isSuccess() || !(result.getData() instanceof QueryResult)) {
+            return result;
+        }
+        QueryResult queryResult = (QueryResult)result.getData();
+        List<DriverRow> rows = queryResult.getRows();
+        if (rows == null || rows.size() <= fetchSize) {
+            return result;
+        }
+        ResultCursor cursor = new ResultCursor(UUID.randomUUID().toString(), queryResult);
+        cursors.put(cursor.id, cursor);
+        return new DriverResult<>(cursor.next(fetchSize), true, null);
+    }
+
+    /**
+     * 根据游标返回下一页
+     *
+     * @param cursor    游标
+     * @param fetchSize 每页的行数
+     * @return 下一页的结果
+     */
+    public DriverResult<QueryResult> fetch(String cursor, int fetchSize) {
+        ResultCursor resultCursor = cursors.getIfPresent(cursor);
+        if (resultCursor == null) {
+            return DriverResult.error("cursor is not exist or expired:" + cursor);
+        }
+        return new DriverResult<>(resultCursor.next(fetchSize), true, null);
+    }
+
+    /**
+     * 当前打开的游标数
+     *
+     * @return 游标数
+     */
+    public long size() {
+        cursors.cleanUp();
+        return cursors.size();
+    }
+
+    private class ResultCursor {
+
+        private final String id;
+
+        private final List<DriverColumnInfo> columnInfos;
+
+        private final List<DriverRow> rows;
+
+        private int offset;
+
+        private ResultCursor(String id, QueryResult queryResult) {
+            this.id = id;
+            columnInfos = queryResult.getColumnInfos();
+            rows = queryResult.getRows();
+        }
+
+        private synchronized QueryResult next(int fetchSize) {
+            int size = fetchSize > 0 ? fetchSize : rows.size();
+            int end = Math.min(rows.size(), offset + size);
+            List<DriverRow> page = rows.subList(offset, end);
+            offset = end;
+            if (offset < rows.size()) {
+                return new QueryResult(columnInfos, page, id);
+            }
+            cursors.invalidate(id);
+            return new QueryResult(columnInfos, page);
+        }
+    }
+}
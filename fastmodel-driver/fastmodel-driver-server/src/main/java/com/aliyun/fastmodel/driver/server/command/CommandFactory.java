@@ -17,10 +17,9 @@
 package com.aliyun.fastmodel.driver.server.command;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import lombok.extern.slf4j.Slf4j;
 import org.reflections.Reflections;
@@ -32,7 +31,7 @@ import org.reflections.Reflections;
 @Slf4j
 public class CommandFactory {
 
-    private final Map<String, FmlCommand> collection = new HashMap<>();
+    private final ClassRegistry<Void, FmlCommand> collection = new ClassRegistry<>();
 
     private CommandFactory() {
         Reflections reflections = new Reflections("com.aliyun.fastmodel.driver.server.command");
@@ -47,7 +46,7 @@ public class CommandFactory {
                 FmlCommand fmlCommand = (FmlCommand)clazz.getDeclaredConstructors()[0].newInstance();
                 Class[] classes = annotation.value();
                 for (Class c : classes) {
-                    collection.put(c.getName(), fmlCommand);
+                    collection.register(c, fmlCommand);
                 }
             } catch (InstantiationException e) {
                 log.error("instantiation exception", e);
@@ -63,7 +62,20 @@ public class CommandFactory {
     public static final CommandFactory INSTANCE = new CommandFactory();
 
     public FmlCommand getCommand(BaseStatement statement) {
-        return collection.get(statement.getClass().getName());
+        return collection.get(statement.getClass());
+    }
+
+    /**
+     * 注册命令，替换直接注册在该类型上的命令，一般用于测试中临时替换
+     *
+     * @param type    语句的类型
+     * @param command 命令，为null时取消该类型上的注册
+     * @return 之前直接注册在该类型上的命令，没有时返回null
+     */
+    public FmlCommand register(Class<? extends BaseStatement> type, FmlCommand command) {
+        FmlCommand previous = collection.getExact(null, type);
+        collection.register(type, command);
+        return previous;
     }
 
 }
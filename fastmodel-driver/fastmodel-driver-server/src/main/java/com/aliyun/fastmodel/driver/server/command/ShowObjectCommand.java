@@ -16,8 +16,11 @@
 
 package com.aliyun.fastmodel.driver.server.command;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.aliyun.fastmodel.core.tree.expr.literal.LongLiteral;
+import com.aliyun.fastmodel.core.tree.statement.select.Limit;
 import com.aliyun.fastmodel.core.tree.statement.show.ShowObjects;
 import com.aliyun.fastmodel.driver.model.DriverColumnInfo;
 import com.aliyun.fastmodel.driver.model.DriverDataType;
@@ -37,7 +40,7 @@ public class ShowObjectCommand implements FmlCommand<ShowObjects, QueryResult> {
     @Override
     public DriverResult<QueryResult> execute(ShowObjects params) {
         List<DriverColumnInfo> list = toColumnInfo();
-        List<DriverRow> rows = toRow();
+        List<DriverRow> rows = toRow(params.getLimit());
         QueryResult queryResult = new QueryResult(
             list,
             rows
@@ -45,8 +48,19 @@ public class ShowObjectCommand implements FmlCommand<ShowObjects, QueryResult> {
         return new DriverResult<>(queryResult, true, null);
     }
 
-    private List<DriverRow> toRow() {
-        return ImmutableList.of(new DriverRow(ImmutableList.of("abc", "bcd")));
+    /**
+     * 指定了limit时返回limit行，用于演示分页
+     */
+    private List<DriverRow> toRow(Limit limit) {
+        if (limit == null || !(limit.getRowCount() instanceof LongLiteral)) {
+            return ImmutableList.of(new DriverRow(ImmutableList.of("abc", "bcd")));
+        }
+        long rowCount = ((LongLiteral)limit.getRowCount()).getValue();
+        List<DriverRow> rows = new ArrayList<>();
+        for (long i = 0; i < rowCount; i++) {
+            rows.add(new DriverRow(ImmutableList.of("abc" + i, "bcd")));
+        }
+        return rows;
     }
 
     private List<DriverColumnInfo> toColumnInfo() {
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import com.alibaba.fastjson.JSON;
 
@@ -46,18 +47,42 @@ public class MockExecuteCommand implements ExecuteCommand<MockCommandProperties>
 
     @Override
     public FastModelWrapperResponse execute(String sql) throws CommandException {
-        URI uri = buildRequestUri();
-        return getResponse(uri, sql);
+        return execute(sql, 0);
     }
 
-    private FastModelWrapperResponse getResponse(URI uri, String sql)
+    @Override
+    public FastModelWrapperResponse execute(String sql, int fetchSize) throws CommandException {
+        FastModelRequestBody requestBody = new FastModelRequestBody();
+        requestBody.setFml(sql);
+        if (fetchSize > 0) {
+            requestBody.setFetchSize(fetchSize);
+        }
+        return getResponse(buildRequestUri(), requestBody, sql);
+    }
+
+    @Override
+    public FastModelWrapperResponse fetch(String cursor, int fetchSize) throws CommandException {
+        FastModelRequestBody requestBody = new FastModelRequestBody();
+        requestBody.setCursor(cursor);
+        if (fetchSize > 0) {
+            requestBody.setFetchSize(fetchSize);
+        }
+        return getResponse(buildRequestUri(), requestBody, null);
+    }
+
+    @Override
+    public FastModelWrapperResponse executeBatch(List<String> sqls) throws CommandException {
+        FastModelRequestBody requestBody = new FastModelRequestBody();
+        requestBody.setBatch(sqls);
+        return getResponse(buildRequestUri(), requestBody, String.join(";\n", sqls));
+    }
+
+    private FastModelWrapperResponse getResponse(URI uri, FastModelRequestBody requestBody, String sql)
         throws FastModelException {
         String nextRequestId = RequestIdUtils.createNextRequestId();
         try {
             HttpPost post = new HttpPost(uri);
             post.setHeader("content-type", "application/json");
-            FastModelRequestBody requestBody = new FastModelRequestBody();
-            requestBody.setFml(sql);
             post.setEntity(new StringEntity(JSON.toJSONString(requestBody), StandardCharsets.UTF_8));
             CloseableHttpResponse execute = httpClient.execute(post);
             HttpEntity entity = execute.getEntity();
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.server.websocket;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 合并短时间内连续提交的任务，只执行最后一次提交的内容
+ * <p>
+ * 按照key分别合并，例如每个连接使用各自的key，不同key的提交互不影响。
+ * 每次提交都会重新计时，超过delay没有新的提交时才执行。任务在单个线程中依次执行，
+ * 执行过程中的提交会在当前任务结束后再执行，不会堆积多个任务。
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+@Slf4j
+public class Debouncer<K, T> implements Closeable {
+
+    private final ScheduledExecutorService executor;
+
+    private final long delay;
+
+    private final TimeUnit timeUnit;
+
+    private final BiConsumer<K, T> action;
+
+    private final Map<K, Pending<T>> pendings = new HashMap<>();
+
+    public Debouncer(String name, long delay, TimeUnit timeUnit, BiConsumer<K, T> action) {
+        this.delay = delay;
+        this.timeUnit = timeUnit;
+        this.action = action;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 提交内容，替换同一个key之前还没有执行的内容
+     *
+     * @param key   合并的key
+     * @param value 内容
+     */
+    public synchronized void submit(K key, T value) {
+        Pending<T> previous = pendings.get(key);
+        if (previous != null) {
+            previous.future.cancel(false);
+        }
+        Pending<T> pending = new Pending<>(value);
+        pending.future = executor.schedule(() -> fire(key, pending), delay, timeUnit);
+        pendings.put(key, pending);
+    }
+
+    /**
+     * 取消key还没有执行的内容，例如连接断开时
+     *
+     * @param key 合并的key
+     */
+    public synchronized void cancel(K key) {
+        Pending<T> pending = pendings.remove(key);
+        if (pending != null) {
+            pending.future.cancel(false);
+        }
+    }
+
+    /**
+     * 还没有执行的key的数量
+     *
+     * @return 数量
+     */
+    public synchronized int getPendingCount() {
+        return pendings.size();
+    }
+
+    private void fire(K key, Pending<T> pending) {
+        synchronized (this) {
+            //已经被新的提交替换或者被取消
+            if (!pendings.remove(key, pending)) {
+                return;
+            }
+        }
+        try {
+            action.accept(key, pending.value);
+        } catch (RuntimeException e) {
+            log.error("debounce action error", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static class Pending<T> {
+
+        private final T value;
+
+        private ScheduledFuture<?> future;
+
+        private Pending(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.server.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.parser.FastModelParser;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
+import com.aliyun.fastmodel.transform.plantuml.FragmentCache;
+import com.aliyun.fastmodel.transform.plantuml.PlantUmlTransformer;
+import com.aliyun.fastmodel.transform.plantuml.diagram.DiagramRenderPool;
+import com.aliyun.fastmodel.transform.plantuml.exception.VisualParseException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import net.sourceforge.plantuml.FileFormat;
+import net.sourceforge.plantuml.code.Base64Coder;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 将模型生成plantuml文本以及png、svg图片，带有结果的缓存
+ * <p>
+ * 使用规范化后的模型文本的sha256作为key，规范化只统一换行符以及去掉末尾的空白。
+ * 缓存按照结果的长度限制总权重，相同的模型并发生成文本时只会生成一次。
+ * 模型变化时，没有修改的语句复用{@link FragmentCache}中的片段。
+ * 图片在{@link DiagramRenderPool}中异步生成，不阻塞调用方的线程。
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DiagramRenderer {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private static final String UML = "uml";
+
+    private final FastModelParser fastModelParser;
+
+    private final DiagramRenderPool renderPool;
+
+    private final PlantUmlTransformer transformer;
+
+    private final FragmentCache fragmentCache;
+
+    private final Cache<HashCode, String> diagrams;
+
+    /**
+     * @param fastModelParser  解析模型的parser
+     * @param renderPool       生成图片的线程池
+     * @param maximumWeight    缓存结果的最大总长度
+     * @param maximumFragments 缓存的最大片段数
+     */
+    public DiagramRenderer(FastModelParser fastModelParser, DiagramRenderPool renderPool, long maximumWeight,
+                           long maximumFragments) {
+        this.fastModelParser = fastModelParser;
+        this.renderPool = renderPool;
+        fragmentCache = new FragmentCache(maximumFragments);
+        transformer = new PlantUmlTransformer(fragmentCache);
+        diagrams = CacheBuilder.newBuilder()
+            .maximumWeight(maximumWeight)
+            .<HashCode, String>weigher((key, value) -> value.length())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 生成plantuml的文本
+     *
+     * @param model 模型文本
+     * @return plantuml文本
+     */
+    public String toUml(String model) {
+        String normalized = normalize(model);
+        return get(UML, normalized, () -> generate(normalized));
+    }
+
+    /**
+     * 异步生成图片，使用base64编码的data uri表示，模型的解析也在生成图片的线程池中执行。
+     * 取消返回的future时，会取消正在生成的图片
+     *
+     * @param model      模型文本
+     * @param fileFormat 图片格式，例如png、svg
+     * @param timeout    生成图片的超时时间
+     * @param timeUnit   超时时间的单位
+     * @return 图片的data uri
+     */
+    public CompletableFuture<String> toImage(String model, FileFormat fileFormat, long timeout,
+                                             TimeUnit timeUnit) {
+        String normalized = normalize(model);
+        HashCode key = key(fileFormat.name(), normalized);
+        String image = diagrams.getIfPresent(key);
+        if (image != null) {
+            return CompletableFuture.completedFuture(image);
+        }
+        //解析以及生成UML文本也比较耗时，和图片一起在renderPool中执行
+        CompletableFuture<byte[]> render = renderPool.submit(() -> toUml(normalized), fileFormat, timeout,
+            timeUnit);
+        CompletableFuture<String> result = render.thenApply(bytes -> {
+            String dataUri = "data:" + fileFormat.getMimeType() + ";base64,"
+                + Base64Coder.encodeLines(bytes).replaceAll("\\s", "");
+            diagrams.put(key, dataUri);
+            return dataUri;
+        });
+        result.whenComplete((dataUri, e) -> {
+            if (result.isCancelled()) {
+                render.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public CacheStats getStats() {
+        return diagrams.stats();
+    }
+
+    public CacheStats getFragmentStats() {
+        return fragmentCache.getStats();
+    }
+
+    private String get(String format, String normalized, Callable<String> loader) {
+        try {
+            return diagrams.get(key(format, normalized), loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new VisualParseException("render diagram error", e.getCause());
+        }
+    }
+
+    private String generate(String model) {
+        List<BaseStatement> statements = fastModelParser.multiParse(new DomainLanguage(model));
+        return transformer.transform(new CompositeStatement(statements)).getNode();
+    }
+
+    private static HashCode key(String format, String normalized) {
+        return HASH_FUNCTION.newHasher()
+            .putString(format, StandardCharsets.UTF_8)
+            .putString(normalized, StandardCharsets.UTF_8)
+            .hash();
+    }
+
+    private static String normalize(String model) {
+        return StringUtils.stripEnd(StringUtils.replace(model, "\r\n", "\n"), null);
+    }
+}
@@ -16,30 +16,22 @@
 
 package com.aliyun.fastmodel.driver.server.websocket;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.alibaba.fastjson.JSON;
 
-import com.aliyun.fastmodel.core.parser.DomainLanguage;
-import com.aliyun.fastmodel.core.parser.FastModelParser;
 import com.aliyun.fastmodel.core.parser.FastModelParserFactory;
-import com.aliyun.fastmodel.core.tree.BaseStatement;
-import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
 import com.aliyun.fastmodel.driver.server.websocket.model.Message;
 import com.aliyun.fastmodel.driver.server.websocket.model.MessageAction;
-import com.aliyun.fastmodel.transform.api.Transformer;
-import com.aliyun.fastmodel.transform.api.TransformerFactory;
-import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
-import com.aliyun.fastmodel.transform.api.dialect.DialectName;
-import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import com.aliyun.fastmodel.transform.plantuml.diagram.DiagramRenderPool;
 import lombok.extern.slf4j.Slf4j;
 import net.sourceforge.plantuml.FileFormat;
-import net.sourceforge.plantuml.FileFormatOption;
-import net.sourceforge.plantuml.SourceStringReader;
-import net.sourceforge.plantuml.code.Base64Coder;
 import org.apache.commons.lang3.StringUtils;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
@@ -54,10 +46,57 @@ import org.java_websocket.server.WebSocketServer;
 @Slf4j
 public class FastModelWebSocketServer extends WebSocketServer {
 
-    private Transformer<BaseStatement> transformer = TransformerFactory.getInstance().get(
-        DialectMeta.getByName(DialectName.PLANTUML));
+    /**
+     * 缓存的结果的最大总长度
+     */
+    private static final long MAXIMUM_DIAGRAM_WEIGHT = 64 * 1024 * 1024;
 
-    private FastModelParser fastModelParser = FastModelParserFactory.getInstance().get();
+    private static final long MAXIMUM_FRAGMENTS = 10000;
+
+    /**
+     * 编辑器连续输入时，停止输入超过该时间才生成
+     */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    /**
+     * 最多排队生成的图片数，超过时拒绝
+     */
+    private static final int RENDER_QUEUE_CAPACITY = 16;
+
+    private static final long RENDER_TIMEOUT_SECONDS = 30;
+
+    /**
+     * 最多排队生成plantuml文本的请求数，超过时拒绝
+     */
+    private static final int EXECUTE_QUEUE_CAPACITY = 16;
+
+    private static final int EXECUTE_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private final DiagramRenderPool renderPool = new DiagramRenderPool(
+        Runtime.getRuntime().availableProcessors(), RENDER_QUEUE_CAPACITY);
+
+    private final DiagramRenderer diagramRenderer = new DiagramRenderer(
+        FastModelParserFactory.getInstance().get(), renderPool, MAXIMUM_DIAGRAM_WEIGHT, MAXIMUM_FRAGMENTS);
+
+    /**
+     * 生成plantuml文本的线程池，解析以及转换整个模型比较耗时，不在debouncer的线程中执行
+     */
+    private final ThreadPoolExecutor executeExecutor = new ThreadPoolExecutor(
+        EXECUTE_THREADS, EXECUTE_THREADS, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(EXECUTE_QUEUE_CAPACITY),
+        runnable -> {
+            Thread thread = new Thread(runnable, "websocket-execute-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    /**
+     * 按照连接合并编辑器的请求，不同连接的请求互不影响，debouncer只负责合并，不执行耗时的操作
+     */
+    private final Debouncer<WebSocket, Message> executeDebouncer = new Debouncer<>("websocket-execute",
+        DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, this::execute);
+
+    private final Debouncer<WebSocket, Message> renderDebouncer = new Debouncer<>("websocket-render",
+        DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, this::render);
 
     public FastModelWebSocketServer(int port) {
         super(new InetSocketAddress(port));
@@ -71,6 +110,10 @@ public class FastModelWebSocketServer extends WebSocketServer {
 
     @Override
     public void onClose(WebSocket webSocket, int i, String s, boolean b) {
+        //断开连接后不再需要还没有执行的请求以及正在生成的图片
+        executeDebouncer.cancel(webSocket);
+        renderDebouncer.cancel(webSocket);
+        cancelRender(webSocket);
         broadcast(webSocket + "has left the room!");
         log.info(webSocket + " has left the room");
     }
@@ -83,10 +126,11 @@ public class FastModelWebSocketServer extends WebSocketServer {
         }
         switch (message1.getAction()) {
             case EXECUTE:
-                execute(message1);
+                executeDebouncer.submit(webSocket, message1);
                 break;
             case RENDER:
-                render(message1);
+            case RENDER_SVG:
+                renderDebouncer.submit(webSocket, message1);
                 break;
             default:
                 log.error("unSupported the message action:" + message1.getAction());
@@ -94,36 +138,68 @@ public class FastModelWebSocketServer extends WebSocketServer {
         }
     }
 
-    private void render(Message message) {
-        List<BaseStatement> statements = fastModelParser.multiParse(new DomainLanguage(message.getModel()));
-        CompositeStatement compositeStatement = new CompositeStatement(statements);
-        DialectNode transform = transformer.transform(compositeStatement);
-        SourceStringReader reader = new SourceStringReader(transform.getNode());
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try {
-            reader.outputImage(baos, 0, new FileFormatOption(FileFormat.PNG));
-            baos.flush();
-            final String encodedBytes = "data:image/png;base64,"
-                + Base64Coder.encodeLines(baos.toByteArray()).replaceAll("\\s", "");
-            baos.close();
-            Message returnMessage = new Message(encodedBytes, MessageAction.IMAGE);
-            broadcast(JSON.toJSONString(returnMessage));
-        } catch (IOException e) {
-            log.error("output plantuml error", e);
+    /**
+     * 图片在renderPool中异步生成，同一个连接新的请求会取消之前还没有完成的请求
+     */
+    private void render(WebSocket webSocket, Message message) {
+        cancelRender(webSocket);
+        FileFormat fileFormat = message.getAction() == MessageAction.RENDER_SVG ? FileFormat.SVG : FileFormat.PNG;
+        CompletableFuture<String> future = diagramRenderer.toImage(message.getModel(), fileFormat,
+            RENDER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        webSocket.setAttachment(future);
+        future.whenComplete((encodedBytes, e) -> {
+            if (encodedBytes != null) {
+                broadcast(JSON.toJSONString(new Message(encodedBytes, MessageAction.IMAGE)));
+                return;
+            }
+            if (future.isCancelled()) {
+                return;
+            }
+            log.error("render diagram error", e);
+            sendError(webSocket, "render error:" + e.getMessage());
+        });
+    }
+
+    private void cancelRender(WebSocket webSocket) {
+        CompletableFuture<String> future = webSocket.getAttachment();
+        if (future != null) {
+            future.cancel(true);
         }
     }
 
-    private void execute(Message message) {
+    /**
+     * plantuml文本在executeExecutor中异步生成，队列已满时拒绝并通知该连接
+     */
+    private void execute(WebSocket webSocket, Message message) {
         if (StringUtils.isBlank(message.getModel())) {
             Message message1 = new Message("model is null", MessageAction.PRINT);
             broadcast(JSON.toJSONString(message1));
             return;
         }
-        List<BaseStatement> statements = fastModelParser.multiParse(new DomainLanguage(message.getModel()));
-        CompositeStatement compositeStatement = new CompositeStatement(statements);
-        DialectNode transform = transformer.transform(compositeStatement);
-        Message returnMessage = new Message(transform.getNode(), MessageAction.RENDER);
-        broadcast(JSON.toJSONString(returnMessage));
+        CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> diagramRenderer.toUml(message.getModel()),
+                executeExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("execute queue is full, capacity:{}", EXECUTE_QUEUE_CAPACITY);
+            sendError(webSocket, "execute error:too many requests, please retry later");
+            return;
+        }
+        future.whenComplete((uml, e) -> {
+            if (e == null) {
+                broadcast(JSON.toJSONString(new Message(uml, MessageAction.RENDER)));
+                return;
+            }
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            log.error("execute model error", cause);
+            sendError(webSocket, "execute error:" + cause.getMessage());
+        });
+    }
+
+    private void sendError(WebSocket webSocket, String error) {
+        if (webSocket.isOpen()) {
+            webSocket.send(JSON.toJSONString(new Message(error, MessageAction.PRINT)));
+        }
     }
 
     @Override
@@ -138,6 +214,15 @@ public class FastModelWebSocketServer extends WebSocketServer {
         setConnectionLostTimeout(100);
     }
 
+    @Override
+    public void stop(int timeout) throws InterruptedException {
+        executeDebouncer.close();
+        renderDebouncer.close();
+        executeExecutor.shutdownNow();
+        renderPool.close();
+        super.stop(timeout);
+    }
+
     public static void main(String[] args) {
         FastModelWebSocketServer fastModelWebSocketServer = new FastModelWebSocketServer(8887);
         fastModelWebSocketServer.start();
@@ -38,6 +38,11 @@ public enum MessageAction {
      */
     RENDER,
 
+    /**
+     * 渲染svg
+     */
+    RENDER_SVG,
+
     /**
      * Image
      */
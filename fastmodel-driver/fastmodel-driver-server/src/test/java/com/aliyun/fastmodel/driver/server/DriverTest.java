@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.driver.server;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
@@ -24,12 +25,17 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Properties;
 
+import com.aliyun.fastmodel.core.tree.statement.table.DropTable;
+import com.aliyun.fastmodel.driver.server.command.CommandFactory;
+import com.aliyun.fastmodel.driver.server.command.FmlCommand;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Desc:
@@ -62,6 +68,103 @@ public class DriverTest extends DriverBaseTest {
         connection.close();
     }
 
+    @Test
+    public void testFetchSize() throws SQLException {
+        Properties properties = getProperties();
+        Connection connection = DriverManager.getConnection(url, properties);
+        Statement statement = connection.createStatement();
+        statement.setFetchSize(10);
+        ResultSet resultSet = statement.executeQuery("show tables limit 25");
+        assertEquals(10, resultSet.getFetchSize());
+        int count = 0;
+        while (resultSet.next()) {
+            assertEquals("abc" + count, resultSet.getString(1));
+            count++;
+            if (count == 15) {
+                resultSet.setFetchSize(3);
+            }
+        }
+        assertEquals(25, count);
+        resultSet.close();
+        assertTrue(resultSet.isClosed());
+        connection.close();
+    }
+
+    @Test
+    public void testMaxRows() throws SQLException {
+        Properties properties = getProperties();
+        Connection connection = DriverManager.getConnection(url, properties);
+        Statement statement = connection.createStatement();
+        statement.setMaxRows(7);
+        ResultSet resultSet = statement.executeQuery("show tables limit 25");
+        int count = 0;
+        while (resultSet.next()) {
+            count++;
+        }
+        assertEquals(7, count);
+        connection.close();
+    }
+
+    @Test
+    public void testExecuteBatch() throws SQLException {
+        Properties properties = getProperties();
+        Connection connection = DriverManager.getConnection(url, properties);
+        Statement statement = connection.createStatement();
+        statement.addBatch("create dim table t1 (a bigint) comment 'comment'");
+        statement.addBatch("create dim table t2 (a bigint) comment 'comment'");
+        int[] counts = statement.executeBatch();
+        assertArrayEquals(new int[] {1, 1}, counts);
+        assertEquals(0, statement.executeBatch().length);
+        connection.close();
+    }
+
+    @Test
+    public void testExecuteBatchWithError() throws SQLException {
+        Properties properties = getProperties();
+        Connection connection = DriverManager.getConnection(url, properties);
+        PreparedStatement preparedStatement = connection.prepareStatement(
+            "create dim table t1 (a bigint) comment ?");
+        preparedStatement.setString(1, "first");
+        preparedStatement.addBatch();
+        preparedStatement.addBatch("create dim table t2 (a bigint");
+        preparedStatement.setString(1, "third");
+        preparedStatement.addBatch();
+        try {
+            preparedStatement.executeBatch();
+            fail("expect BatchUpdateException");
+        } catch (BatchUpdateException e) {
+            assertArrayEquals(new int[] {1, Statement.EXECUTE_FAILED, 1}, e.getUpdateCounts());
+            assertTrue(e.getMessage().contains("index:1"));
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testExecuteBatchWithCommandException() throws SQLException {
+        FmlCommand<DropTable, Void> failing = params -> {
+            throw new IllegalStateException("drop table is not allowed");
+        };
+        FmlCommand previous = CommandFactory.INSTANCE.register(DropTable.class, failing);
+        try {
+            Properties properties = getProperties();
+            Connection connection = DriverManager.getConnection(url, properties);
+            Statement statement = connection.createStatement();
+            statement.addBatch("create dim table t1 (a bigint) comment 'comment'");
+            statement.addBatch("drop table t1");
+            statement.addBatch("create dim table t2 (a bigint) comment 'comment'");
+            try {
+                statement.executeBatch();
+                fail("expect BatchUpdateException");
+            } catch (BatchUpdateException e) {
+                assertArrayEquals(new int[] {1, Statement.EXECUTE_FAILED, 1}, e.getUpdateCounts());
+                assertTrue(e.getMessage().contains("drop table is not allowed"));
+            }
+            connection.close();
+        } finally {
+            CommandFactory.INSTANCE.register(DropTable.class, previous);
+        }
+    }
+
     @Test
     public void testPrepare() throws SQLException {
         Properties properties = getProperties();
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.server.websocket;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * DebouncerTest
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DebouncerTest {
+
+    @Test
+    public void testCoalesce() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        try (Debouncer<String, Integer> debouncer = new Debouncer<>("test", 100, TimeUnit.MILLISECONDS, (key, value) -> {
+            values.add(value);
+            latch.countDown();
+        })) {
+            for (int i = 0; i < 10; i++) {
+                debouncer.submit("a", i);
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            assertEquals(1, values.size());
+            assertEquals(9, values.get(0).intValue());
+        }
+    }
+
+    @Test
+    public void testSubmitAfterFire() throws InterruptedException {
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        try (Debouncer<String, Integer> debouncer = new Debouncer<>("test", 10, TimeUnit.MILLISECONDS, (key, value) -> {
+            if (value == 1) {
+                throw new IllegalStateException("error");
+            }
+            values.add(value);
+            latch.countDown();
+        })) {
+            debouncer.submit("a", 1);
+            Thread.sleep(100);
+            debouncer.submit("a", 2);
+            Thread.sleep(100);
+            debouncer.submit("a", 3);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(2, values.size());
+        }
+    }
+
+    @Test
+    public void testKeys() throws InterruptedException {
+        Map<String, Integer> values = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        try (Debouncer<String, Integer> debouncer = new Debouncer<>("test", 100, TimeUnit.MILLISECONDS,
+            (key, value) -> {
+                values.put(key, value);
+                latch.countDown();
+            })) {
+            debouncer.submit("a", 1);
+            debouncer.submit("b", 2);
+            debouncer.submit("a", 3);
+            assertEquals(2, debouncer.getPendingCount());
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(3, values.get("a").intValue());
+            assertEquals(2, values.get("b").intValue());
+            assertEquals(0, debouncer.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        List<String> keys = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        try (Debouncer<String, Integer> debouncer = new Debouncer<>("test", 50, TimeUnit.MILLISECONDS,
+            (key, value) -> {
+                keys.add(key);
+                latch.countDown();
+            })) {
+            debouncer.submit("a", 1);
+            debouncer.submit("b", 2);
+            debouncer.cancel("a");
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertEquals(Collections.singletonList("b"), keys);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.driver.server.websocket;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.aliyun.fastmodel.core.exception.ParseException;
+import com.aliyun.fastmodel.core.parser.FastModelParserFactory;
+import com.aliyun.fastmodel.transform.plantuml.diagram.DiagramRenderPool;
+import com.google.common.cache.CacheStats;
+import net.sourceforge.plantuml.FileFormat;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * DiagramRendererTest
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DiagramRendererTest {
+
+    private static final String MODEL = "create dim table a (b bigint) comment 'a';\n"
+        + "create fact table c (d bigint) comment 'c';";
+
+    DiagramRenderPool renderPool = new DiagramRenderPool(1, 4);
+
+    DiagramRenderer diagramRenderer = new DiagramRenderer(FastModelParserFactory.getInstance().get(), renderPool,
+        1024 * 1024, 100);
+
+    @After
+    public void tearDown() {
+        renderPool.close();
+    }
+
+    @Test
+    public void testSameModel() {
+        String uml = diagramRenderer.toUml(MODEL);
+        assertTrue(uml.contains("Table(a,a)"));
+        assertSame(uml, diagramRenderer.toUml(MODEL.replace("\n", "\r\n") + "\n  "));
+        CacheStats stats = diagramRenderer.getStats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    public void testReuseFragment() {
+        diagramRenderer.toUml(MODEL);
+        String uml = diagramRenderer.toUml(MODEL.replace("'c'", "'changed'"));
+        assertTrue(uml.contains("Table(c,changed)"));
+        CacheStats fragmentStats = diagramRenderer.getFragmentStats();
+        assertEquals(1, fragmentStats.hitCount());
+        assertEquals(3, fragmentStats.missCount());
+    }
+
+    @Test
+    public void testImage() throws Exception {
+        String png = diagramRenderer.toImage(MODEL, FileFormat.PNG, 30, TimeUnit.SECONDS).get();
+        assertTrue(png.startsWith("data:image/png;base64,"));
+        assertSame(png, diagramRenderer.toImage(MODEL, FileFormat.PNG, 30, TimeUnit.SECONDS).get());
+        //png以及uml各一次
+        assertEquals(2, diagramRenderer.getStats().missCount());
+        String svg = diagramRenderer.toImage(MODEL, FileFormat.SVG, 30, TimeUnit.SECONDS).get();
+        assertTrue(svg.startsWith("data:image/svg+xml;base64,"));
+    }
+
+    @Test
+    public void testParseError() throws InterruptedException {
+        CompletableFuture<String> future = diagramRenderer.toImage("create dim table a (b bigint", FileFormat.PNG,
+            30, TimeUnit.SECONDS);
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+        }
+    }
+}
@@ -210,15 +210,15 @@ import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.WindowFrameCo
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParserBaseVisitor;
 import com.aliyun.fastmodel.parser.generate.FastModelLexer;
 import com.google.common.collect.ImmutableList;
-import lombok.extern.slf4j.Slf4j;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
-import org.apache.commons.lang3.time.StopWatch;
 
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getLocation;
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getOrigin;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.getOriginText;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.withOrigin;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -227,7 +227,6 @@ import static java.util.stream.Collectors.toList;
  * @author panguanjing
  * @date 2020/11/5
  */
-@Slf4j
 public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     public static final String IF = "if";
@@ -237,12 +236,7 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitRoot(RootContext ctx) {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-        Node node = visit(ctx.sqlStatements());
-        stopWatch.stop();
-        log.info("第{}步运行时间：{}", 1, stopWatch.getTime());
-        return node;
+        return visit(ctx.sqlStatements());
     }
 
     @Override
@@ -259,13 +253,13 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             Node node = visit(sqlStatementContext);
             list.add((BaseStatement)node);
         }
-        return new CompositeStatement(getLocation(ctx), getOrigin(ctx), list);
+        return withOrigin(new CompositeStatement(getLocation(ctx), null, list), ctx);
     }
 
     @Override
     public Node visitSqlStatement(SqlStatementContext ctx) {
         BaseStatement statement = (BaseStatement)super.visitSqlStatement(ctx);
-        statement.setOrigin(getOrigin(ctx));
+        statement.setOriginText(getOriginText(ctx));
         return statement;
     }
 
@@ -276,7 +270,7 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitExpressionsInParenthesis(ExpressionsInParenthesisContext ctx) {
-        return new Row(getLocation(ctx), getOrigin(ctx), visit(ctx.expression(), BaseExpression.class));
+        return withOrigin(new Row(getLocation(ctx), null, visit(ctx.expression(), BaseExpression.class)), ctx);
     }
 
     @Override
@@ -310,16 +304,16 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
         if (columnVarContext != null) {
             boolean isMacro = columnVarContext.MACRO() != null && !columnVarContext.MACRO().isEmpty();
             if (isMacro) {
-                return new TableOrColumn(getLocation(ctx), getOrigin(ctx),
-                    getQualifiedName(columnVarContext.tableName()), VarType.MACRO);
+                return withOrigin(new TableOrColumn(getLocation(ctx), null,
+                    getQualifiedName(columnVarContext.tableName()), VarType.MACRO), ctx);
             }
             boolean isDollar = columnVarContext.DOLLAR() != null;
             if (isDollar) {
-                return new TableOrColumn(getLocation(ctx), getOrigin(ctx),
-                    getQualifiedName(columnVarContext.tableName()), VarType.DOLLAR);
+                return withOrigin(new TableOrColumn(getLocation(ctx), null,
+                    getQualifiedName(columnVarContext.tableName()), VarType.DOLLAR), ctx);
             }
         }
-        return new TableOrColumn(getLocation(ctx), getOrigin(ctx), getQualifiedName(ctx.tableName()), null);
+        return withOrigin(new TableOrColumn(getLocation(ctx), null, getQualifiedName(ctx.tableName()), null), ctx);
     }
 
     @Override
@@ -377,57 +371,57 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             if (ctx.expression().size() == 3) {
                 elseExpression = (BaseExpression)visit(ctx.expression(2));
             }
-            return new IfExpression(
+            return withOrigin(new IfExpression(
                 getLocation(ctx),
-                getOrigin(ctx),
+                null,
                 (BaseExpression)visit(ctx.expression(0)),
                 (BaseExpression)visit(ctx.expression(1)),
-                elseExpression);
+                elseExpression), ctx);
         }
 
         if (name.toString().equalsIgnoreCase(COALESCE)) {
-            return new CoalesceExpression(getLocation(ctx), getOrigin(ctx),
-                visit(ctx.expression(), BaseExpression.class));
+            return withOrigin(new CoalesceExpression(getLocation(ctx), null,
+                visit(ctx.expression(), BaseExpression.class)), ctx);
         }
 
         if (DATETIME_ADD_START.equalsIgnoreCase(name.toString())) {
             BaseExpression visit = (BaseExpression)visit(ctx.expression(0));
             IntervalExpression intervalExpression = (IntervalExpression)visit(ctx.expression(1));
             if (ctx.expression().size() == 2) {
-                return new DateTimeAddStartExpression(
+                return withOrigin(new DateTimeAddStartExpression(
                     getLocation(ctx),
-                    getOrigin(ctx),
+                    null,
                     visit,
                     intervalExpression, null
-                );
+                ), ctx);
             } else if (ctx.expression().size() == 3) {
-                return new DateTimeAddStartExpression(
+                return withOrigin(new DateTimeAddStartExpression(
                     getLocation(ctx),
-                    getOrigin(ctx),
+                    null,
                     visit,
                     intervalExpression,
                     (StringLiteral)visit(ctx.expression(2))
-                );
+                ), ctx);
             }
         }
         if (DATETIME_ADD_END.equalsIgnoreCase(name.toString())) {
             BaseExpression visit = (BaseExpression)visit(ctx.expression(0));
             IntervalExpression intervalExpression = (IntervalExpression)visit(ctx.expression(1));
             if (ctx.expression().size() == 2) {
-                return new DateTimeAddEndExpression(
+                return withOrigin(new DateTimeAddEndExpression(
                     getLocation(ctx),
-                    getOrigin(ctx),
+                    null,
                     visit,
                     intervalExpression, null
-                );
+                ), ctx);
             } else if (ctx.expression().size() == 3) {
-                return new DateTimeAddEndExpression(
+                return withOrigin(new DateTimeAddEndExpression(
                     getLocation(ctx),
-                    getOrigin(ctx),
+                    null,
                     visit,
                     intervalExpression,
                     (StringLiteral)visit(ctx.expression(2))
-                );
+                ), ctx);
             }
         }
         List<BaseExpression> list = visit(ctx.expression(), BaseExpression.class);
@@ -446,13 +440,13 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             }
         }
         boolean distinct = ctx.setQuantifier() != null && ctx.setQuantifier().KW_DISTINCT() != null;
-        return new FunctionCall(
+        return withOrigin(new FunctionCall(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             getQualifiedName(ctx.qualifiedName()),
             distinct,
             list,
-            window.orElse(null), nulls, baseExpression.orElse(null), orderBy);
+            window.orElse(null), nulls, baseExpression.orElse(null), orderBy), ctx);
     }
 
     @Override
@@ -462,12 +456,12 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitCastExpression(CastExpressionContext ctx) {
-        return new Cast(
+        return withOrigin(new Cast(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.expression()),
             (BaseDataType)visit(ctx.primitiveType())
-        );
+        ), ctx);
     }
 
     @Override
@@ -488,85 +482,85 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitCaseExpression(CaseExpressionContext ctx) {
-        return new SimpleCaseExpression(
+        return withOrigin(new SimpleCaseExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.operand),
             visit(ctx.whenClause(), WhenClause.class),
             visitIfPresent(ctx.elseExpression, BaseExpression.class).orElse(null)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitWhenExpression(WhenExpressionContext ctx) {
-        return new SearchedCaseExpression(
+        return withOrigin(new SearchedCaseExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             visit(ctx.whenClause(), WhenClause.class),
             visitIfPresent(ctx.elseExpression, BaseExpression.class).orElse(null)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitFloorExpression(FloorExpressionContext ctx) {
-        return new Floor(
+        return withOrigin(new Floor(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.expression()),
             DateTimeEnum.getByCode(ctx.floorDateQualifiers().getText())
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitExtractExpression(ExtractExpressionContext ctx) {
-        return new Extract(
+        return withOrigin(new Extract(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             DateTimeEnum.getByCode(ctx.timeQualifiers().getText()),
             (BaseExpression)visit(ctx.expression())
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitComparison(ComparisonContext ctx) {
-        return new ComparisonExpression(
+        return withOrigin(new ComparisonExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             ComparisonOperator.getByCode(ctx.comparisonOperator().getText()),
             (BaseExpression)visit(ctx.left),
             (BaseExpression)visit(ctx.right)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitSubqueryExpression(SubqueryExpressionContext ctx) {
-        return new SubQueryExpression(
+        return withOrigin(new SubQueryExpression(
             getLocation(ctx),
-            getOrigin(ctx),
-            (Query)visit(ctx.query()));
+            null,
+            (Query)visit(ctx.query())), ctx);
     }
 
     @Override
     public Node visitExists(ExistsContext ctx) {
-        return new ExistsPredicate(
+        return withOrigin(new ExistsPredicate(
             getLocation(ctx),
-            getOrigin(ctx),
-            new SubQueryExpression(getLocation(ctx.query()), getOrigin(ctx.query()), (Query)visit(ctx.query()))
-        );
+            null,
+            withOrigin(new SubQueryExpression(getLocation(ctx.query()), null, (Query)visit(ctx.query())), ctx.query())
+        ), ctx);
     }
 
     @Override
     public Node visitDereference(DereferenceContext ctx) {
-        return new DereferenceExpression(
+        return withOrigin(new DereferenceExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.base),
-            (Identifier)visit(ctx.fieldName));
+            (Identifier)visit(ctx.fieldName)), ctx);
     }
 
     @Override
     public Node visitRowConstructor(RowConstructorContext ctx) {
-        return new Row(getLocation(ctx), getOrigin(ctx), visit(ctx.expression(), BaseExpression.class));
+        return withOrigin(new Row(getLocation(ctx), null, visit(ctx.expression(), BaseExpression.class)), ctx);
     }
 
     @Override
@@ -577,7 +571,7 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             (BaseExpression)visit(ctx.left),
             (BaseExpression)visit(ctx.right));
         if (terminalNode != null) {
-            expression = new NotExpression(getLocation(ctx), getOrigin(ctx), expression);
+            expression = withOrigin(new NotExpression(getLocation(ctx), null, expression), ctx);
         }
         return expression;
     }
@@ -585,41 +579,41 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
     @Override
     public Node visitArithmetic(ArithmeticContext ctx) {
         return
-            new ArithmeticBinaryExpression(
+            withOrigin(new ArithmeticBinaryExpression(
                 getLocation(ctx),
-                getOrigin(ctx),
+                null,
                 ArithmeticOperator.getByCode(ctx.operator.getText()),
                 (BaseExpression)visit(ctx.left),
                 (BaseExpression)visit(ctx.right)
-            );
+            ), ctx);
     }
 
     @Override
     public Node visitWhenClause(WhenClauseContext ctx) {
-        return new WhenClause(
+        return withOrigin(new WhenClause(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.when),
             (BaseExpression)visit(ctx.then)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitNotExpression(NotExpressionContext ctx) {
-        return new NotExpression(getLocation(ctx), getOrigin(ctx), (BaseExpression)visit(ctx.expression()));
+        return withOrigin(new NotExpression(getLocation(ctx), null, (BaseExpression)visit(ctx.expression())), ctx);
     }
 
     @Override
     public Node visitBetweenPredict(BetweenPredictContext ctx) {
-        BaseExpression baseExpression = new BetweenPredicate(
+        BaseExpression baseExpression = withOrigin(new BetweenPredicate(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.left),
             (BaseExpression)visit(ctx.lower),
             (BaseExpression)visit(ctx.upper)
-        );
+        ), ctx);
         if (ctx.KW_NOT() != null) {
-            return new NotExpression(getLocation(ctx), getOrigin(ctx), baseExpression);
+            return withOrigin(new NotExpression(getLocation(ctx), null, baseExpression), ctx);
         }
         return baseExpression;
     }
@@ -721,7 +715,8 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             .map(DataTypeParameter.class::cast)
             .collect(toList());
 
-        return new GenericDataType(getLocation(ctx), getOrigin(ctx), new Identifier(ctx.name.getText()), parameters);
+        return withOrigin(new GenericDataType(getLocation(ctx), null, new Identifier(ctx.name.getText()), parameters),
+            ctx);
     }
 
     @Override
@@ -731,8 +726,8 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             .map(DataTypeParameter.class::cast)
             .collect(toList());
         StringLiteral stringLiteral = (StringLiteral)visit(ctx.string());
-        return new GenericDataType(getLocation(ctx), getOrigin(ctx), new Identifier(stringLiteral.getValue()),
-            parameters);
+        return withOrigin(new GenericDataType(getLocation(ctx), null, new Identifier(stringLiteral.getValue()),
+            parameters), ctx);
     }
 
     @Override
@@ -747,20 +742,20 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitListType(ListTypeContext ctx) {
-        return new GenericDataType(
+        return withOrigin(new GenericDataType(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             new Identifier(ctx.KW_ARRAY().getText(), false),
-            ImmutableList.of(new TypeParameter((BaseDataType)visit(ctx.typeDbCol()))));
+            ImmutableList.of(new TypeParameter((BaseDataType)visit(ctx.typeDbCol())))), ctx);
     }
 
     @Override
     public Node visitDoublePrecisionType(DoublePrecisionTypeContext ctx) {
-        return new GenericDataType(
+        return withOrigin(new GenericDataType(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             new Identifier(ctx.KW_DOUBLE().getText(), false),
-            ImmutableList.of());
+            ImmutableList.of()), ctx);
     }
 
     @Override
@@ -779,13 +774,13 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitMapType(MapTypeContext ctx) {
-        return new GenericDataType(
+        return withOrigin(new GenericDataType(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             new Identifier(ctx.KW_MAP().getText(), false),
             ImmutableList.of(
                 new TypeParameter((BaseDataType)visit(ctx.key)),
-                new TypeParameter((BaseDataType)visit(ctx.value))));
+                new TypeParameter((BaseDataType)visit(ctx.value)))), ctx);
     }
 
     @Override
@@ -838,28 +833,28 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitInExpression(InExpressionContext ctx) {
-        BaseExpression expression = new InListExpression(
+        BaseExpression expression = withOrigin(new InListExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.left),
             visit(ctx.expressionsInParenthesis().expression(), BaseExpression.class)
-        );
+        ), ctx);
         TerminalNode terminalNode = ctx.KW_NOT();
         if (terminalNode != null) {
-            expression = new NotExpression(getLocation(ctx), getOrigin(ctx), expression);
+            expression = withOrigin(new NotExpression(getLocation(ctx), null, expression), ctx);
         }
         return expression;
     }
 
     @Override
     public Node visitBitOperation(BitOperationContext ctx) {
-        return new BitOperationExpression(
+        return withOrigin(new BitOperationExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             BitOperator.getByCode(ctx.operator.getText()),
             (BaseExpression)visit(ctx.left),
             (BaseExpression)visit(ctx.right)
-        );
+        ), ctx);
     }
 
     @Override
@@ -872,17 +867,17 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
         if (ctx.condition != null) {
             likeCondition = LikeCondition.getByCode(ctx.condition.getText());
         }
-        BaseExpression likePredicate = new LikePredicate(
+        BaseExpression likePredicate = withOrigin(new LikePredicate(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.left),
             likeOperator,
             likeCondition,
             (BaseExpression)visit(ctx.right)
-        );
+        ), ctx);
         TerminalNode terminalNode = ctx.KW_NOT();
         if (terminalNode != null) {
-            likePredicate = new NotExpression(getLocation(ctx), getOrigin(ctx), likePredicate);
+            likePredicate = withOrigin(new NotExpression(getLocation(ctx), null, likePredicate), ctx);
         }
         return likePredicate;
     }
@@ -894,12 +889,12 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitIsCondExpression(IsCondExpressionContext ctx) {
-        return new IsConditionExpression(
+        return withOrigin(new IsConditionExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.expression()),
             getIsType(ctx.isCondition())
-        );
+        ), ctx);
     }
 
     private IsType getIsType(IsConditionContext condition) {
@@ -933,41 +928,41 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitUnAryExpression(UnAryExpressionContext ctx) {
-        return new ArithmeticUnaryExpression(ParserHelper.getLocation(ctx), ParserHelper.getOrigin(ctx),
+        return withOrigin(new ArithmeticUnaryExpression(ParserHelper.getLocation(ctx), null,
             Sign.getByCode(ctx.operator.getText()),
-            (BaseExpression)visit(ctx.expression()));
+            (BaseExpression)visit(ctx.expression())), ctx);
     }
 
     @Override
     public Node visitLogicalBinary(LogicalBinaryContext ctx) {
-        return new LogicalBinaryExpression(
+        return withOrigin(new LogicalBinaryExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             LogicalOperator.getByCode(ctx.operator.getText()),
             (BaseExpression)visit(ctx.left),
             (BaseExpression)visit(ctx.right)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitInSubQuery(InSubQueryContext ctx) {
-        BaseExpression result = new InPredicate(
+        BaseExpression result = withOrigin(new InPredicate(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseExpression)visit(ctx.left),
-            new SubQueryExpression(getLocation(ctx), getOrigin(ctx), (Query)visit(ctx.query())));
+            withOrigin(new SubQueryExpression(getLocation(ctx), null, (Query)visit(ctx.query())), ctx)), ctx);
 
         if (ctx.KW_NOT() != null) {
-            result = new NotExpression(getLocation(ctx), getOrigin(ctx), result);
+            result = withOrigin(new NotExpression(getLocation(ctx), null, result), ctx);
         }
         return result;
     }
 
     @Override
     public Node visitSubstring(SubstringContext ctx) {
-        return new FunctionCall(getLocation(ctx), getOrigin(ctx), QualifiedName.of("substr"),
+        return withOrigin(new FunctionCall(getLocation(ctx), null, QualifiedName.of("substr"),
             false,
-            visit(ctx.expression(), BaseExpression.class));
+            visit(ctx.expression(), BaseExpression.class)), ctx);
     }
 
     @Override
@@ -979,14 +974,14 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
 
     @Override
     public Node visitIntervalExpression(IntervalExpressionContext ctx) {
-        return new IntervalExpression(
+        return withOrigin(new IntervalExpression(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseLiteral)visit(ctx.intervalValue()),
             IntervalQualifiers.getIntervalQualifiers(ctx.intervalQualifiers().getText()),
             visitIfPresent(ctx.expression(), BaseExpression.class).orElse(null),
             ctx.KW_INTERVAL() != null
-        );
+        ), ctx);
     }
 
     private static WindowFrameType getFrameType(Token type) {
@@ -1101,7 +1096,7 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
             return visit(ctx.intervalLiteral());
         }
         if (ctx.KW_NULL() != null) {
-            return new NullLiteral(getLocation(ctx), getOrigin(ctx));
+            return withOrigin(new NullLiteral(getLocation(ctx), null), ctx);
         }
         if (ctx.numberLiteral() != null) {
             return visit(ctx.numberLiteral());
@@ -1125,7 +1120,7 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
      */
     @Override
     public Node visitDoubleLiteral(DoubleLiteralContext ctx) {
-        return new DoubleLiteral(getLocation(ctx), getOrigin(ctx), ctx.getText());
+        return withOrigin(new DoubleLiteral(getLocation(ctx), null, ctx.getText()), ctx);
     }
 
     /**
@@ -1136,41 +1131,41 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
      */
     @Override
     public Node visitIntegerLiteral(IntegerLiteralContext ctx) {
-        return new LongLiteral(getLocation(ctx), getOrigin(ctx), ctx.getText());
+        return withOrigin(new LongLiteral(getLocation(ctx), null, ctx.getText()), ctx);
     }
 
     @Override
     public Node visitStringLiteralSequence(StringLiteralSequenceContext ctx) {
-        return new ListStringLiteral(
+        return withOrigin(new ListStringLiteral(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             visit(ctx.string(), StringLiteral.class)
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitDateLiteral(DateLiteralContext ctx) {
         if (ctx.KW_CURRENT_DATE() != null) {
-            return new CurrentDate(getLocation(ctx), getOrigin(ctx));
+            return withOrigin(new CurrentDate(getLocation(ctx), null), ctx);
         }
         StringLiteral stringLiteral = (StringLiteral)visit(ctx.string());
-        return new DateLiteral(getLocation(ctx), getOrigin(ctx), stringLiteral.getValue());
+        return withOrigin(new DateLiteral(getLocation(ctx), null, stringLiteral.getValue()), ctx);
     }
 
     @Override
     public Node visitTimestampLiteral(TimestampLiteralContext ctx) {
         TerminalNode terminalNode = ctx.KW_CURRENT_TIMESTAMP();
         if (terminalNode != null) {
-            return new CurrentTimestamp(getLocation(ctx), getOrigin(ctx));
+            return withOrigin(new CurrentTimestamp(getLocation(ctx), null), ctx);
         }
         StringLiteral stringLiteral = (StringLiteral)visit(ctx.string());
-        return new TimestampLiteral(getLocation(ctx), getOrigin(ctx), stringLiteral.getValue());
+        return withOrigin(new TimestampLiteral(getLocation(ctx), null, stringLiteral.getValue()), ctx);
     }
 
     @Override
     public Node visitTimestampLocalTZLiteral(TimestampLocalTZLiteralContext ctx) {
         StringLiteral stringLiteral = (StringLiteral)visit(ctx.string());
-        return new TimestampLocalTzLiteral(getLocation(ctx), getOrigin(ctx), stringLiteral.getValue());
+        return withOrigin(new TimestampLocalTzLiteral(getLocation(ctx), null, stringLiteral.getValue()), ctx);
     }
 
     @Override
@@ -1188,18 +1183,18 @@ public class AstBuilder extends FastModelGrammarParserBaseVisitor<Node> {
     @Override
     public Node visitIntervalLiteral(IntervalLiteralContext ctx) {
         IntervalValueContext intervalValueContext = ctx.intervalValue();
-        return new IntervalLiteral(
+        return withOrigin(new IntervalLiteral(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             (BaseLiteral)visit(intervalValueContext),
             DateTimeEnum.getByCode(ctx.getText()),
             null
-        );
+        ), ctx);
     }
 
     @Override
     public Node visitString(StringContext ctx) {
-        return new StringLiteral(getLocation(ctx), getOrigin(ctx), StripUtils.strip(ctx.getText()));
+        return withOrigin(new StringLiteral(getLocation(ctx), null, StripUtils.strip(ctx.getText())), ctx);
     }
 
     @Override
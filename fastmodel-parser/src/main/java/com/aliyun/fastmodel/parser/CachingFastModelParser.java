@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import com.aliyun.fastmodel.core.exception.ParseException;
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.parser.FastModelParser;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.Node;
+import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
+import com.aliyun.fastmodel.core.tree.expr.BaseExpression;
+import com.aliyun.fastmodel.core.tree.expr.atom.TableOrColumn;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
+import com.aliyun.fastmodel.parser.visitor.AstExtractVisitor;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 带有解析结果缓存的{@link FastModelParser}
+ * <p>
+ * 使用解析规则以及文本的sha256作为key，文本只去掉末尾的空白，不影响节点的位置以及原始文本。
+ * 缓存的是antlr的语法树，命中后重新生成节点，因此每次返回的节点都是新的对象，调用方可以修改，不会影响缓存。
+ * 生成节点的开销远小于词法以及语法分析。解析失败的文本不会被缓存。
+ * 缓存按照访问顺序淘汰，同时限制条目数以及权重，权重为文本的长度。
+ *
+ * @author panguanjing
+ * @date 2022/6/28
+ */
+public class CachingFastModelParser implements FastModelParser {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private static final String SCRIPT = "script";
+
+    private static final String STATEMENT = "statement";
+
+    private static final String EXPRESSION = "expression";
+
+    private static final String DATA_TYPE = "dataType";
+
+    private final NodeParser delegate;
+
+    private final ParseTreeCache cache;
+
+    /**
+     * @param delegate      实际的parser
+     * @param maximumSize   最大缓存条目数
+     * @param maximumWeight 最大权重，即缓存文本的总长度
+     */
+    public CachingFastModelParser(NodeParser delegate, long maximumSize, long maximumWeight) {
+        this.delegate = delegate;
+        cache = new ParseTreeCache(maximumSize, maximumWeight);
+    }
+
+    @Override
+    public BaseStatement parse(DomainLanguage domainLanguage) throws ParseException {
+        return (BaseStatement)invoke(STATEMENT, domainLanguage.getText(),
+            text -> delegate.parseTree(text, FastModelGrammarParser::sqlStatement));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends BaseStatement> T parseStatement(String text) throws ParseException {
+        return (T)invoke(SCRIPT, text, delegate::parseScriptTree);
+    }
+
+    @Override
+    public List<BaseStatement> multiParse(DomainLanguage script) throws ParseException {
+        return NodeParser.toStatements(invoke(SCRIPT, script.getText(), delegate::parseScriptTree));
+    }
+
+    /**
+     * 缓存的是整个脚本的语法树，因此不使用并行解析
+     */
+    @Override
+    public List<BaseStatement> multiParse(DomainLanguage script, ForkJoinPool pool) throws ParseException {
+        return multiParse(script);
+    }
+
+    @Override
+    public BaseExpression parseExpr(DomainLanguage expr) throws ParseException {
+        return parseExpression(expr.getText());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T parseExpression(String text) throws ParseException {
+        return (T)invoke(EXPRESSION, text, dsl -> delegate.parseTree(dsl, FastModelGrammarParser::expression));
+    }
+
+    @Override
+    public BaseDataType parseDataType(DomainLanguage dataTypeExpr) throws ParseException {
+        return (BaseDataType)invoke(DATA_TYPE, dataTypeExpr.getText(),
+            text -> delegate.parseTree(text, FastModelGrammarParser::typeDbCol));
+    }
+
+    @Override
+    public List<TableOrColumn> extract(DomainLanguage domainLanguage) throws ParseException {
+        BaseExpression node = parseExpr(domainLanguage);
+        AstExtractVisitor exprExtractVisitor = new AstExtractVisitor();
+        exprExtractVisitor.process(node, null);
+        return exprExtractVisitor.getTableOrColumnList();
+    }
+
+    /**
+     * 获取缓存的统计信息
+     *
+     * @return {@link ParseCacheStats}
+     */
+    public ParseCacheStats getStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Node invoke(String rule, String text, Function<String, ParserRuleContext> parseFunction) {
+        String normalized = StringUtils.stripEnd(text, null);
+        HashCode key = HASH_FUNCTION.newHasher()
+            .putString(rule, StandardCharsets.UTF_8)
+            .putString(normalized, StandardCharsets.UTF_8)
+            .hash();
+        ParserRuleContext tree = cache.get(key);
+        if (tree == null) {
+            tree = parseFunction.apply(text);
+            cache.put(key, tree, text.length());
+        }
+        return delegate.buildNode(tree);
+    }
+}
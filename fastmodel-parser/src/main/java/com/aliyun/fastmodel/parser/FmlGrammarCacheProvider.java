@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import com.aliyun.fastmodel.common.parser.cache.GrammarCache;
+import com.aliyun.fastmodel.common.parser.cache.GrammarCacheProvider;
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
+import com.aliyun.fastmodel.parser.generate.FastModelLexer;
+import com.google.auto.service.AutoService;
+
+/**
+ * fml语法的缓存注册
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@AutoService(GrammarCacheProvider.class)
+public class FmlGrammarCacheProvider implements GrammarCacheProvider {
+
+    @Override
+    public GrammarCache getGrammarCache() {
+        NodeParser parser = new NodeParser();
+        return GrammarCache.builder()
+            .name("fml")
+            .lexer(new FastModelLexer(null))
+            .parser(new FastModelGrammarParser(null))
+            .warmer(text -> parser.multiParse(new DomainLanguage(text)))
+            .corpus("/warmup/fml.txt")
+            .resourceOwner(FmlGrammarCacheProvider.class)
+            .build();
+    }
+}
@@ -16,11 +16,28 @@
 
 package com.aliyun.fastmodel.parser;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.aliyun.fastmodel.common.metrics.MetricsRegistry;
+import com.aliyun.fastmodel.common.metrics.ParseMetrics;
+import com.aliyun.fastmodel.common.metrics.ParsePhase;
+import com.aliyun.fastmodel.common.parser.ParserHelper;
+import com.aliyun.fastmodel.common.parser.PredictionStats;
+import com.aliyun.fastmodel.common.parser.ScriptRule;
 import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
-import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.parser.DomainLanguage;
 import com.aliyun.fastmodel.core.parser.FastModelParser;
@@ -31,20 +48,18 @@ import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
 import com.aliyun.fastmodel.core.tree.expr.BaseExpression;
 import com.aliyun.fastmodel.core.tree.expr.atom.TableOrColumn;
 import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
+import com.aliyun.fastmodel.parser.StatementSplitter.StatementText;
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
-import com.aliyun.fastmodel.parser.generate.FastModelLexer;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.RootContext;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.SqlStatementsContext;
 import com.aliyun.fastmodel.parser.visitor.AnnotationProcessVisitor;
 import com.aliyun.fastmodel.parser.visitor.AstExtractVisitor;
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import lombok.extern.slf4j.Slf4j;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CodePointCharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.Token;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.StopWatch;
 
 /**
  * antlr实现内容
@@ -53,11 +68,53 @@ import org.apache.commons.lang3.time.StopWatch;
  * @date 2020/9/3
  */
 @AutoService(LanguageParser.class)
-@Slf4j
 public class NodeParser implements FastModelParser {
 
     public static final ThrowingErrorListener LISTENER = new ThrowingErrorListener();
 
+    private static final String GRAMMAR = "fml";
+
+    private static final TwoStageParser<FastModelGrammarParser> TWO_STAGE_PARSER = new TwoStageParser<>(GRAMMAR);
+
+    static final ScriptRule<FastModelGrammarParser> SCRIPT_RULE = new ScriptRule<>(
+        FastModelGrammarParser::root,
+        FastModelGrammarParser::sqlStatement,
+        ImmutableSet.of(FastModelGrammarParser.SEMICOLON, FastModelGrammarParser.MINUSMINUS),
+        false,
+        NodeParser::assemble);
+
+    private final ParserSessionPool sessionPool;
+
+    /**
+     * 是否记录节点的原始文本
+     */
+    private final boolean captureOrigin;
+
+    public NodeParser() {
+        this(ParserSessionPool.getDefault());
+    }
+
+    /**
+     * 指定session池的构造函数
+     *
+     * @param sessionPool {@link ParserSessionPool}
+     */
+    public NodeParser(ParserSessionPool sessionPool) {
+        this(sessionPool, true);
+    }
+
+    /**
+     * 指定session池以及是否记录原始文本的构造函数
+     *
+     * @param sessionPool   {@link ParserSessionPool}
+     * @param captureOrigin 是否记录节点的原始文本，批量导入等不需要原始文本的场景可以关闭，
+     *                      关闭后节点的{@code getOrigin()}返回null
+     */
+    public NodeParser(ParserSessionPool sessionPool, boolean captureOrigin) {
+        this.sessionPool = sessionPool;
+        this.captureOrigin = captureOrigin;
+    }
+
     @Override
     public BaseStatement parse(DomainLanguage domainLanguage) throws ParseException {
         return (BaseStatement)invokerParser(domainLanguage.getText(), FastModelGrammarParser::sqlStatement);
@@ -66,34 +123,89 @@ public class NodeParser implements FastModelParser {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends BaseStatement> T parseStatement(String text) throws ParseException {
-        return (T)invokerParser(text, FastModelGrammarParser::root);
+        return (T)invokerScript(text);
     }
 
     @Override
     public List<BaseStatement> multiParse(DomainLanguage script) throws ParseException {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-        Function<FastModelGrammarParser, ParserRuleContext> parseFunction =  FastModelGrammarParser::root;
-        log.info("multiParse第{}步运行时间：{}", 1, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        Node node = invokerParser(script.getText(), parseFunction);
-        log.info("multiParse第{}步运行时间：{}", 2, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
+        return toStatements(invokerScript(script.getText()));
+    }
+
+    /**
+     * 将脚本解析的结果转换为语句列表
+     *
+     * @param node 脚本解析的结果
+     * @return {@link BaseStatement}
+     */
+    static List<BaseStatement> toStatements(Node node) {
         if (node instanceof CompositeStatement) {
             CompositeStatement compositeStatement = (CompositeStatement)node;
             return compositeStatement.getStatements();
         }
-        stopWatch.stop();
-        log.info("multiParse第{}步运行时间：{}", 3, stopWatch.getTime());
         return Lists.newArrayList((BaseStatement)node);
     }
 
+    @Override
+    public List<BaseStatement> multiParse(DomainLanguage script, ForkJoinPool pool) throws ParseException {
+        ParseMetrics metrics = MetricsRegistry.getParseMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        StatementSplitter splitter = new StatementSplitter(script.getText());
+        if (metrics.isEnabled()) {
+            metrics.record(GRAMMAR, ParsePhase.LEX, System.nanoTime() - start);
+        }
+        List<StatementText> statements = new ArrayList<>(splitter.getStatements());
+        if (splitter.getPartialStatementText() != null) {
+            statements.add(splitter.getPartialStatementText());
+        }
+        statements.removeIf(statement -> StatementSplitter.isEmptyStatement(statement.getStatement()));
+        if (statements.size() <= 1) {
+            return multiParse(script);
+        }
+        Node[] nodes = new Node[statements.size()];
+        try {
+            pool.invoke(new ParseStatementAction(statements, nodes, 0, nodes.length, this::invokerStatementText));
+        } catch (RuntimeException e) {
+            //使用整个脚本重新解析，保证异常信息与串行解析一致
+            return multiParse(script);
+        }
+        List<BaseStatement> list = new ArrayList<>(nodes.length);
+        for (Node node : nodes) {
+            if (node instanceof CompositeStatement) {
+                list.addAll(((CompositeStatement)node).getStatements());
+            } else {
+                list.add((BaseStatement)node);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 从reader中流式的解析语句，适用于非常大的脚本，内存只与最大的语句相关。
+     * 返回的stream需要关闭，关闭时会关闭reader。
+     *
+     * @param reader 脚本的reader
+     * @return {@link BaseStatement}的stream
+     * @throws ParseException 解析异常，在遍历stream时抛出
+     */
+    public Stream<BaseStatement> parseStream(Reader reader) throws ParseException {
+        StatementIterator iterator = new StatementIterator(reader, ImmutableSet.of(";"),
+            this::invokerStatementText);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+    }
+
+    /**
+     * 流式的解析脚本文件
+     *
+     * @param path 脚本文件，使用UTF-8编码
+     * @return {@link BaseStatement}的stream
+     * @throws IOException 打开文件失败
+     * @see #parseStream(Reader)
+     */
+    public Stream<BaseStatement> parseStream(Path path) throws IOException {
+        return parseStream(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
     @Override
     public BaseExpression parseExpr(DomainLanguage expr) throws ParseException {
         return (BaseExpression)invokerParser(expr.getText(), FastModelGrammarParser::expression);
@@ -119,53 +231,115 @@ public class NodeParser implements FastModelParser {
         return exprExtractVisitor.getTableOrColumnList();
     }
 
+    /**
+     * 获取两阶段解析的统计
+     *
+     * @return {@link PredictionStats}
+     */
+    public static PredictionStats getPredictionStats() {
+        return TWO_STAGE_PARSER.getStats();
+    }
+
+    private Node invokerScript(String dsl) {
+        return invoke(dsl, parser -> TWO_STAGE_PARSER.parseScript(parser, SCRIPT_RULE));
+    }
+
+    private Node invokerStatementText(StatementText statement) {
+        return invoke(statement.getStatement(), statement.getLine(), statement.getCharPositionInLine(),
+            parser -> TWO_STAGE_PARSER.parseScript(parser, SCRIPT_RULE));
+    }
+
     private Node invokerParser(String dsl,
                                Function<FastModelGrammarParser, ParserRuleContext> parseFunction) {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
+        return invoke(dsl, parser -> TWO_STAGE_PARSER.parse(parser, parseFunction));
+    }
+
+    private Node invoke(String dsl, Function<FastModelGrammarParser, ParserRuleContext> parseFunction) {
+        return invoke(dsl, 1, 0, parseFunction);
+    }
+
+    private Node invoke(String dsl, int line, int charPositionInLine,
+                        Function<FastModelGrammarParser, ParserRuleContext> parseFunction) {
+        ParseMetrics metrics = MetricsRegistry.getParseMetrics();
+        if (!metrics.isEnabled()) {
+            return buildNode(parseTree(dsl, line, charPositionInLine, parseFunction));
+        }
+        long start = System.nanoTime();
+        ParserRuleContext tree = parseTree(dsl, line, charPositionInLine, parseFunction);
+        long parsed = System.nanoTime();
+        metrics.record(GRAMMAR, ParsePhase.PARSE, parsed - start);
+        Node node = buildNode(tree);
+        metrics.record(GRAMMAR, ParsePhase.AST_BUILD, System.nanoTime() - parsed);
+        return node;
+    }
+
+    /**
+     * 解析脚本，返回antlr的语法树
+     *
+     * @param dsl 脚本
+     * @return {@link ParserRuleContext}
+     */
+    ParserRuleContext parseScriptTree(String dsl) {
+        return parseTree(dsl, 1, 0, parser -> TWO_STAGE_PARSER.parseScript(parser, SCRIPT_RULE));
+    }
+
+    /**
+     * 按照指定的规则解析，返回antlr的语法树
+     *
+     * @param dsl           文本
+     * @param parseFunction 解析规则
+     * @return {@link ParserRuleContext}
+     */
+    ParserRuleContext parseTree(String dsl, Function<FastModelGrammarParser, ParserRuleContext> parseFunction) {
+        return parseTree(dsl, 1, 0, parser -> TWO_STAGE_PARSER.parse(parser, parseFunction));
+    }
+
+    /**
+     * 语法树只引用自己的token以及charStream，归还session之后仍然可以使用，并且可以被多次visit
+     */
+    private ParserRuleContext parseTree(String dsl, int line, int charPositionInLine,
+                                        Function<FastModelGrammarParser, ParserRuleContext> parseFunction) {
         if (StringUtils.isBlank(dsl)) {
             throw new ParseException("dsl can't be blank");
         }
-        CodePointCharStream input = CharStreams.fromString(dsl);
-        CaseChangingCharStream charStream = new CaseChangingCharStream(input, true);
-        FastModelLexer lexer = new FastModelLexer(charStream);
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(LISTENER);
-        CommonTokenStream commonTokenStream = new CommonTokenStream(lexer);
-        FastModelGrammarParser fastModelGrammarParser = new FastModelGrammarParser(commonTokenStream);
-        fastModelGrammarParser.removeErrorListeners();
-        fastModelGrammarParser.addErrorListener(LISTENER);
-        log.info("invokerParser第{}步运行时间：{}", 1, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        ParserRuleContext tree;
+        ParserSession session = sessionPool.borrow();
         try {
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-            tree = parseFunction.apply(fastModelGrammarParser);
-        } catch (Throwable e) {
-            commonTokenStream.seek(0);
-            fastModelGrammarParser.reset();
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            tree = parseFunction.apply(fastModelGrammarParser);
+            FastModelGrammarParser fastModelGrammarParser = session.prepare(dsl, line, charPositionInLine);
+            return parseFunction.apply(fastModelGrammarParser);
+        } finally {
+            sessionPool.release(session);
         }
-        log.info("invokerParser第{}步运行时间：{}", 2, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        Node node = new AnnotationProcessVisitor().visit(tree);
-        stopWatch.stop();
-        log.info("invokerParser第{}步运行时间：{}", 3, stopWatch.getTime());
-        return node;
+    }
+
+    /**
+     * 根据语法树生成节点，每次调用都会生成新的节点，使用共享的无状态visitor。
+     * 节点的原始文本只引用语法树的输入，在获取时才生成
+     *
+     * @param tree 语法树
+     * @return {@link Node}
+     */
+    Node buildNode(ParserRuleContext tree) {
+        if (captureOrigin) {
+            return AnnotationProcessVisitor.INSTANCE.visit(tree);
+        }
+        return ParserHelper.withoutOrigin(() -> AnnotationProcessVisitor.INSTANCE.visit(tree));
+    }
+
+    /**
+     * 将按语句解析的结果组装为root
+     */
+    private static ParserRuleContext assemble(List<ParserRuleContext> statements, Token start, Token stop) {
+        RootContext root = new RootContext(null, -1);
+        SqlStatementsContext sqlStatements = new SqlStatementsContext(root, -1);
+        for (ParserRuleContext statement : statements) {
+            statement.setParent(sqlStatements);
+            sqlStatements.addChild(statement);
+        }
+        sqlStatements.start = start;
+        sqlStatements.stop = stop;
+        root.addChild(sqlStatements);
+        root.start = start;
+        root.stop = stop;
+        return root;
     }
 }
-//
-//DialectTransform.transform(DialectTransformParam)  (com.aliyun.fastmodel.transform.api.dialect.transform)
-//
-//        FmlTransformer.reverse(DialectNode, ReverseContext)  (com.aliyun.fastmodel.transform.fml) 1435
-//        NodeParser.multiParse(DomainLanguage)  (com.aliyun.fastmodel.parser)
-//        FastModelGrammarParser::root 603
-//        NodeParser.invokerParser(String, Function<FastModelGrammarParser, ParserRuleContext>)  (com.aliyun.fastmodel.parser) 791
-//        new AnnotationProcessVisitor().visit(tree) 646
\ No newline at end of file
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 解析结果缓存的统计信息
+ *
+ * @author panguanjing
+ * @date 2022/6/28
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ParseCacheStats {
+
+    /**
+     * 命中次数
+     */
+    private final long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private final long missCount;
+
+    /**
+     * 因为超过上限被淘汰的次数
+     */
+    private final long evictionCount;
+
+    /**
+     * 当前缓存的条目数
+     */
+    private final long size;
+
+    /**
+     * 当前缓存的总权重，即缓存的文本长度之和
+     */
+    private final long weight;
+
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 1.0 : (double)hitCount / total;
+    }
+}
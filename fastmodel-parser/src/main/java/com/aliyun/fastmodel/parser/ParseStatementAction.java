@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import com.aliyun.fastmodel.core.tree.Node;
+import com.aliyun.fastmodel.parser.StatementSplitter.StatementText;
+
+/**
+ * 在ForkJoinPool中并行解析切分后的语句，结果按照语句的下标写入数组，保证与原始顺序一致
+ *
+ * @author panguanjing
+ * @date 2022/6/27
+ */
+class ParseStatementAction extends RecursiveAction {
+
+    /**
+     * 单个任务最多解析的语句数
+     */
+    private static final int THRESHOLD = 4;
+
+    private final List<StatementText> statements;
+
+    private final Node[] nodes;
+
+    private final int from;
+
+    private final int to;
+
+    private final Function<StatementText, Node> parseFunction;
+
+    ParseStatementAction(List<StatementText> statements, Node[] nodes, int from, int to,
+                         Function<StatementText, Node> parseFunction) {
+        this.statements = statements;
+        this.nodes = nodes;
+        this.from = from;
+        this.to = to;
+        this.parseFunction = parseFunction;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                nodes[i] = parseFunction.apply(statements.get(i));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParseStatementAction(statements, nodes, from, middle, parseFunction),
+            new ParseStatementAction(statements, nodes, middle, to, parseFunction));
+    }
+}
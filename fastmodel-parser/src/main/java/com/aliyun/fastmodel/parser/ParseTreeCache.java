@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.hash.HashCode;
+import org.antlr.v4.runtime.ParserRuleContext;
+
+/**
+ * 按照访问顺序淘汰的语法树缓存，同时限制条目数以及权重
+ *
+ * @author panguanjing
+ * @date 2022/6/28
+ */
+class ParseTreeCache {
+
+    private final long maximumSize;
+
+    private final long maximumWeight;
+
+    private final LinkedHashMap<HashCode, Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    ParseTreeCache(long maximumSize, long maximumWeight) {
+        if (maximumSize <= 0 || maximumWeight <= 0) {
+            throw new IllegalArgumentException(
+                "maximumSize and maximumWeight must be positive, actual:" + maximumSize + "," + maximumWeight);
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+    }
+
+    ParserRuleContext get(HashCode key) {
+        Entry entry;
+        synchronized (this) {
+            entry = map.get(key);
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.tree;
+    }
+
+    /**
+     * 放入缓存，权重超过上限的语法树不会被缓存
+     */
+    synchronized void put(HashCode key, ParserRuleContext tree, long entryWeight) {
+        if (entryWeight > maximumWeight) {
+            return;
+        }
+        Entry previous = map.put(key, new Entry(tree, entryWeight));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entryWeight;
+        Iterator<Map.Entry<HashCode, Entry>> iterator = map.entrySet().iterator();
+        while ((map.size() > maximumSize || weight > maximumWeight) && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            weight -= eldest.weight;
+            evictionCount.increment();
+        }
+    }
+
+    synchronized void invalidateAll() {
+        map.clear();
+        weight = 0;
+    }
+
+    synchronized ParseCacheStats getStats() {
+        return new ParseCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), map.size(), weight);
+    }
+
+    private static class Entry {
+        private final ParserRuleContext tree;
+
+        private final long weight;
+
+        private Entry(ParserRuleContext tree, long weight) {
+            this.tree = tree;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
+import com.aliyun.fastmodel.parser.generate.FastModelLexer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+
+/**
+ * 一次解析所需的lexer、tokenStream、parser的组合，可以被重复使用。
+ * 每次使用前通过{@link #prepare(String)}重新设置输入，避免重复创建antlr对象以及重复注册errorListener。
+ * session本身不是线程安全的，需要通过{@link ParserSessionPool}借出与归还。
+ *
+ * @author panguanjing
+ * @date 2022/6/20
+ */
+@Getter
+public class ParserSession {
+
+    /**
+     * 空输入，charStream带有读取位置，不能在线程之间共享
+     */
+    @Getter(AccessLevel.NONE)
+    private final CharStream empty = CharStreams.fromString("");
+
+    private final FastModelLexer lexer;
+
+    private final CommonTokenStream tokenStream;
+
+    private final FastModelGrammarParser parser;
+
+    /**
+     * 是否已经被借出
+     */
+    private boolean borrowed;
+
+    public ParserSession(ThrowingErrorListener listener) {
+        lexer = new FastModelLexer(empty);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(listener);
+        tokenStream = new CommonTokenStream(lexer);
+        parser = new FastModelGrammarParser(tokenStream);
+        parser.removeErrorListeners();
+        parser.addErrorListener(listener);
+    }
+
+    /**
+     * 设置新的输入，并返回重置后的parser
+     *
+     * @param dsl 需要解析的文本
+     * @return {@link FastModelGrammarParser}
+     */
+    public FastModelGrammarParser prepare(String dsl) {
+        return prepare(dsl, 1, 0);
+    }
+
+    /**
+     * 设置新的输入以及起始位置，用于解析从脚本中切分出来的语句，使得节点位置与整个脚本中的位置一致
+     *
+     * @param dsl                需要解析的文本
+     * @param line               起始行，从1开始
+     * @param charPositionInLine 起始列，从0开始
+     * @return {@link FastModelGrammarParser}
+     */
+    public FastModelGrammarParser prepare(String dsl, int line, int charPositionInLine) {
+        lexer.setInputStream(new CaseChangingCharStream(CharStreams.fromString(dsl), true));
+        lexer.setLine(line);
+        lexer.setCharPositionInLine(charPositionInLine);
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+        return parser;
+    }
+
+    /**
+     * 释放对上一次输入的引用，避免大文本被线程长期持有
+     */
+    void clear() {
+        lexer.setInputStream(empty);
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
+
+    void setBorrowed(boolean borrowed) {
+        this.borrowed = borrowed;
+    }
+}
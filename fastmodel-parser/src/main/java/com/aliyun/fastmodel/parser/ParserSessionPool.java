@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+
+/**
+ * 线程绑定的{@link ParserSession}池
+ * <p>
+ * 每个线程持有一个session，借出后归还即可复用。
+ * 如果同一线程在归还前再次借用（例如解析过程中的重入），会临时创建新的session，不影响已借出的session。
+ *
+ * @author panguanjing
+ * @date 2022/6/20
+ */
+public class ParserSessionPool {
+
+    private static final ParserSessionPool DEFAULT = new ParserSessionPool(true);
+
+    private final ThrowingErrorListener listener = new ThrowingErrorListener();
+
+    private final boolean reuse;
+
+    private final ThreadLocal<ParserSession> local;
+
+    /**
+     * @param reuse 是否复用session，为false时每次借用都会新建
+     */
+    public ParserSessionPool(boolean reuse) {
+        this.reuse = reuse;
+        this.local = reuse ? ThreadLocal.withInitial(() -> new ParserSession(listener)) : null;
+    }
+
+    public static ParserSessionPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 借出session，使用完毕后必须调用{@link #release(ParserSession)}
+     *
+     * @return {@link ParserSession}
+     */
+    public ParserSession borrow() {
+        if (!reuse) {
+            return new ParserSession(listener);
+        }
+        ParserSession session = local.get();
+        if (session.isBorrowed()) {
+            return new ParserSession(listener);
+        }
+        session.setBorrowed(true);
+        return session;
+    }
+
+    /**
+     * 归还session
+     *
+     * @param session 借出的session
+     */
+    public void release(ParserSession session) {
+        if (!session.isBorrowed()) {
+            return;
+        }
+        session.clear();
+        session.setBorrowed(false);
+    }
+}
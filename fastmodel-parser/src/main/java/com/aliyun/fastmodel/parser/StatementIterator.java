@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.Node;
+import com.aliyun.fastmodel.parser.StatementSplitter.StatementText;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
+import com.aliyun.fastmodel.parser.lexer.DelimiterLexer;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+
+/**
+ * 从{@link Reader}中逐个读取并解析语句。
+ * <p>
+ * 使用{@link UnbufferedCharStream}增量的进行分词，遇到分隔符后只解析当前的语句，
+ * 语句的语法树在生成节点后就不再被引用，内存只与最大的语句相关，与整个脚本的大小无关。
+ * 节点的位置与整个脚本中的位置一致。
+ *
+ * @author panguanjing
+ * @date 2022/6/29
+ */
+class StatementIterator implements Iterator<BaseStatement>, Closeable {
+
+    private final Reader reader;
+
+    private final DelimiterLexer lexer;
+
+    private final Function<StatementText, Node> parseFunction;
+
+    private final Deque<BaseStatement> pending = new ArrayDeque<>();
+
+    private boolean finished;
+
+    /**
+     * 当前的位置，与antlr保持一致，行号从1开始，列从0开始
+     */
+    private int line = 1;
+
+    private int charPositionInLine;
+
+    StatementIterator(Reader reader, Set<String> delimiters, Function<StatementText, Node> parseFunction) {
+        this.reader = reader;
+        this.parseFunction = parseFunction;
+        lexer = new DelimiterLexer(new UnbufferedCharStream(reader), delimiters);
+        //unbuffered的charStream不保留已经读取的内容，token需要复制文本
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending.isEmpty() && !finished) {
+            readStatement();
+        }
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public BaseStatement next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return pending.poll();
+    }
+
+    private void readStatement() {
+        StringBuilder sb = new StringBuilder();
+        int startLine = line;
+        int startCharPositionInLine = charPositionInLine;
+        boolean hasContent = false;
+        String terminator = null;
+        while (true) {
+            Token token = lexer.nextToken();
+            if (token.getType() == Token.EOF) {
+                finished = true;
+                break;
+            }
+            String text = token.getText();
+            if (token.getType() == FastModelGrammarParser.DELIMITER) {
+                advance(text);
+                terminator = text;
+                break;
+            }
+            if (sb.length() == 0) {
+                startLine = line;
+                startCharPositionInLine = charPositionInLine;
+            }
+            hasContent |= token.getChannel() != Token.HIDDEN_CHANNEL;
+            sb.append(text);
+            advance(text);
+        }
+        if (!hasContent) {
+            return;
+        }
+        StatementText statementText = StatementSplitter.toStatementText(sb, terminator, startLine,
+            startCharPositionInLine);
+        pending.addAll(NodeParser.toStatements(parseFunction.apply(statementText)));
+    }
+
+    private void advance(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+                charPositionInLine = 0;
+            } else {
+                charPositionInLine++;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        pending.clear();
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenSource;
 import org.antlr.v4.runtime.Vocabulary;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * 语句的切割器
@@ -49,6 +50,11 @@ public class StatementSplitter {
 
     private final String partialStatement;
 
+    /**
+     * 最后一个没有分隔符的语句，包含位置信息，如果没有返回null
+     */
+    private final StatementText partialStatementText;
+
     private static final Pattern IDENTIFIER = Pattern.compile("'([A-Z_]+)'");
 
     public StatementSplitter(String sql) {
@@ -59,23 +65,62 @@ public class StatementSplitter {
         TokenSource tokenSource = new DelimiterLexer(CharStreams.fromString(sql), delimiters);
         List<StatementText> statements = Lists.newArrayList();
         StringBuilder sb = new StringBuilder();
+        //当前的位置以及语句开始的位置，与antlr保持一致，行号从1开始，列从0开始
+        int line = 1;
+        int charPositionInLine = 0;
+        int startLine = line;
+        int startCharPositionInLine = charPositionInLine;
         while (true) {
             Token token = tokenSource.nextToken();
             if (token.getType() == Token.EOF) {
                 break;
             }
+            String text = token.getText();
             if (token.getType() == FastModelGrammarParser.DELIMITER) {
-                String statement = sb.toString().trim();
-                if (!statement.isEmpty()) {
-                    statements.add(new StatementText(statement, token.getText()));
+                StatementText statement = toStatementText(sb, text, startLine, startCharPositionInLine);
+                if (statement != null) {
+                    statements.add(statement);
                 }
                 sb = new StringBuilder();
             } else {
-                sb.append(token.getText());
+                if (sb.length() == 0) {
+                    startLine = line;
+                    startCharPositionInLine = charPositionInLine;
+                }
+                sb.append(text);
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    line++;
+                    charPositionInLine = 0;
+                } else {
+                    charPositionInLine++;
+                }
             }
         }
         this.statements = statements;
-        partialStatement = sb.toString().trim();
+        partialStatementText = toStatementText(sb, null, startLine, startCharPositionInLine);
+        partialStatement = partialStatementText == null ? StringUtils.EMPTY : partialStatementText.getStatement();
+    }
+
+    /**
+     * 去掉前后的空白，并根据去掉的前导空白计算语句开始的位置
+     */
+    static StatementText toStatementText(StringBuilder sb, String terminator, int line, int charPositionInLine) {
+        String raw = sb.toString();
+        String statement = raw.trim();
+        if (statement.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < raw.length() && raw.charAt(i) <= ' '; i++) {
+            if (raw.charAt(i) == '\n') {
+                line++;
+                charPositionInLine = 0;
+            } else {
+                charPositionInLine++;
+            }
+        }
+        return new StatementText(statement, terminator, line, charPositionInLine);
     }
 
     public static TokenSource getLexer(String buffer, Set<String> statementDelimiters) {
@@ -145,9 +190,27 @@ public class StatementSplitter {
         private final String statement;
         private final String terminator;
 
+        /**
+         * 语句在原始脚本中开始的行，从1开始
+         */
+        @EqualsAndHashCode.Exclude
+        private final int line;
+
+        /**
+         * 语句在原始脚本中开始的列，从0开始
+         */
+        @EqualsAndHashCode.Exclude
+        private final int charPositionInLine;
+
         public StatementText(String statement, String terminator) {
+            this(statement, terminator, 1, 0);
+        }
+
+        public StatementText(String statement, String terminator, int line, int charPositionInLine) {
             this.statement = statement;
             this.terminator = terminator;
+            this.line = line;
+            this.charPositionInLine = charPositionInLine;
         }
     }
 
@@ -122,7 +122,10 @@ public class DelimiterLexer extends FastModelLexer {
                 return false;
             }
         }
-        _input.seek(_input.index() + delimiter.length());
+        //通过interpreter消费字符，保证行列号正确，并且支持unbuffered的charStream
+        for (int i = 0; i < delimiter.length(); i++) {
+            getInterpreter().consume(_input);
+        }
         return true;
     }
 }
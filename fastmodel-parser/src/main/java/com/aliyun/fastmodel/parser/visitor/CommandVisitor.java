@@ -91,14 +91,13 @@ public class CommandVisitor extends AstBuilder {
         Token type = ctx.commands().type;
         BaseCommandStatement baseCommandStatement;
         NodeLocation location = ParserHelper.getLocation(ctx);
-        String origin = ParserHelper.getOrigin(ctx);
         switch (type.getType()) {
             case FastModelLexer.KW_IMPORT_SQL:
-                baseCommandStatement = new ImportSql(location, origin,
+                baseCommandStatement = new ImportSql(location, null,
                     identifier, uri, text, list);
                 break;
             case FastModelLexer.KW_EXPORT_SQL:
-                baseCommandStatement = new ExportSql(location, origin,
+                baseCommandStatement = new ExportSql(location, null,
                     identifier, uri, text, list);
                 break;
             case FastModelLexer.KW_FORMAT:
@@ -107,7 +106,7 @@ public class CommandVisitor extends AstBuilder {
             default:
                 throw new ParseException("Unexpected value: " + type.getType());
         }
-        return baseCommandStatement;
+        return ParserHelper.withOrigin(baseCommandStatement, ctx);
 
     }
 
@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.parser.visitor;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -75,6 +76,7 @@ import com.aliyun.fastmodel.core.tree.statement.select.order.SortItem;
 import com.aliyun.fastmodel.core.tree.statement.show.WhereCondition;
 import com.aliyun.fastmodel.parser.AstBuilder;
 import com.aliyun.fastmodel.parser.annotation.SubVisitor;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.AliasedRelationContext;
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.CubeContext;
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.DeleteContext;
@@ -102,11 +104,17 @@ import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.SubqueryRelat
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.TableContext;
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.WithContext;
 import com.aliyun.fastmodel.parser.generate.FastModelLexer;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.Trees;
 
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getLocation;
-import static com.aliyun.fastmodel.common.parser.ParserHelper.getOrigin;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.withOrigin;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -118,7 +126,12 @@ import static java.util.stream.Collectors.toList;
 @SubVisitor
 public class QueryVisitor extends AstBuilder {
 
-    private int parameterPosition;
+    /**
+     * 语法树中所有参数的token位置，使用弱引用的key，解析结束后随语法树回收
+     */
+    private static final LoadingCache<ParseTree, int[]> PARAMETER_TOKEN_INDEXES = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(QueryVisitor::parameterTokenIndexes));
 
     @Override
     public Node visitQuery(QueryContext ctx) {
@@ -153,9 +166,8 @@ public class QueryVisitor extends AstBuilder {
             if (ctx.offset.INTEGER_VALUE() != null) {
                 rowCount = new LongLiteral(ctx.offset.getText());
             } else {
-                rowCount = new Parameter(ParserHelper.getLocation(ctx.offset.QUESTION()),
-                    getOrigin(ctx.offset.QUESTION()), parameterPosition);
-                parameterPosition++;
+                rowCount = withOrigin(new Parameter(ParserHelper.getLocation(ctx.offset.QUESTION()),
+                    null, parameterPosition(ctx.offset.QUESTION())), ctx.offset.QUESTION());
             }
             offset = Optional.of(new Offset(ParserHelper.getLocation(ctx.KW_OFFSET()), rowCount));
         }
@@ -168,9 +180,8 @@ public class QueryVisitor extends AstBuilder {
                     rowCount = Optional.of(new LongLiteral(ctx.fetchFirst.getText()));
                 } else {
                     rowCount = Optional.of(
-                        new Parameter(ParserHelper.getLocation(ctx.fetchFirst.QUESTION()),
-                            getOrigin(ctx.fetchFirst.QUESTION()), parameterPosition));
-                    parameterPosition++;
+                        withOrigin(new Parameter(ParserHelper.getLocation(ctx.fetchFirst.QUESTION()),
+                            null, parameterPosition(ctx.fetchFirst.QUESTION())), ctx.fetchFirst.QUESTION()));
                 }
             }
             limit = Optional.of(
@@ -181,13 +192,13 @@ public class QueryVisitor extends AstBuilder {
             }
             BaseExpression rowCount;
             if (ctx.limit.KW_ALL() != null) {
-                rowCount = new AllRows(ParserHelper.getLocation(ctx.limit.KW_ALL()), getOrigin(ctx.limit.KW_ALL()));
+                rowCount = withOrigin(new AllRows(ParserHelper.getLocation(ctx.limit.KW_ALL()), null),
+                    ctx.limit.KW_ALL());
             } else if (ctx.limit.rowCount().INTEGER_VALUE() != null) {
                 rowCount = new LongLiteral(ctx.limit.getText());
             } else {
-                rowCount = new Parameter(ParserHelper.getLocation(ctx.limit.rowCount().QUESTION()),
-                    getOrigin(ctx.limit.rowCount().QUESTION()), parameterPosition);
-                parameterPosition++;
+                rowCount = withOrigin(new Parameter(ParserHelper.getLocation(ctx.limit.rowCount().QUESTION()),
+                    null, parameterPosition(ctx.limit.rowCount().QUESTION())), ctx.limit.rowCount().QUESTION());
             }
 
             limit = Optional.of(new Limit(ParserHelper.getLocation(ctx.KW_LIMIT()), rowCount));
@@ -458,7 +469,7 @@ public class QueryVisitor extends AstBuilder {
         List<QualifiedName> arguments = ctx.qualifiedName().stream()
             .map(this::getQualifiedName)
             .collect(toList());
-        return new GroupingOperation(getLocation(ctx), getOrigin(ctx), arguments);
+        return withOrigin(new GroupingOperation(getLocation(ctx), null, arguments), ctx);
     }
 
     @Override
@@ -507,4 +518,27 @@ public class QueryVisitor extends AstBuilder {
         return SampledType.getByCode(token.getText());
     }
 
+
+    /**
+     * 参数的位置，按照参数在语法树中出现的顺序从0开始编号。
+     * 每个语法树只计算一次所有参数的token位置，之后二分查找；visitor不保存状态，可以被多次解析共享
+     *
+     * @param question 参数
+     * @return 参数的位置
+     */
+    private static int parameterPosition(TerminalNode question) {
+        ParseTree root = question;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        int[] tokenIndexes = PARAMETER_TOKEN_INDEXES.getUnchecked(root);
+        return Arrays.binarySearch(tokenIndexes, question.getSymbol().getTokenIndex());
+    }
+
+    private static int[] parameterTokenIndexes(ParseTree root) {
+        return Trees.findAllTokenNodes(root, FastModelGrammarParser.QUESTION).stream()
+            .mapToInt(node -> ((TerminalNode)node).getSymbol().getTokenIndex())
+            .sorted()
+            .toArray();
+    }
 }
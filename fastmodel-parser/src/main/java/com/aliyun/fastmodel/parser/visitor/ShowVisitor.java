@@ -41,7 +41,7 @@ import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.ShowCreateCon
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.ShowObjectsContext;
 
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getLocation;
-import static com.aliyun.fastmodel.common.parser.ParserHelper.getOrigin;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.withOrigin;
 
 /**
  * Desc:
@@ -93,9 +93,9 @@ public class ShowVisitor extends AstBuilder {
         if (ctx.KW_LIMIT() != null) {
             limit = Optional.of(new Limit(new LongLiteral(ctx.limit.getText())));
         }
-        return new ShowObjects(
+        return withOrigin(new ShowObjects(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             conditionElement,
             ctx.KW_FULL() != null,
             identifier,
@@ -103,7 +103,7 @@ public class ShowVisitor extends AstBuilder {
             qualifiedName,
             offset.orElse(null),
             limit.orElse(null)
-        );
+        ), ctx);
     }
 
     @Override
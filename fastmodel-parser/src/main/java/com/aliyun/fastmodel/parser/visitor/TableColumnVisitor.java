@@ -59,7 +59,7 @@ import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.BooleanUtils;
 
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getLocation;
-import static com.aliyun.fastmodel.common.parser.ParserHelper.getOrigin;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.withOrigin;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -179,12 +179,12 @@ public class TableColumnVisitor extends AstBuilder {
     @Override
     public Node visitAddPartitionCol(AddPartitionColContext ctx) {
         ColumnDefinition visit = (ColumnDefinition)visit(ctx.columnDefinition());
-        return new AddPartitionCol(
+        return withOrigin(new AddPartitionCol(
             getLocation(ctx),
-            getOrigin(ctx),
+            null,
             getQualifiedName(ctx.tableName()),
             visit
-        );
+        ), ctx);
     }
 
     @Override
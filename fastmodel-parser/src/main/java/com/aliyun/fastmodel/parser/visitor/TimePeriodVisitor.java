@@ -42,7 +42,7 @@ import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.SetTimePeriod
 import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser.TimePeriodExpressionContext;
 
 import static com.aliyun.fastmodel.common.parser.ParserHelper.getLocation;
-import static com.aliyun.fastmodel.common.parser.ParserHelper.getOrigin;
+import static com.aliyun.fastmodel.common.parser.ParserHelper.withOrigin;
 
 /**
  * Desc:
@@ -79,8 +79,8 @@ public class TimePeriodVisitor extends AstBuilder {
 
     @Override
     public Node visitTimePeriodExpression(TimePeriodExpressionContext ctx) {
-        return new BetweenPredicate(getLocation(ctx), getOrigin(ctx), null, (BaseExpression)visit(ctx.lower),
-            (BaseExpression)visit(ctx.upper));
+        return withOrigin(new BetweenPredicate(getLocation(ctx), null, null, (BaseExpression)visit(ctx.lower),
+            (BaseExpression)visit(ctx.upper)), ctx);
     }
 
     @Override
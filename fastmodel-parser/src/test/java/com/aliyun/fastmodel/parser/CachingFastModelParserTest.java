@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.util.List;
+
+import com.aliyun.fastmodel.core.exception.ParseException;
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.expr.BaseExpression;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * CachingFastModelParserTest
+ *
+ * @author panguanjing
+ * @date 2022/6/28
+ */
+public class CachingFastModelParserTest {
+
+    CachingFastModelParser cachingFastModelParser = new CachingFastModelParser(new NodeParser(), 2, 1024);
+
+    @Test
+    public void testHit() {
+        String dsl = "create dim table a (b bigint) comment 'comment'";
+        CreateDimTable first = cachingFastModelParser.parseStatement(dsl);
+        CreateDimTable second = cachingFastModelParser.parseStatement(dsl + "\n  ");
+        assertNotSame(first, second);
+        assertEquals(first.toString(), second.toString());
+        assertEquals(first.getOrigin(), second.getOrigin());
+
+        ParseCacheStats stats = cachingFastModelParser.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+        assertEquals(dsl.length(), stats.getWeight());
+    }
+
+    @Test
+    public void testRuleInKey() {
+        cachingFastModelParser.parseExpression("a + 1");
+        BaseExpression expression = cachingFastModelParser.parseExpr(new DomainLanguage("a + 1"));
+        assertEquals("a + 1", expression.getOrigin());
+        List<BaseStatement> statements = cachingFastModelParser.multiParse(
+            new DomainLanguage("create dim table a (b bigint);create dim table c (d bigint);"));
+        assertEquals(2, statements.size());
+        assertEquals(1, cachingFastModelParser.getStats().getHitCount());
+    }
+
+    @Test
+    public void testEviction() {
+        cachingFastModelParser.parseExpression("a + 1");
+        cachingFastModelParser.parseExpression("a + 2");
+        cachingFastModelParser.parseExpression("a + 1");
+        cachingFastModelParser.parseExpression("a + 3");
+        ParseCacheStats stats = cachingFastModelParser.getStats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+        //a + 2 最久没有访问，已经被淘汰
+        cachingFastModelParser.parseExpression("a + 1");
+        cachingFastModelParser.parseExpression("a + 2");
+        assertEquals(2, cachingFastModelParser.getStats().getHitCount());
+    }
+
+    @Test
+    public void testWeight() {
+        CachingFastModelParser small = new CachingFastModelParser(new NodeParser(), 10, 5);
+        small.parseExpression("a + 1");
+        small.parseExpression("a + 100");
+        small.parseExpression("a + 100");
+        ParseCacheStats stats = small.getStats();
+        assertEquals(1, stats.getSize());
+        assertEquals(0, stats.getHitCount());
+        assertEquals(5, stats.getWeight());
+    }
+
+    @Test(expected = ParseException.class)
+    public void testError() {
+        cachingFastModelParser.parseStatement("create dim table a (b bigint");
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.util.List;
+
+import com.aliyun.fastmodel.common.parser.cache.DfaCacheStats;
+import com.aliyun.fastmodel.common.parser.cache.ParserCacheManager;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FmlGrammarCacheProviderTest
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+public class FmlGrammarCacheProviderTest {
+
+    ParserCacheManager parserCacheManager = ParserCacheManager.getInstance();
+
+    @After
+    public void tearDown() {
+        parserCacheManager.setMaxStates(0);
+    }
+
+    @Test
+    public void testWarmUpAndClear() {
+        parserCacheManager.warmUp("fml");
+        DfaCacheStats stats = parserCacheManager.getStats("fml");
+        assertNotNull(stats);
+        assertTrue(stats.getParserStates() > 0);
+        assertTrue(stats.getLexerStates() > 0);
+        assertTrue(stats.getEstimatedBytes() > 0);
+
+        parserCacheManager.clear("fml");
+        stats = parserCacheManager.getStats("fml");
+        assertEquals(0, stats.getTotalStates());
+
+        CreateDimTable createDimTable = new NodeParser().parseStatement("create dim table a (b bigint)");
+        assertEquals("a", createDimTable.getIdentifier());
+        assertTrue(parserCacheManager.getStats("fml").getParserStates() > 0);
+    }
+
+    @Test
+    public void testTrim() {
+        new NodeParser().parseStatement("create dim table a (b bigint)");
+        parserCacheManager.setMaxStates(1);
+        List<String> trimmed = parserCacheManager.trimIfNecessary();
+        assertTrue(trimmed.contains("fml"));
+        assertEquals(0, parserCacheManager.getStats("fml").getTotalStates());
+    }
+}
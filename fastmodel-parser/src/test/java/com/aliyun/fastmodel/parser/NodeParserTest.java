@@ -16,19 +16,39 @@
 
 package com.aliyun.fastmodel.parser;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.aliyun.fastmodel.common.metrics.LatencyMetrics;
+import com.aliyun.fastmodel.common.metrics.MetricsRegistry;
+import com.aliyun.fastmodel.common.metrics.ParseMetrics;
+import com.aliyun.fastmodel.common.metrics.ParsePhase;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.parser.DomainLanguage;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.core.tree.expr.ArithmeticBinaryExpression;
 import com.aliyun.fastmodel.core.tree.expr.atom.TableOrColumn;
+import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
 import com.aliyun.fastmodel.core.tree.statement.indicator.CreateAtomicIndicator;
 import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import com.aliyun.fastmodel.parser.generate.FastModelGrammarParser;
+import com.aliyun.fastmodel.parser.visitor.AnnotationProcessVisitor;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Desc:
@@ -100,4 +120,143 @@ public class NodeParserTest {
     public void testParser_Struct() {
         String struct = "ARRAY<STRUCT<0:STRING,1:STRING,2:STRING,3:STRING>>";
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseStatements() throws IOException {
+        String script = IOUtils.toString(NodeParser.class.getResourceAsStream("/warmup/fml.txt"),
+            StandardCharsets.UTF_8);
+        CompositeStatement expect = nodeParser.parseStatement(script);
+
+        ParserSession session = new ParserSession(NodeParser.LISTENER);
+        FastModelGrammarParser parser = session.prepare(script);
+        ParserRuleContext tree = new TwoStageParser<FastModelGrammarParser>("test").parseStatements(parser,
+            NodeParser.SCRIPT_RULE);
+        CompositeStatement actual = (CompositeStatement)new AnnotationProcessVisitor().visit(tree);
+
+        assertEquals(expect.getOrigin(), actual.getOrigin());
+        assertEquals(expect.getStatements().size(), actual.getStatements().size());
+        for (int i = 0; i < expect.getStatements().size(); i++) {
+            BaseStatement e = expect.getStatements().get(i);
+            BaseStatement a = actual.getStatements().get(i);
+            assertEquals(e.toString(), a.toString());
+            assertEquals(e.getOrigin(), a.getOrigin());
+            assertEquals(String.valueOf(e.getLocation()), String.valueOf(a.getLocation()));
+        }
+    }
+
+    @Test
+    public void testPredictionStats() {
+        long before = NodeParser.getPredictionStats().getSllSuccesses();
+        nodeParser.parseStatement("create dim table a (b bigint) comment 'comment'");
+        assertTrue(NodeParser.getPredictionStats().getSllSuccesses() > before);
+    }
+
+    @Test
+    public void testParallelMultiParse() throws IOException {
+        String script = IOUtils.toString(NodeParser.class.getResourceAsStream("/warmup/fml.txt"),
+            StandardCharsets.UTF_8);
+        assertSameStatements(script);
+        assertSameStatements("create dim table a (b bigint);  create dim table c (d bigint)\n"
+            + "comment 'c';\n\n -- comment\n create dim table e (f bigint)");
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParallelMultiParseError() {
+        nodeParser.multiParse(new DomainLanguage("create dim table a (b bigint);create table c (d bigint)"),
+            ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void testParseStream() throws IOException {
+        String script = IOUtils.toString(NodeParser.class.getResourceAsStream("/warmup/fml.txt"),
+            StandardCharsets.UTF_8) + "\n-- end";
+        List<BaseStatement> expect = nodeParser.multiParse(new DomainLanguage(script));
+        List<BaseStatement> actual;
+        try (Stream<BaseStatement> stream = nodeParser.parseStream(new StringReader(script))) {
+            actual = stream.collect(Collectors.toList());
+        }
+        assertEquals(expect.size(), actual.size());
+        for (int i = 0; i < expect.size(); i++) {
+            BaseStatement e = expect.get(i);
+            BaseStatement a = actual.get(i);
+            assertEquals(e.toString(), a.toString());
+            assertEquals(e.getOrigin(), a.getOrigin());
+            assertEquals(String.valueOf(e.getLocation()), String.valueOf(a.getLocation()));
+        }
+    }
+
+    @Test
+    public void testParseStreamError() {
+        Iterator<BaseStatement> iterator = nodeParser.parseStream(
+            new StringReader("create dim table a (b bigint);\ncreate table c (d bigint);")).iterator();
+        assertNotNull(iterator.next());
+        try {
+            iterator.next();
+            fail();
+        } catch (ParseException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("line 2:"));
+        }
+    }
+
+    @Test
+    public void testParseMetrics() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        MetricsRegistry.setParseMetrics(metrics);
+        try {
+            nodeParser.parseStatement("create dim table a (b bigint) comment 'comment'");
+            assertEquals(1, metrics.getStats("fml", ParsePhase.PARSE).getCount());
+            assertEquals(1, metrics.getStats("fml", ParsePhase.AST_BUILD).getCount());
+        } finally {
+            MetricsRegistry.setParseMetrics(null);
+        }
+        assertEquals(ParseMetrics.NOOP, MetricsRegistry.getParseMetrics());
+    }
+
+    @Test
+    public void testLazyOrigin() {
+        String script = "create dim table a (b bigint) comment 'comment';\ncreate dim table c (d bigint)";
+        List<BaseStatement> statements = nodeParser.multiParse(new DomainLanguage(script));
+        assertEquals("create dim table a (b bigint) comment 'comment'", statements.get(0).getOrigin());
+        assertEquals("create dim table c (d bigint)", statements.get(1).getOrigin());
+        ArithmeticBinaryExpression expression = nodeParser.parseExpression("a + (b * 2)");
+        assertEquals("a + (b * 2)", expression.getOrigin());
+        assertEquals("b * 2", expression.getRight().getOrigin());
+        assertEquals("a", expression.getLeft().getOrigin());
+    }
+
+    @Test
+    public void testWithoutOrigin() {
+        NodeParser parser = new NodeParser(ParserSessionPool.getDefault(), false);
+        String script = "create dim table a (b bigint) comment 'comment';create dim table c (d bigint)";
+        List<BaseStatement> expect = nodeParser.multiParse(new DomainLanguage(script));
+        List<BaseStatement> actual = parser.multiParse(new DomainLanguage(script));
+        assertEquals(expect.size(), actual.size());
+        for (int i = 0; i < expect.size(); i++) {
+            assertEquals(expect.get(i).toString(), actual.get(i).toString());
+            assertNull(actual.get(i).getOrigin());
+        }
+        ArithmeticBinaryExpression expression = parser.parseExpression("a + 1");
+        assertNull(expression.getOrigin());
+        assertNull(expression.getLeft().getOrigin());
+        //关闭只对当前的parser生效
+        assertEquals("a + 1", nodeParser.parseExpr(new DomainLanguage("a + 1")).getOrigin());
+    }
+
+    private void assertSameStatements(String script) {
+        List<BaseStatement> expect = nodeParser.multiParse(new DomainLanguage(script));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<BaseStatement> actual = nodeParser.multiParse(new DomainLanguage(script), pool);
+            assertEquals(expect.size(), actual.size());
+            for (int i = 0; i < expect.size(); i++) {
+                BaseStatement e = expect.get(i);
+                BaseStatement a = actual.get(i);
+                assertEquals(e.toString(), a.toString());
+                assertEquals(e.getOrigin(), a.getOrigin());
+                assertEquals(String.valueOf(e.getLocation()), String.valueOf(a.getLocation()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
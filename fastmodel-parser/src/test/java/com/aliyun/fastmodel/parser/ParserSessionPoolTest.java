@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.aliyun.fastmodel.core.exception.ParseException;
+import com.aliyun.fastmodel.core.parser.DomainLanguage;
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ParserSessionPoolTest
+ *
+ * @author panguanjing
+ * @date 2022/6/20
+ */
+public class ParserSessionPoolTest {
+
+    ParserSessionPool pool = new ParserSessionPool(true);
+
+    NodeParser nodeParser = new NodeParser(pool);
+
+    @Test
+    public void testBorrowSameThread() {
+        ParserSession session = pool.borrow();
+        pool.release(session);
+        ParserSession again = pool.borrow();
+        assertSame(session, again);
+        pool.release(again);
+    }
+
+    @Test
+    public void testBorrowReentrant() {
+        ParserSession session = pool.borrow();
+        ParserSession nested = pool.borrow();
+        assertNotSame(session, nested);
+        pool.release(nested);
+        assertTrue(session.isBorrowed());
+        pool.release(session);
+    }
+
+    @Test
+    public void testNoReuse() {
+        ParserSessionPool noReuse = new ParserSessionPool(false);
+        ParserSession session = noReuse.borrow();
+        noReuse.release(session);
+        assertNotSame(session, noReuse.borrow());
+    }
+
+    @Test
+    public void testReuseAfterError() {
+        try {
+            nodeParser.parseStatement("ddd;");
+        } catch (ParseException e) {
+            //ignore
+        }
+        CreateDimTable createDimTable = nodeParser.parseStatement("create dim table a (b bigint) comment 'comment'");
+        assertEquals("a", createDimTable.getIdentifier());
+        assertEquals("b", createDimTable.getColumnDefines().get(0).getColName().getValue());
+    }
+
+    @Test
+    public void testMultiThread() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<BaseStatement>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String dsl = "create dim table t_" + i + " (b bigint) comment 'comment';"
+                    + "create dim table s_" + i + " (c bigint);";
+                futures.add(executorService.submit(() -> nodeParser.multiParse(new DomainLanguage(dsl))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                List<BaseStatement> statements = futures.get(i).get();
+                assertEquals(2, statements.size());
+                assertEquals("t_" + i, ((CreateDimTable)statements.get(0)).getIdentifier());
+                assertEquals("s_" + i, ((CreateDimTable)statements.get(1)).getIdentifier());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -52,6 +52,20 @@ public class StatementSplitterTest {
         assertEquals(2, statements.size());
     }
 
+    @Test
+    public void testSplitPosition() {
+        StatementSplitter statementSplitter = new StatementSplitter("show tables;  show create table a.b;\n\n  show tables");
+        List<StatementText> statements = statementSplitter.getStatements();
+        assertEquals(1, statements.get(0).getLine());
+        assertEquals(0, statements.get(0).getCharPositionInLine());
+        assertEquals(1, statements.get(1).getLine());
+        assertEquals(14, statements.get(1).getCharPositionInLine());
+        StatementText partial = statementSplitter.getPartialStatementText();
+        assertEquals("show tables", partial.getStatement());
+        assertEquals(3, partial.getLine());
+        assertEquals(2, partial.getCharPositionInLine());
+    }
+
     @Test
     public void testGetLexer() {
         TokenSource lexer = StatementSplitter.getLexer("show tables;", Sets.newHashSet(";"));
@@ -17,6 +17,7 @@
 package com.aliyun.fastmodel.parser.impl;
 
 import com.aliyun.fastmodel.core.formatter.FastModelFormatter;
+import com.aliyun.fastmodel.core.tree.expr.Parameter;
 import com.aliyun.fastmodel.core.tree.expr.literal.LongLiteral;
 import com.aliyun.fastmodel.core.tree.relation.querybody.QuerySpecification;
 import com.aliyun.fastmodel.core.tree.statement.select.Limit;
@@ -47,6 +48,17 @@ public class QueryTest extends BaseTest {
         assertEquals(limit.getRowCount(), new LongLiteral("1"));
     }
 
+    @Test
+    public void testQueryParameter() {
+        String fml = "select * from (select a from t1 offset ? limit ?) t offset ? limit ?";
+        for (int i = 0; i < 2; i++) {
+            Query parse = parse(fml, Query.class);
+            QuerySpecification queryBody = (QuerySpecification)parse.getQueryBody();
+            assertEquals(2, ((Parameter)queryBody.getOffset().getRowCount()).getPosition());
+            assertEquals(3, ((Parameter)((Limit)queryBody.getLimit()).getRowCount()).getPosition());
+        }
+    }
+
     @Test
     public void testQuerySubQuery() {
         String fml = "Select * from (select abc from t1)t1";
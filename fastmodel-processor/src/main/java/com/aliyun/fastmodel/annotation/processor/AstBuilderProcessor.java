@@ -21,7 +21,9 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -38,6 +40,8 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
@@ -59,6 +63,9 @@ import org.apache.commons.lang3.StringUtils;
 @SupportedAnnotationTypes("com.aliyun.fastmodel.parser.annotation.SubVisitor")
 @AutoService(Processor.class)
 public class AstBuilderProcessor extends AbstractProcessor {
+
+    private static final String VISITOR_NAME = "AnnotationProcessVisitor";
+
     private Filer filer;
 
     private Messager messager;
@@ -92,6 +99,7 @@ public class AstBuilderProcessor extends AbstractProcessor {
                         continue;
                     }
                     TypeElement element = (TypeElement)e;
+                    checkStateless(element);
                     List<? extends Element> enclosedElements = element.getEnclosedElements();
                     for (Element execute : enclosedElements) {
                         if (execute.getKind() != ElementKind.METHOD) {
@@ -112,9 +120,36 @@ public class AstBuilderProcessor extends AbstractProcessor {
         return false;
     }
 
+    /**
+     * 生成的visitor在多个解析之间共享同一个子visitor，子visitor以及父类中不能有实例字段，静态字段必须是final的
+     *
+     * @param element 子visitor
+     */
+    public void checkStateless(TypeElement element) {
+        TypeElement current = element;
+        while (current != null && !Object.class.getName().equals(current.getQualifiedName().toString())) {
+            for (Element enclosed : current.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.FIELD) {
+                    continue;
+                }
+                Set<Modifier> modifiers = enclosed.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.FINAL)) {
+                    messager.printMessage(Kind.ERROR,
+                        "SubVisitor " + element.getQualifiedName() + " must be stateless to be shared, field "
+                            + current.getSimpleName() + "." + enclosed.getSimpleName() + " is not static final",
+                        enclosed);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement)((DeclaredType)superclass).asElement() : null;
+        }
+    }
+
     public void process(Set<? extends Element> executeElement) {
-        List<MethodSpec> methodSpecs = new ArrayList<>();
-        List<FieldSpec> fieldSpecs = new ArrayList<>();
+        //按照名字排序，保证生成的代码是稳定的
+        Map<String, MethodSpec> methodSpecs = new TreeMap<>();
+        Map<String, FieldSpec> fieldSpecs = new TreeMap<>();
         Element enclosingElement = null;
         for (Element e : executeElement) {
             ExecutableElement executableElement = (ExecutableElement)e;
@@ -141,23 +176,23 @@ public class AstBuilderProcessor extends AbstractProcessor {
                 messager.printMessage(Kind.ERROR, "enclosing element is null");
             }
             ClassName className = ClassName.get((TypeElement)enclosingElement);
-            String capitalize = StringUtils.uncapitalize(className.simpleName());
+            String constant = StringUtils.join(StringUtils.splitByCharacterTypeCamelCase(className.simpleName()), "_")
+                .toUpperCase();
             TypeName type = TypeName.get(typeMirror);
-            FieldSpec fieldSpec = FieldSpec.builder(type, capitalize).addModifiers(Modifier.PRIVATE)
+            FieldSpec fieldSpec = FieldSpec.builder(type, constant)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
                 .initializer(
                     "new $T()", type
                 ).build();
-            spec.addStatement("return $N.$L($N)", capitalize, name, name1);
-            methodSpecs.add(spec.build());
-            if (!fieldSpecs.contains(fieldSpec)) {
-                fieldSpecs.add(fieldSpec);
-            }
+            spec.addStatement("return $N.$L($N)", constant, name, name1);
+            methodSpecs.put(executableElement.toString(), spec.build());
+            fieldSpecs.putIfAbsent(constant, fieldSpec);
         }
         if (enclosingElement == null) {
             return;
         }
         try {
-            write(methodSpecs, fieldSpecs, enclosingElement);
+            write(new ArrayList<>(methodSpecs.values()), new ArrayList<>(fieldSpecs.values()), enclosingElement);
         } catch (IOException e) {
             messager.printMessage(Kind.ERROR, e.getMessage());
         }
@@ -166,14 +201,22 @@ public class AstBuilderProcessor extends AbstractProcessor {
     public void write(List<MethodSpec> methodSpecs, List<FieldSpec> fieldSpecs,
                       Element enclosingElement) throws IOException {
         TypeElement typeElement = (TypeElement)enclosingElement;
-        TypeSpec astBuilder = TypeSpec.classBuilder("AnnotationProcessVisitor")
+        PackageElement packageOf = elements.getPackageOf(enclosingElement);
+        ClassName visitorName = ClassName.get(packageOf.getQualifiedName().toString(), VISITOR_NAME);
+        FieldSpec instance = FieldSpec.builder(visitorName, "INSTANCE")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("共享的实例，子visitor都是无状态的，可以被多个线程同时使用\n")
+            .initializer("new $T()", visitorName)
+            .build();
+        TypeSpec astBuilder = TypeSpec.classBuilder(VISITOR_NAME)
             .superclass(typeElement.getSuperclass())
             .addModifiers(Modifier.PUBLIC)
+            .addJavadoc("按照语法规则分发到对应的子visitor，每个子visitor只有一个共享的实例\n")
             .addFields(fieldSpecs)
+            .addField(instance)
             .addMethods(methodSpecs)
             .build();
 
-        PackageElement packageOf = elements.getPackageOf(enclosingElement);
         JavaFile javaFile = JavaFile.builder(packageOf.getQualifiedName().toString(), astBuilder)
             .build();
 
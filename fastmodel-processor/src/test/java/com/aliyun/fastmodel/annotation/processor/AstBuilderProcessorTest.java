@@ -16,15 +16,35 @@
 
 package com.aliyun.fastmodel.annotation.processor;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
 
 import com.google.common.collect.Sets;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.BDDMockito.given;
 
 /**
@@ -35,6 +55,9 @@ import static org.mockito.BDDMockito.given;
  */
 public class AstBuilderProcessorTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     AstBuilderProcessor astBuilderProcessor;
 
     @Before
@@ -58,4 +81,71 @@ public class AstBuilderProcessorTest {
         boolean process = astBuilderProcessor.process(Sets.newHashSet(typeElement), roundEnvironment);
         assertFalse(process);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGenerateSharedVisitor() throws IOException {
+        CompileResult result = compile("");
+        assertTrue(result.diagnostics.toString(), result.success);
+        String source = new String(Files.readAllBytes(
+            new File(result.sourceOutput, "sample/AnnotationProcessVisitor.java").toPath()), StandardCharsets.UTF_8);
+        assertTrue(source, source.contains("private static final ASubVisitor A_SUB_VISITOR = new ASubVisitor();"));
+        assertTrue(source, source.contains(
+            "public static final AnnotationProcessVisitor INSTANCE = new AnnotationProcessVisitor();"));
+        assertTrue(source, source.contains("return A_SUB_VISITOR.visitA(ctx);"));
+    }
+
+    @Test
+    public void testStatefulSubVisitor() throws IOException {
+        CompileResult result = compile("private int count;");
+        assertFalse(result.success);
+        assertTrue(result.diagnostics.toString(), result.diagnostics.stream()
+            .anyMatch(d -> d.getKind() == Kind.ERROR && d.getMessage(null).contains("must be stateless")));
+    }
+
+    private CompileResult compile(String field) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        File output = temporaryFolder.newFolder();
+        List<JavaFileObject> sources = Arrays.asList(
+            source("com.aliyun.fastmodel.parser.annotation.SubVisitor",
+                "package com.aliyun.fastmodel.parser.annotation;"
+                    + "public @interface SubVisitor {}"),
+            source("sample.Base",
+                "package sample;"
+                    + "public class Base { public String visitA(String ctx) { return ctx; } }"),
+            source("sample.ASubVisitor",
+                "package sample;"
+                    + "@com.aliyun.fastmodel.parser.annotation.SubVisitor "
+                    + "public class ASubVisitor extends Base {" + field
+                    + "@Override public String visitA(String ctx) { return ctx + ctx; } }"));
+        CompilationTask task = compiler.getTask(null, null, diagnostics,
+            Arrays.asList("-proc:only", "-s", output.getPath(), "-d", output.getPath()), null, sources);
+        task.setProcessors(Collections.singletonList(new AstBuilderProcessor()));
+        return new CompileResult(task.call(), diagnostics.getDiagnostics(), output);
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static class CompileResult {
+        private final boolean success;
+
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        private final File sourceOutput;
+
+        private CompileResult(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics,
+                              File sourceOutput) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+            this.sourceOutput = sourceOutput;
+        }
+    }
+}
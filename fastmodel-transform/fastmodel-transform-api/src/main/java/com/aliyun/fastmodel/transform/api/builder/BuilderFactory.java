@@ -16,10 +16,9 @@
 
 package com.aliyun.fastmodel.transform.api.builder;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.ServiceLoader;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
 
@@ -31,11 +30,17 @@ import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
  */
 public class BuilderFactory {
 
+    /**
+     * 原来拼接注册key的格式，builder现在按照方言以及类型注册在{@link ClassRegistry}中，不再使用
+     *
+     * @deprecated 不再使用，保留只为兼容引用了该常量的代码，后续版本删除
+     */
+    @Deprecated
     public static final String FORMAT = "[%s]-[%s]";
 
     private static final BuilderFactory FACTORY = new BuilderFactory();
 
-    private final Map<String, StatementBuilder> map = new HashMap<>();
+    private final ClassRegistry<DialectMeta, StatementBuilder> registry = new ClassRegistry<>();
 
     private BuilderFactory() {
         ServiceLoader<StatementBuilder> load = ServiceLoader.load(
@@ -47,8 +52,7 @@ public class BuilderFactory {
             DialectMeta dialectMeta = new DialectMeta(annotation.dialect(), annotation.version());
             Class<?>[] values = annotation.values();
             for (Class<?> v : values) {
-                String key = String.format(FORMAT, dialectMeta, v.getName());
-                map.put(key, statementBuilder);
+                registry.register(dialectMeta, v, statementBuilder);
             }
         }
     }
@@ -64,27 +68,18 @@ public class BuilderFactory {
 
     /**
      * getBuilder
-     * 1. 先根据用于定制的statement进行处理。
-     * 2. 如果定制的statement builder找不到，那么再从默认的超类中进行获取
-     * 3. 如果传入的dialectMeta中的内容还是找不到，那么取默认的方言信息进行返回
+     * 1. 先根据statement的类型沿着继承链查找，取最近的定制的builder，最后是注册在BaseStatement上的默认builder
+     * 2. 如果传入的dialectMeta中的内容还是找不到，那么取默认的方言信息进行返回
      *
      * @param source 获取制定的builder
      * @return StatementBuilder
      */
     public StatementBuilder getBuilder(BaseStatement source,
                                        DialectMeta dialectMeta) {
-        String key = String.format(FORMAT, dialectMeta.toString(),
-            source.getClass().getName());
-        StatementBuilder statementBuilder = map.get(key);
-        if (statementBuilder != null) {
-            return statementBuilder;
-        }
-        key = String.format(FORMAT, dialectMeta, BaseStatement.class.getName());
-        statementBuilder = map.get(key);
+        StatementBuilder statementBuilder = registry.get(dialectMeta, source.getClass());
         if (statementBuilder != null) {
             return statementBuilder;
         }
-        key = String.format(FORMAT, DialectMeta.createDefault(dialectMeta.getName()), BaseStatement.class.getName());
-        return map.get(key);
+        return registry.get(DialectMeta.createDefault(dialectMeta.getName()), BaseStatement.class);
     }
 }
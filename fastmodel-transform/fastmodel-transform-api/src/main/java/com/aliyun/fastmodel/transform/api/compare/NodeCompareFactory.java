@@ -70,11 +70,12 @@ public class NodeCompareFactory {
     public String compareAndFormat(DialectMeta dialectMeta,
                                    String before, String after, CompareContext context) {
         CompareResult result = compareResult(dialectMeta, before, after, context);
+        DialectMeta sourceMeta = DialectMeta.getByName(DialectName.FML);
+        //差异语句直接转换为目标方言，不需要格式化为FML再解析
         return result.getDiffStatements().stream().map(diffStatement -> {
-            DialectNode sourceNode = new DialectNode(diffStatement.toString());
             DialectTransformParam param = DialectTransformParam.builder()
-                    .sourceMeta(DialectMeta.getByName(DialectName.FML))
-                    .sourceNode(sourceNode)
+                    .sourceMeta(sourceMeta)
+                    .sourceAst(diffStatement)
                     .targetMeta(dialectMeta)
                     .build();
             DialectNode dialectNode = DialectTransform.transform(param);
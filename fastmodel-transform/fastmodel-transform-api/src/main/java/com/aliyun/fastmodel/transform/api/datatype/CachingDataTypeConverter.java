@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.datatype;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
+import com.aliyun.fastmodel.core.tree.datatype.DataTypeParameter;
+import com.aliyun.fastmodel.core.tree.datatype.GenericDataType;
+import com.aliyun.fastmodel.core.tree.datatype.NumericParameter;
+import com.aliyun.fastmodel.core.tree.expr.Identifier;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 缓存转换结果的类型转换器
+ * <p>
+ * 类型的转换只与类型的名字以及参数相关，因此按照(类型名，参数)缓存转换的结果。
+ * 只缓存输入以及结果的参数都是数字的{@link GenericDataType}，复杂类型直接交给被代理的转换器。
+ * 转换器可能直接返回输入的节点，节点带有位置以及原始文本，因此缓存中只保存结果的名字以及参数，
+ * 每次命中时创建新的节点，不同的语法树之间不会共享节点，也不会引用调用方的脚本。
+ * 缓存按照条目数淘汰，转换失败抛出的异常不会被缓存。
+ *
+ * @author panguanjing
+ * @date 2022/7/6
+ */
+public class CachingDataTypeConverter implements DataTypeConverter {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024;
+
+    @Getter
+    private final DataTypeConverter delegate;
+
+    private final Cache<TypeKey, Optional<DetachedType>> cache;
+
+    public CachingDataTypeConverter(DataTypeConverter delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingDataTypeConverter(DataTypeConverter delegate, long maximumSize) {
+        this.delegate = delegate;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public BaseDataType convert(BaseDataType baseDataType) {
+        TypeKey key = TypeKey.of(baseDataType);
+        if (key == null) {
+            return delegate.convert(baseDataType);
+        }
+        Optional<DetachedType> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.map(DetachedType::create).orElse(null);
+        }
+        BaseDataType result = delegate.convert(baseDataType);
+        if (result == null) {
+            cache.put(key.copy(), Optional.empty());
+            return null;
+        }
+        DetachedType detachedType = DetachedType.of(result);
+        if (detachedType == null) {
+            return result;
+        }
+        cache.put(key.copy(), Optional.of(detachedType));
+        //不返回转换器的结果，结果可能是调用方的节点
+        return detachedType.create();
+    }
+
+    @Override
+    public DialectMeta getSourceDialect() {
+        return delegate.getSourceDialect();
+    }
+
+    @Override
+    public DialectMeta getTargetDialect() {
+        return delegate.getTargetDialect();
+    }
+
+    /**
+     * 缓存的key，类型名区分大小写，与转换的输入保持一致
+     */
+    @EqualsAndHashCode
+    private static class TypeKey {
+
+        private final String name;
+
+        private final List<DataTypeParameter> arguments;
+
+        private TypeKey(String name, List<DataTypeParameter> arguments) {
+            this.name = name;
+            this.arguments = arguments;
+        }
+
+        private static TypeKey of(BaseDataType baseDataType) {
+            if (baseDataType == null || baseDataType.getClass() != GenericDataType.class) {
+                return null;
+            }
+            GenericDataType genericDataType = (GenericDataType)baseDataType;
+            List<DataTypeParameter> arguments = genericDataType.getArguments();
+            if (arguments != null) {
+                for (DataTypeParameter argument : arguments) {
+                    if (!(argument instanceof NumericParameter)) {
+                        return null;
+                    }
+                }
+            }
+            return new TypeKey(genericDataType.getName().getValue(), arguments);
+        }
+
+        /**
+         * 放入缓存时复制参数，避免调用方修改参数后影响缓存
+         */
+        private TypeKey copy() {
+            return new TypeKey(name, arguments == null ? null : ImmutableList.copyOf(arguments));
+        }
+    }
+
+    /**
+     * 脱离语法树的类型，不包含位置以及原始文本
+     */
+    private static class DetachedType {
+
+        private final String name;
+
+        private final boolean delimited;
+
+        private final List<String> arguments;
+
+        private DetachedType(String name, boolean delimited, List<String> arguments) {
+            this.name = name;
+            this.delimited = delimited;
+            this.arguments = arguments;
+        }
+
+        private static DetachedType of(BaseDataType baseDataType) {
+            if (TypeKey.of(baseDataType) == null) {
+                return null;
+            }
+            GenericDataType genericDataType = (GenericDataType)baseDataType;
+            List<String> arguments = null;
+            if (genericDataType.getArguments() != null) {
+                ImmutableList.Builder<String> builder = ImmutableList.builder();
+                for (DataTypeParameter argument : genericDataType.getArguments()) {
+                    builder.add(((NumericParameter)argument).getValue());
+                }
+                arguments = builder.build();
+            }
+            Identifier identifier = genericDataType.getName();
+            return new DetachedType(identifier.getValue(), identifier.isDelimited(), arguments);
+        }
+
+        private BaseDataType create() {
+            List<DataTypeParameter> parameters = null;
+            if (arguments != null) {
+                parameters = new ArrayList<>(arguments.size());
+                for (String argument : arguments) {
+                    parameters.add(new NumericParameter(argument));
+                }
+            }
+            return new GenericDataType(new Identifier(name, delimited), parameters);
+        }
+    }
+}
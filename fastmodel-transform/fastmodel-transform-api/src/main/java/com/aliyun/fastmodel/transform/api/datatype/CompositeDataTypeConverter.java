@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.datatype;
+
+import java.util.List;
+
+import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+/**
+ * 将多个类型转换器串联为一个，例如hive -> fml -> oracle
+ * <p>
+ * 依次调用每一步的转换器，某一步返回null时整体返回null。
+ *
+ * @author panguanjing
+ * @date 2022/7/6
+ */
+public class CompositeDataTypeConverter implements DataTypeConverter {
+
+    @Getter
+    private final List<DataTypeConverter> converters;
+
+    public CompositeDataTypeConverter(List<DataTypeConverter> converters) {
+        Preconditions.checkArgument(converters != null && !converters.isEmpty(), "converters can't be empty");
+        this.converters = ImmutableList.copyOf(converters);
+    }
+
+    @Override
+    public BaseDataType convert(BaseDataType baseDataType) {
+        BaseDataType result = baseDataType;
+        for (DataTypeConverter converter : converters) {
+            result = converter.convert(result);
+            if (result == null) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public DialectMeta getSourceDialect() {
+        return converters.get(0).getSourceDialect();
+    }
+
+    @Override
+    public DialectMeta getTargetDialect() {
+        return converters.get(converters.size() - 1).getTargetDialect();
+    }
+}
@@ -16,37 +16,73 @@
 
 package com.aliyun.fastmodel.transform.api.datatype;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
 
 /**
  * Factory
+ * <p>
+ * 注册的转换器构成以方言为节点的图，{@link #get(DialectMeta, DialectMeta)}只返回直接注册的转换器，
+ * {@link #find(DialectMeta, DialectMeta)}在没有直接注册时按照最短路径将多个转换器串联，
+ * 例如hive -> fml -> oracle，串联的结果会被缓存。
+ * 所有返回的转换器都会缓存类型的转换结果，见{@link CachingDataTypeConverter}。
  *
  * @author panguanjing
  * @date 2021/8/13
  */
 public class DataTypeConverterFactory {
     private static final DataTypeConverterFactory INSTANCE = new DataTypeConverterFactory();
+
+    /**
+     * 原来拼接注册key的格式，转换器现在按照源方言以及目标方言两级索引，不再使用
+     *
+     * @deprecated 不再使用，保留只为兼容引用了该常量的代码，后续版本删除
+     */
+    @Deprecated
     public static final String FORMAT = "%s>%s";
 
-    private Map<String, DataTypeConverter> transformerMap = new HashMap<>();
+    /**
+     * 按照源方言以及目标方言两级索引，查找时不需要拼接key
+     */
+    private final Map<DialectMeta, Map<DialectMeta, DataTypeConverter>> transformerMap = new HashMap<>();
+
+    /**
+     * 只按照方言的名字索引，版本找不到时使用，同时也是查找路径时使用的图
+     */
+    private final Map<DialectName, Map<DialectName, DataTypeConverter>> defaultMap = new EnumMap<>(
+        DialectName.class);
+
+    /**
+     * 串联后的转换器，没有路径时为empty
+     */
+    private final Map<DialectMeta, Map<DialectMeta, Optional<DataTypeConverter>>> compiledMap
+        = new ConcurrentHashMap<>();
 
     /**
      * 私有构造函数，只在内容进行调用
      */
     private DataTypeConverterFactory() {
         ServiceLoader<DataTypeConverter> load = ServiceLoader.load(DataTypeConverter.class);
-        for (DataTypeConverter transformer : load) {
-            String dialectKey = String.format(FORMAT, transformer.getSourceDialect(), transformer.getTargetDialect());
-            transformerMap.put(dialectKey, transformer);
+        for (DataTypeConverter converter : load) {
+            DataTypeConverter transformer = new CachingDataTypeConverter(converter);
+            transformerMap.computeIfAbsent(transformer.getSourceDialect(), k -> new HashMap<>())
+                .put(transformer.getTargetDialect(), transformer);
             //default key put
-            String defaultKey = String.format(FORMAT,
-                transformer.getSourceDialect().getName(),
-                transformer.getTargetDialect().getName());
-            transformerMap.put(defaultKey, transformer);
+            defaultMap.computeIfAbsent(transformer.getSourceDialect().getName(), k -> new EnumMap<>(DialectName.class))
+                .put(transformer.getTargetDialect().getName(), transformer);
         }
     }
 
@@ -54,12 +90,83 @@ public class DataTypeConverterFactory {
         return INSTANCE;
     }
 
+    /**
+     * 获取直接注册的转换器
+     *
+     * @param source 源方言
+     * @param target 目标方言
+     * @return {@link DataTypeConverter}，没有时返回null
+     */
     public DataTypeConverter get(DialectMeta source, DialectMeta target) {
-        String f = String.format(FORMAT, source, target);
-        DataTypeConverter dataTypeTransformer = transformerMap.get(f);
+        Map<DialectMeta, DataTypeConverter> targets = transformerMap.get(source);
+        DataTypeConverter dataTypeTransformer = targets == null ? null : targets.get(target);
         if (dataTypeTransformer == null) {
-            return transformerMap.get(String.format(FORMAT, source.getName(), target.getName()));
+            Map<DialectName, DataTypeConverter> defaultTargets = defaultMap.get(source.getName());
+            return defaultTargets == null ? null : defaultTargets.get(target.getName());
         }
         return dataTypeTransformer;
     }
+
+    /**
+     * 获取转换器，没有直接注册时按照经过方言最少的路径将多个转换器串联为一个
+     * <p>
+     * 每经过一个方言，类型都可能会损失精度，因此只在确实需要跨方言转换时使用
+     *
+     * @param source 源方言
+     * @param target 目标方言
+     * @return {@link DataTypeConverter}，没有路径时返回null
+     */
+    public DataTypeConverter find(DialectMeta source, DialectMeta target) {
+        DataTypeConverter direct = get(source, target);
+        if (direct != null) {
+            return direct;
+        }
+        return compiledMap.computeIfAbsent(source, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(target, k -> Optional.ofNullable(compile(source, target)))
+            .orElse(null);
+    }
+
+    private DataTypeConverter compile(DialectMeta source, DialectMeta target) {
+        List<DialectName> path = shortestPath(source.getName(), target.getName());
+        if (path == null) {
+            return null;
+        }
+        List<DataTypeConverter> converters = new ArrayList<>(path.size() - 1);
+        for (int i = 0; i < path.size() - 1; i++) {
+            DialectMeta from = i == 0 ? source : DialectMeta.createDefault(path.get(i));
+            DialectMeta to = i == path.size() - 2 ? target : DialectMeta.createDefault(path.get(i + 1));
+            //每一步不再单独缓存，只缓存串联后的结果
+            converters.add(((CachingDataTypeConverter)get(from, to)).getDelegate());
+        }
+        return new CachingDataTypeConverter(new CompositeDataTypeConverter(converters));
+    }
+
+    /**
+     * 广度优先查找方言之间的最短路径，包含起点以及终点，没有路径时返回null
+     */
+    private List<DialectName> shortestPath(DialectName source, DialectName target) {
+        Map<DialectName, DialectName> previous = new EnumMap<>(DialectName.class);
+        Deque<DialectName> queue = new ArrayDeque<>();
+        previous.put(source, source);
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            DialectName current = queue.poll();
+            for (DialectName next : defaultMap.getOrDefault(current, Collections.emptyMap()).keySet()) {
+                if (previous.containsKey(next)) {
+                    continue;
+                }
+                previous.put(next, current);
+                if (next == target) {
+                    LinkedList<DialectName> path = new LinkedList<>();
+                    for (DialectName n = target; n != source; n = previous.get(n)) {
+                        path.addFirst(n);
+                    }
+                    path.addFirst(source);
+                    return path;
+                }
+                queue.add(next);
+            }
+        }
+        return null;
+    }
 }
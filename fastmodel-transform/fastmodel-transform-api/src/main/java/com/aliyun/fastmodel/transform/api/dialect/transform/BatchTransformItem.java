@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.dialect.transform;
+
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 批量转换中单个节点的转换结果
+ *
+ * @author panguanjing
+ * @date 2022/7/5
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchTransformItem {
+
+    /**
+     * 在输入中的位置，从0开始
+     */
+    private final long index;
+
+    /**
+     * 源节点
+     */
+    private final DialectNode source;
+
+    /**
+     * 转换后的节点，失败时为null
+     */
+    private final DialectNode target;
+
+    /**
+     * 失败的原因，成功时为null
+     */
+    private final RuntimeException error;
+
+    static BatchTransformItem success(long index, DialectNode source, DialectNode target) {
+        return new BatchTransformItem(index, source, target, null);
+    }
+
+    static BatchTransformItem failure(long index, DialectNode source, RuntimeException error) {
+        return new BatchTransformItem(index, source, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.dialect.transform;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 批量转换的结果，条目的顺序与输入一致
+ *
+ * @author panguanjing
+ * @date 2022/7/5
+ */
+@Getter
+@ToString
+public class BatchTransformResult {
+
+    private final List<BatchTransformItem> items;
+
+    private final int successCount;
+
+    private final int failureCount;
+
+    BatchTransformResult(List<BatchTransformItem> items) {
+        this.items = items;
+        successCount = (int)items.stream().filter(BatchTransformItem::isSuccess).count();
+        failureCount = items.size() - successCount;
+    }
+
+    /**
+     * 转换失败的条目
+     *
+     * @return 失败的条目，顺序与输入一致
+     */
+    public List<BatchTransformItem> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).collect(Collectors.toList());
+    }
+}
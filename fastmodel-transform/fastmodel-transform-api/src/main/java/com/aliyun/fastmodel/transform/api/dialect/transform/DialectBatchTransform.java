@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.dialect.transform;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.aliyun.fastmodel.core.tree.Node;
+import com.aliyun.fastmodel.transform.api.Transformer;
+import com.aliyun.fastmodel.transform.api.context.ReverseContext;
+import com.aliyun.fastmodel.transform.api.context.TransformContext;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import com.google.common.base.Preconditions;
+
+/**
+ * 固定源方言与目标方言的批量转换
+ * <p>
+ * 转换器、类型转换器以及context在创建时只解析一次，所有的节点共用。
+ * 设置了线程池时节点作为任务并行转换，同时执行的任务数不超过maxInFlight，
+ * 达到上限后等待最早提交的任务完成再读取下一个节点，因此输入可以是很大的流。
+ * 结果按照输入的顺序在调用线程中返回，单个节点失败只记录在结果中，不会中断整个批次。
+ *
+ * @author panguanjing
+ * @date 2022/7/5
+ */
+public class DialectBatchTransform {
+
+    private final DialectMeta sourceMeta;
+
+    private final DialectMeta targetMeta;
+
+    /**
+     * 源与目标方言相同时为null，直接返回源节点
+     */
+    private final Transformer sourceTransformer;
+
+    private final Transformer targetTransformer;
+
+    private final ReverseContext reverseContext;
+
+    private final TransformContext transformContext;
+
+    private final Executor executor;
+
+    private final int maxInFlight;
+
+    private DialectBatchTransform(Builder builder) {
+        Preconditions.checkNotNull(builder.sourceMeta, "source dialect meta can't be null");
+        Preconditions.checkNotNull(builder.targetMeta, "target dialect meta can't be null");
+        Preconditions.checkArgument(builder.maxInFlight > 0, "maxInFlight must be positive");
+        sourceMeta = builder.sourceMeta;
+        targetMeta = builder.targetMeta;
+        reverseContext = builder.reverseContext;
+        executor = builder.executor;
+        maxInFlight = builder.maxInFlight;
+        if (Objects.equals(sourceMeta, targetMeta)) {
+            sourceTransformer = null;
+            targetTransformer = null;
+            transformContext = null;
+        } else {
+            sourceTransformer = DialectTransform.getSourceTransformer(sourceMeta);
+            targetTransformer = DialectTransform.getTargetTransformer(targetMeta);
+            transformContext = DialectTransform.prepareContext(builder.transformContext, sourceMeta, targetMeta);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 转换集合中的节点
+     *
+     * @param nodes 源节点
+     * @return {@link BatchTransformResult}
+     */
+    public BatchTransformResult transform(Collection<? extends DialectNode> nodes) {
+        List<BatchTransformItem> items = new ArrayList<>(nodes.size());
+        transform(nodes.iterator(), items::add);
+        return new BatchTransformResult(items);
+    }
+
+    /**
+     * 转换流中的节点，结果逐个交给consumer，不会在内存中保留
+     *
+     * @param nodes    源节点
+     * @param consumer 在调用线程中按照输入的顺序接收结果
+     */
+    public void transform(Stream<? extends DialectNode> nodes, Consumer<BatchTransformItem> consumer) {
+        transform(nodes.iterator(), consumer);
+    }
+
+    /**
+     * 转换迭代器中的节点，结果逐个交给consumer，不会在内存中保留
+     *
+     * @param nodes    源节点
+     * @param consumer 在调用线程中按照输入的顺序接收结果
+     */
+    public void transform(Iterator<? extends DialectNode> nodes, Consumer<BatchTransformItem> consumer) {
+        if (executor == null) {
+            long index = 0;
+            while (nodes.hasNext()) {
+                consumer.accept(transformItem(index++, nodes.next()));
+            }
+            return;
+        }
+        Deque<CompletableFuture<BatchTransformItem>> inFlight = new ArrayDeque<>(maxInFlight);
+        long index = 0;
+        while (nodes.hasNext()) {
+            if (inFlight.size() >= maxInFlight) {
+                consumer.accept(inFlight.poll().join());
+            }
+            long current = index++;
+            DialectNode node = nodes.next();
+            inFlight.add(CompletableFuture.supplyAsync(() -> transformItem(current, node), executor));
+        }
+        while (!inFlight.isEmpty()) {
+            consumer.accept(inFlight.poll().join());
+        }
+    }
+
+    private BatchTransformItem transformItem(long index, DialectNode sourceNode) {
+        try {
+            Preconditions.checkNotNull(sourceNode, "source node can't be null");
+            if (sourceTransformer == null) {
+                return BatchTransformItem.success(index, sourceNode, sourceNode);
+            }
+            Node reverse = DialectTransform.reverse(sourceTransformer, sourceNode, reverseContext, sourceMeta);
+            DialectNode target = DialectTransform.transform(targetTransformer, reverse, transformContext,
+                targetMeta);
+            return BatchTransformItem.success(index, sourceNode, target);
+        } catch (RuntimeException e) {
+            return BatchTransformItem.failure(index, sourceNode, e);
+        }
+    }
+
+    public static class Builder {
+
+        private DialectMeta sourceMeta;
+
+        private DialectMeta targetMeta;
+
+        private ReverseContext reverseContext;
+
+        private TransformContext transformContext;
+
+        private Executor executor;
+
+        private int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+
+        public Builder sourceMeta(DialectMeta sourceMeta) {
+            this.sourceMeta = sourceMeta;
+            return this;
+        }
+
+        public Builder targetMeta(DialectMeta targetMeta) {
+            this.targetMeta = targetMeta;
+            return this;
+        }
+
+        public Builder reverseContext(ReverseContext reverseContext) {
+            this.reverseContext = reverseContext;
+            return this;
+        }
+
+        /**
+         * 所有节点共用的context，转换器不会修改context
+         */
+        public Builder transformContext(TransformContext transformContext) {
+            this.transformContext = transformContext;
+            return this;
+        }
+
+        /**
+         * 执行转换的线程池，为空时在调用线程中串行转换
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 同时执行的最大任务数，默认为cpu核数的两倍
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public DialectBatchTransform build() {
+            return new DialectBatchTransform(this);
+        }
+    }
+}
@@ -16,17 +16,19 @@
 
 package com.aliyun.fastmodel.transform.api.dialect.transform;
 
+import com.aliyun.fastmodel.common.metrics.MetricsRegistry;
+import com.aliyun.fastmodel.common.metrics.TransformMetrics;
+import com.aliyun.fastmodel.common.metrics.TransformPhase;
 import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.transform.api.Transformer;
 import com.aliyun.fastmodel.transform.api.TransformerFactory;
+import com.aliyun.fastmodel.transform.api.context.ReverseContext;
 import com.aliyun.fastmodel.transform.api.context.TransformContext;
 import com.aliyun.fastmodel.transform.api.datatype.DataTypeConverter;
 import com.aliyun.fastmodel.transform.api.datatype.DataTypeConverterFactory;
 import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
 import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
 import com.google.common.base.Preconditions;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.time.StopWatch;
 
 import java.util.Objects;
 
@@ -36,7 +38,6 @@ import java.util.Objects;
  * @author panguanjing
  * @date 2021/7/26
  */
-@Slf4j
 public class DialectTransform {
     /**
      * 支持将一个方言的code转换为另外一个方言的code的处理
@@ -45,50 +46,63 @@ public class DialectTransform {
      * @return {@link DialectNode}
      */
     public static DialectNode transform(DialectTransformParam dialectTransformParam) {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
         Preconditions.checkNotNull(dialectTransformParam, "param can't be null");
         DialectMeta sourceMeta = dialectTransformParam.getSourceMeta();
         DialectMeta targetMeta = dialectTransformParam.getTargetMeta();
-        DialectNode sourceNode = dialectTransformParam.getSourceNode();
         Preconditions.checkNotNull(sourceMeta, "source dialect meta can't be null");
         Preconditions.checkNotNull(targetMeta, "target dialect meta can't be null");
+        if (dialectTransformParam.getSourceAst() != null) {
+            return transformAst(dialectTransformParam);
+        }
+        DialectNode sourceNode = dialectTransformParam.getSourceNode();
         Preconditions.checkNotNull(sourceNode, "source node can't be null");
-        log.info("第{}步运行时间：{}", 1, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
         //if source meta equal target meta
         if (Objects.equals(sourceMeta, targetMeta)) {
             return dialectTransformParam.getSourceNode();
         }
+        Transformer sourceTransformer = getSourceTransformer(sourceMeta);
+        Transformer targetTransformer = getTargetTransformer(targetMeta);
+        Node reverse = reverse(sourceTransformer, sourceNode, dialectTransformParam.getReverseContext(), sourceMeta);
+        TransformContext transformContext = prepareContext(dialectTransformParam.getTransformContext(), sourceMeta,
+            targetMeta);
+        return transform(targetTransformer, reverse, transformContext, targetMeta);
+    }
+
+    /**
+     * 内存中的节点直接转换为目标方言，跳过源方言的格式化与解析。
+     * 节点按照sourceMeta的数据类型转换到targetMeta，源与目标相同时也会使用目标方言格式化
+     */
+    private static DialectNode transformAst(DialectTransformParam dialectTransformParam) {
+        DialectMeta targetMeta = dialectTransformParam.getTargetMeta();
+        Transformer targetTransformer = getTargetTransformer(targetMeta);
+        TransformContext transformContext = prepareContext(dialectTransformParam.getTransformContext(),
+            dialectTransformParam.getSourceMeta(), targetMeta);
+        return transform(targetTransformer, dialectTransformParam.getSourceAst(), transformContext, targetMeta);
+    }
+
+    static Transformer getSourceTransformer(DialectMeta sourceMeta) {
         Transformer sourceTransformer = TransformerFactory.getInstance().get(sourceMeta);
         if (sourceTransformer == null) {
             throw new UnsupportedOperationException(
                     "can't find source transformer with meta:" + sourceMeta);
         }
+        return sourceTransformer;
+    }
+
+    static Transformer getTargetTransformer(DialectMeta targetMeta) {
         Transformer targetTransformer = TransformerFactory.getInstance().get(targetMeta);
         if (targetTransformer == null) {
             throw new UnsupportedOperationException(
                     "can't find target transformer with meta:" + targetMeta);
         }
-        log.info("第{}步运行时间：{}", 2, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        Node reverse = sourceTransformer.reverse(sourceNode, dialectTransformParam.getReverseContext());
-        if (reverse == null) {
-            throw new UnsupportedOperationException(
-                    "unsupported reverse the sourceNode:" + dialectTransformParam.getSourceNode());
-        }
-        log.info("第{}步运行时间：{}", 3, stopWatch.getTime());
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        TransformContext transformContext = dialectTransformParam.getTransformContext();
+        return targetTransformer;
+    }
+
+    /**
+     * 没有传入context时创建默认的，没有设置类型转换器时根据源与目标方言设置
+     */
+    static TransformContext prepareContext(TransformContext transformContext, DialectMeta sourceMeta,
+                                           DialectMeta targetMeta) {
         if (transformContext == null) {
             transformContext = TransformContext.builder().build();
         }
@@ -97,31 +111,33 @@ public class DialectTransform {
                     .get(sourceMeta, targetMeta);
             transformContext.setDataTypeTransformer(dataTypeTransformer);
         }
-        DialectNode dialectNode = targetTransformer.transform(reverse, transformContext);
-        stopWatch.stop();
-        log.info("第{}步运行时间：{}", 4, stopWatch.getTime());
-        return dialectNode;
+        return transformContext;
     }
 
-    public static void main(String[] args) throws InterruptedException {
+    static Node reverse(Transformer sourceTransformer, DialectNode sourceNode, ReverseContext reverseContext,
+                        DialectMeta sourceMeta) {
+        TransformMetrics metrics = MetricsRegistry.getTransformMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        Node reverse = sourceTransformer.reverse(sourceNode, reverseContext);
+        if (reverse == null) {
+            throw new UnsupportedOperationException(
+                    "unsupported reverse the sourceNode:" + sourceNode);
+        }
+        if (metrics.isEnabled()) {
+            metrics.record(sourceMeta.getName().name(), TransformPhase.REVERSE, System.nanoTime() - start);
+        }
+        return reverse;
+    }
 
-        // 暂停计时测试
-        StopWatch stopWatch = StopWatch.createStarted();
-        Thread.sleep(2000);
-        System.out.println(stopWatch.getTime()); // 2005,暂停之后不再计时，所以暂停之后的2s不会计入
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        Thread.sleep(2000);
-        System.out.println(stopWatch.getTime()); // 这里返回split标记到开始计时时的时间间隔，4010
-        // 设置split停止标记
-        stopWatch.reset();
-        //重置后必须使用start方法
-        stopWatch.start();
-        Thread.sleep(5000);
-        stopWatch.stop();
-        System.out.println(stopWatch.getTime()); // 这里返回split标记到开始计时时的时间间隔，4010
+    static DialectNode transform(Transformer targetTransformer, Node source, TransformContext transformContext,
+                                 DialectMeta targetMeta) {
+        TransformMetrics metrics = MetricsRegistry.getTransformMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        DialectNode dialectNode = targetTransformer.transform(source, transformContext);
+        if (metrics.isEnabled()) {
+            metrics.record(targetMeta.getName().name(), TransformPhase.TRANSFORM, System.nanoTime() - start);
+        }
+        return dialectNode;
     }
 
 }
@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.transform.api.dialect.transform;
 
+import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.transform.api.context.ReverseContext;
 import com.aliyun.fastmodel.transform.api.context.TransformContext;
 import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
@@ -33,6 +34,11 @@ public class DialectTransformParam {
 
     private final DialectNode sourceNode;
 
+    /**
+     * 内存中的源节点，设置后不再解析{@link #sourceNode}，直接转换为目标方言
+     */
+    private final Node sourceAst;
+
     private final DialectMeta sourceMeta;
 
     private final DialectMeta targetMeta;
@@ -43,6 +49,7 @@ public class DialectTransformParam {
 
     protected DialectTransformParam(DialectTransformParamBuilder builder) {
         sourceNode = builder.sourceNode;
+        sourceAst = builder.sourceAst;
         sourceMeta = builder.sourceMeta;
         targetMeta = builder.targetMeta;
         transformContext = builder.transformContext;
@@ -57,6 +64,8 @@ public class DialectTransformParam {
 
         private DialectNode sourceNode;
 
+        private Node sourceAst;
+
         private DialectMeta sourceMeta;
 
         private DialectMeta targetMeta;
@@ -70,6 +79,11 @@ public class DialectTransformParam {
             return this;
         }
 
+        public DialectTransformParamBuilder sourceAst(Node sourceAst) {
+            this.sourceAst = sourceAst;
+            return this;
+        }
+
         public DialectTransformParamBuilder sourceMeta(DialectMeta sourceMeta) {
             this.sourceMeta = sourceMeta;
             return this;
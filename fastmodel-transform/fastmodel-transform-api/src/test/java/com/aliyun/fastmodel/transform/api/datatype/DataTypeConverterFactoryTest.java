@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.api.datatype;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aliyun.fastmodel.core.tree.NodeLocation;
+import com.aliyun.fastmodel.core.tree.datatype.BaseDataType;
+import com.aliyun.fastmodel.core.tree.datatype.DataTypeParameter;
+import com.aliyun.fastmodel.core.tree.datatype.GenericDataType;
+import com.aliyun.fastmodel.core.tree.datatype.NumericParameter;
+import com.aliyun.fastmodel.core.tree.expr.Identifier;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * DataTypeConverterFactoryTest
+ *
+ * @author panguanjing
+ * @date 2022/7/6
+ */
+public class DataTypeConverterFactoryTest {
+
+    private static final AtomicInteger HIVE_2_FML_COUNT = new AtomicInteger();
+
+    DataTypeConverterFactory factory = DataTypeConverterFactory.getInstance();
+
+    @Test
+    public void testFind() {
+        DialectMeta oracle = DialectMeta.getByName(DialectName.ORACLE);
+        assertNull(factory.get(DialectMeta.DEFAULT_HIVE, oracle));
+        DataTypeConverter converter = factory.find(DialectMeta.DEFAULT_HIVE, oracle);
+        assertNotNull(converter);
+        assertSame(converter, factory.find(DialectMeta.DEFAULT_HIVE, oracle));
+        assertEquals(DialectMeta.DEFAULT_HIVE, converter.getSourceDialect());
+        assertEquals(oracle, converter.getTargetDialect());
+        BaseDataType dataType = converter.convert(type("varchar", "10"));
+        assertEquals("ORACLE_varchar", ((GenericDataType)dataType).getName().getValue());
+        assertEquals(1, ((GenericDataType)dataType).getArguments().size());
+        assertNull(factory.find(oracle, DialectMeta.DEFAULT_HIVE));
+    }
+
+    @Test
+    public void testMemoize() {
+        DataTypeConverter converter = factory.find(DialectMeta.DEFAULT_HIVE, DialectMeta.getByName(DialectName.FML));
+        int count = HIVE_2_FML_COUNT.get();
+        BaseDataType first = converter.convert(type("decimal", "1", "2"));
+        BaseDataType second = converter.convert(type("decimal", "1", "2"));
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(count + 1, HIVE_2_FML_COUNT.get());
+        converter.convert(type("DECIMAL", "1", "2"));
+        assertEquals(count + 2, HIVE_2_FML_COUNT.get());
+    }
+
+    @Test
+    public void testNotShareInput() {
+        DataTypeConverter identity = new Hive2FmlConverter() {
+            @Override
+            public BaseDataType convert(BaseDataType baseDataType) {
+                return baseDataType;
+            }
+        };
+        CachingDataTypeConverter converter = new CachingDataTypeConverter(identity);
+        BaseDataType input = new GenericDataType(new NodeLocation(3, 4), "varchar(10)", new Identifier("varchar"),
+            ImmutableList.of(new NumericParameter("10")));
+        BaseDataType first = converter.convert(input);
+        BaseDataType second = converter.convert(type("varchar", "10"));
+        assertNotSame(input, first);
+        assertNotSame(first, second);
+        assertNull(first.getLocation());
+        assertNull(second.getOrigin());
+        assertEquals(input, second);
+    }
+
+    public static class Hive2FmlConverter implements DataTypeConverter {
+
+        @Override
+        public BaseDataType convert(BaseDataType baseDataType) {
+            HIVE_2_FML_COUNT.incrementAndGet();
+            return rename(baseDataType, "FML_");
+        }
+
+        @Override
+        public DialectMeta getSourceDialect() {
+            return DialectMeta.DEFAULT_HIVE;
+        }
+
+        @Override
+        public DialectMeta getTargetDialect() {
+            return DialectMeta.getByName(DialectName.FML);
+        }
+    }
+
+    public static class Fml2OracleConverter implements DataTypeConverter {
+
+        @Override
+        public BaseDataType convert(BaseDataType baseDataType) {
+            GenericDataType genericDataType = (GenericDataType)baseDataType;
+            String name = genericDataType.getName().getValue().replace("FML_", "");
+            return rename(new GenericDataType(new Identifier(name), genericDataType.getArguments()), "ORACLE_");
+        }
+
+        @Override
+        public DialectMeta getSourceDialect() {
+            return DialectMeta.getByName(DialectName.FML);
+        }
+
+        @Override
+        public DialectMeta getTargetDialect() {
+            return DialectMeta.getByName(DialectName.ORACLE);
+        }
+    }
+
+    private static BaseDataType type(String name, String... parameters) {
+        List<DataTypeParameter> arguments = new ArrayList<>();
+        for (String parameter : parameters) {
+            arguments.add(new NumericParameter(parameter));
+        }
+        return new GenericDataType(new Identifier(name), arguments);
+    }
+
+    private static BaseDataType rename(BaseDataType baseDataType, String prefix) {
+        GenericDataType genericDataType = (GenericDataType)baseDataType;
+        return new GenericDataType(new Identifier(prefix + genericDataType.getName().getValue()),
+            genericDataType.getArguments());
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.aliyun.fastmodel.transform.api.dialect.transform;
 
+import com.aliyun.fastmodel.core.tree.QualifiedName;
+import com.aliyun.fastmodel.core.tree.statement.table.DropTable;
 import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
 import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
 import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransformParam.DialectTransformParamBuilder;
@@ -51,4 +53,13 @@ public class DialectTransformTest {
         DialectNode transform = DialectTransform.transform(builder.build());
         assertEquals(transform, sourceNode);
     }
-}
\ No newline at end of file
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void transformAstWithoutTarget() {
+        DialectTransformParamBuilder builder = DialectTransformParam.builder();
+        builder.sourceMeta(DialectMeta.DEFAULT_MYSQL);
+        builder.targetMeta(DialectMeta.DEFAULT_MYSQL);
+        builder.sourceAst(new DropTable(QualifiedName.of("a")));
+        DialectTransform.transform(builder.build());
+    }
+}
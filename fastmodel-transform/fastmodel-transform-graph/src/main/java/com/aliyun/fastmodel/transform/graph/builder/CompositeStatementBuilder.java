@@ -18,7 +18,6 @@ package com.aliyun.fastmodel.transform.graph.builder;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
@@ -34,7 +33,6 @@ import com.aliyun.fastmodel.transform.graph.domain.Element;
 import com.aliyun.fastmodel.transform.graph.domain.FmlGraph;
 import com.aliyun.fastmodel.transform.graph.domain.Vertex;
 import com.google.auto.service.AutoService;
-import com.google.common.collect.Maps;
 
 /**
  * 服务对象Builder
@@ -52,7 +50,6 @@ public class CompositeStatementBuilder implements StatementBuilder<TransformCont
         //define the graph
         FmlGraph graph = new FmlGraph();
         List<BaseStatement> statementList = compositeStatement.getStatements();
-        Map<Object, Vertex> vertexMap = Maps.newHashMapWithExpectedSize(16);
         List<Vertex> vertices = new ArrayList<>();
         List<Edge> edges = new ArrayList<>();
         for (BaseStatement baseStatement : statementList) {
@@ -61,9 +58,7 @@ public class CompositeStatementBuilder implements StatementBuilder<TransformCont
             GenericDialectNode<Element> baseDialectNode = builder.buildGenericNode(baseStatement, context);
             Element node = baseDialectNode.getNode();
             if (node instanceof Vertex) {
-                Vertex node1 = (Vertex)node;
-                vertices.add(node1);
-                vertexMap.put(node1.id(), node1);
+                vertices.add((Vertex)node);
             } else if (node instanceof Edge) {
                 Edge edge = (Edge)node;
                 edges.add(edge);
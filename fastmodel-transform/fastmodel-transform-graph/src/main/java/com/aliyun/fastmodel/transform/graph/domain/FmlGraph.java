@@ -16,13 +16,24 @@
 
 package com.aliyun.fastmodel.transform.graph.domain;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Graph Data
+ * <p>
+ * 顶点按照id去重，边按照id去重，没有id的边按照源、目标以及label去重。
+ * 添加时同时维护索引，可以按照id查找顶点、查找顶点的出边以及入边，以及查询上下游、最短路径和环。
+ * 返回的顶点以及边的列表不能修改，需要通过add方法添加。
  *
  * @author panguanjing
  * @date 2021/12/19
@@ -32,7 +43,16 @@ public class FmlGraph {
     private List<Vertex> nodes;
     private List<Edge> edges;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final GraphIndex index = new GraphIndex();
+
     public void addEdge(Edge edge) {
+        if (!index.addEdge(edge)) {
+            return;
+        }
         if (edges == null) {
             edges = Lists.newArrayList();
         }
@@ -40,9 +60,112 @@ public class FmlGraph {
     }
 
     public void addVertex(Vertex vertex) {
+        if (!index.addVertex(vertex)) {
+            return;
+        }
         if (nodes == null) {
             nodes = Lists.newArrayList();
         }
         nodes.add(vertex);
     }
+
+    public List<Vertex> getNodes() {
+        return nodes == null ? null : Collections.unmodifiableList(nodes);
+    }
+
+    public List<Edge> getEdges() {
+        return edges == null ? null : Collections.unmodifiableList(edges);
+    }
+
+    public void setNodes(List<Vertex> nodes) {
+        index.clearVertices();
+        this.nodes = null;
+        if (nodes != null) {
+            nodes.forEach(this::addVertex);
+        }
+    }
+
+    public void setEdges(List<Edge> edges) {
+        index.clearEdges();
+        this.edges = null;
+        if (edges != null) {
+            edges.forEach(this::addEdge);
+        }
+    }
+
+    /**
+     * 根据id查找顶点
+     *
+     * @param id 顶点id
+     * @return 顶点，不存在时返回null
+     */
+    public Vertex getVertex(String id) {
+        return index.getVertex(id);
+    }
+
+    /**
+     * 以顶点为源的边
+     *
+     * @param id 顶点id
+     * @return 出边
+     */
+    public List<Edge> getOutEdges(String id) {
+        return index.getOutEdges(id);
+    }
+
+    /**
+     * 以顶点为目标的边
+     *
+     * @param id 顶点id
+     * @return 入边
+     */
+    public List<Edge> getInEdges(String id) {
+        return index.getInEdges(id);
+    }
+
+    /**
+     * 沿着出边查找下游，按照距离由近到远返回
+     *
+     * @param id       顶点id
+     * @param maxDepth 最大层数，小于0时不限制
+     * @return 下游的顶点id，不包括自身
+     */
+    public Set<String> downstream(String id, int maxDepth) {
+        return index.traverse(id, maxDepth, true);
+    }
+
+    /**
+     * 沿着入边查找上游，按照距离由近到远返回
+     *
+     * @param id       顶点id
+     * @param maxDepth 最大层数，小于0时不限制
+     * @return 上游的顶点id，不包括自身
+     */
+    public Set<String> upstream(String id, int maxDepth) {
+        return index.traverse(id, maxDepth, false);
+    }
+
+    /**
+     * 沿着出边的最短路径
+     *
+     * @param from 起点id
+     * @param to   终点id
+     * @return 路径上的顶点id，包括起点和终点，不可达时返回空列表
+     */
+    public List<String> shortestPath(String from, String to) {
+        return index.shortestPath(from, to);
+    }
+
+    /**
+     * 查找一个环
+     *
+     * @return 环上的顶点id，首尾相同，没有环时返回空列表
+     */
+    public List<String> findCycle() {
+        return index.findCycle();
+    }
+
+    public boolean hasCycle() {
+        return !findCycle().isEmpty();
+    }
 }
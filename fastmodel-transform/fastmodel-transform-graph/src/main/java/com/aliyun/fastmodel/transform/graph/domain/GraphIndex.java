@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.graph.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 图的索引，按照id索引顶点，按照顶点索引出边以及入边
+ * <p>
+ * 边只通过id关联顶点，边的顶点不在图中时同样会被索引。
+ * 遍历都使用迭代实现，不会因为图的深度导致栈溢出。
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+class GraphIndex {
+
+    private static final Integer VISITING = 1;
+
+    private static final Integer VISITED = 2;
+
+    private final Map<String, Vertex> vertices = new HashMap<>();
+
+    private final Set<List<String>> edgeKeys = new HashSet<>();
+
+    private final Map<String, List<Edge>> outEdges = new LinkedHashMap<>();
+
+    private final Map<String, List<Edge>> inEdges = new LinkedHashMap<>();
+
+    /**
+     * 添加顶点，id已经存在时忽略
+     *
+     * @return 是否添加
+     */
+    boolean addVertex(Vertex vertex) {
+        return vertices.putIfAbsent(vertex.id(), vertex) == null;
+    }
+
+    /**
+     * 添加边，相同的边已经存在时忽略。有id的边按照id判断，否则按照源、目标以及label判断
+     *
+     * @return 是否添加
+     */
+    boolean addEdge(Edge edge) {
+        List<String> key = edge.id() != null ? Collections.singletonList(edge.id())
+            : Arrays.asList(edge.source(), edge.target(), edge.label());
+        if (!edgeKeys.add(key)) {
+            return false;
+        }
+        outEdges.computeIfAbsent(edge.source(), k -> new ArrayList<>()).add(edge);
+        inEdges.computeIfAbsent(edge.target(), k -> new ArrayList<>()).add(edge);
+        return true;
+    }
+
+    void clearVertices() {
+        vertices.clear();
+    }
+
+    void clearEdges() {
+        edgeKeys.clear();
+        outEdges.clear();
+        inEdges.clear();
+    }
+
+    Vertex getVertex(String id) {
+        return vertices.get(id);
+    }
+
+    List<Edge> getOutEdges(String id) {
+        List<Edge> edges = outEdges.get(id);
+        return edges == null ? Collections.emptyList() : Collections.unmodifiableList(edges);
+    }
+
+    List<Edge> getInEdges(String id) {
+        List<Edge> edges = inEdges.get(id);
+        return edges == null ? Collections.emptyList() : Collections.unmodifiableList(edges);
+    }
+
+    /**
+     * 广度优先遍历，按照距离返回可以到达的顶点id，不包括起点
+     *
+     * @param id         起点
+     * @param maxDepth   最大层数，小于0时不限制
+     * @param downstream true沿着出边遍历下游，false沿着入边遍历上游
+     */
+    Set<String> traverse(String id, int maxDepth, boolean downstream) {
+        Set<String> result = new LinkedHashSet<>();
+        Set<String> seen = new HashSet<>();
+        seen.add(id);
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(id);
+        int depth = 0;
+        while (!queue.isEmpty() && (maxDepth < 0 || depth < maxDepth)) {
+            depth++;
+            for (int size = queue.size(); size > 0; size--) {
+                String current = queue.poll();
+                for (Edge edge : downstream ? getOutEdges(current) : getInEdges(current)) {
+                    String next = downstream ? edge.target() : edge.source();
+                    if (seen.add(next)) {
+                        result.add(next);
+                        queue.add(next);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 沿着出边的最短路径，包括起点和终点，不可达时返回空列表
+     */
+    List<String> shortestPath(String from, String to) {
+        if (from.equals(to)) {
+            return Collections.singletonList(from);
+        }
+        Map<String, String> parents = new HashMap<>();
+        parents.put(from, null);
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            for (Edge edge : getOutEdges(current)) {
+                String next = edge.target();
+                if (parents.containsKey(next)) {
+                    continue;
+                }
+                parents.put(next, current);
+                if (next.equals(to)) {
+                    List<String> path = new ArrayList<>();
+                    for (String node = to; node != null; node = parents.get(node)) {
+                        path.add(node);
+                    }
+                    Collections.reverse(path);
+                    return path;
+                }
+                queue.add(next);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 深度优先查找一个环，返回环上的顶点id，首尾相同，没有环时返回空列表
+     */
+    List<String> findCycle() {
+        Map<String, Integer> states = new HashMap<>();
+        for (String start : outEdges.keySet()) {
+            if (states.containsKey(start)) {
+                continue;
+            }
+            Deque<String> path = new ArrayDeque<>();
+            Deque<Iterator<Edge>> stack = new ArrayDeque<>();
+            states.put(start, VISITING);
+            path.push(start);
+            stack.push(getOutEdges(start).iterator());
+            while (!stack.isEmpty()) {
+                Iterator<Edge> iterator = stack.peek();
+                if (!iterator.hasNext()) {
+                    states.put(path.pop(), VISITED);
+                    stack.pop();
+                    continue;
+                }
+                String next = iterator.next().target();
+                Integer state = states.get(next);
+                if (state == null) {
+                    states.put(next, VISITING);
+                    path.push(next);
+                    stack.push(getOutEdges(next).iterator());
+                } else if (VISITING.equals(state)) {
+                    return toCycle(path, next);
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<String> toCycle(Deque<String> path, String start) {
+        List<String> cycle = new ArrayList<>();
+        Iterator<String> iterator = path.descendingIterator();
+        while (iterator.hasNext()) {
+            String node = iterator.next();
+            if (!cycle.isEmpty() || node.equals(start)) {
+                cycle.add(node);
+            }
+        }
+        cycle.add(start);
+        return cycle;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.graph.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.aliyun.fastmodel.core.tree.QualifiedName;
+import com.aliyun.fastmodel.core.tree.statement.constants.TableDetailType;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.transform.graph.domain.table.TableEdge;
+import com.aliyun.fastmodel.transform.graph.domain.table.TableVertex;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * FmlGraphTest
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class FmlGraphTest {
+
+    @Test
+    public void testDeduplicate() {
+        FmlGraph graph = new FmlGraph();
+        TableVertex a = vertex("a");
+        graph.addVertex(a);
+        graph.addVertex(vertex("a"));
+        graph.addVertex(vertex("b"));
+        graph.addEdge(edge("a", "b"));
+        graph.addEdge(edge("a", "b"));
+        graph.addEdge(TableEdge.builder().id("r1").source("a").target("b").build());
+        graph.addEdge(TableEdge.builder().id("r1").source("a").target("b").build());
+        assertEquals(2, graph.getNodes().size());
+        assertEquals(2, graph.getEdges().size());
+        assertSame(a, graph.getVertex("a"));
+        assertNull(graph.getVertex("c"));
+        assertEquals(2, graph.getOutEdges("a").size());
+        assertEquals(2, graph.getInEdges("b").size());
+        assertTrue(graph.getInEdges("a").isEmpty());
+
+        graph.setEdges(Arrays.asList(edge("b", "a"), edge("b", "a")));
+        assertEquals(1, graph.getEdges().size());
+        assertTrue(graph.getOutEdges("a").isEmpty());
+        assertEquals(1, graph.getOutEdges("b").size());
+    }
+
+    @Test
+    public void testTraverse() {
+        FmlGraph graph = new FmlGraph();
+        graph.addEdge(edge("a", "b"));
+        graph.addEdge(edge("b", "c"));
+        graph.addEdge(edge("c", "d"));
+        graph.addEdge(edge("a", "d"));
+        graph.addEdge(edge("e", "c"));
+        assertEquals(ImmutableList.of("b", "d"), ImmutableList.copyOf(graph.downstream("a", 1)));
+        assertEquals(ImmutableList.of("b", "d", "c"), ImmutableList.copyOf(graph.downstream("a", -1)));
+        assertEquals(ImmutableList.of("c", "a", "b", "e"), ImmutableList.copyOf(graph.upstream("d", 2)));
+        assertTrue(graph.downstream("d", -1).isEmpty());
+        assertTrue(graph.downstream("a", 0).isEmpty());
+    }
+
+    @Test
+    public void testShortestPath() {
+        FmlGraph graph = new FmlGraph();
+        graph.addEdge(edge("a", "b"));
+        graph.addEdge(edge("b", "c"));
+        graph.addEdge(edge("c", "d"));
+        graph.addEdge(edge("b", "d"));
+        assertEquals(Arrays.asList("a", "b", "d"), graph.shortestPath("a", "d"));
+        assertEquals(Collections.singletonList("a"), graph.shortestPath("a", "a"));
+        assertTrue(graph.shortestPath("d", "a").isEmpty());
+    }
+
+    @Test
+    public void testCycle() {
+        FmlGraph graph = new FmlGraph();
+        graph.addEdge(edge("a", "b"));
+        graph.addEdge(edge("b", "c"));
+        graph.addEdge(edge("a", "c"));
+        assertFalse(graph.hasCycle());
+        graph.addEdge(edge("c", "b"));
+        assertEquals(Arrays.asList("b", "c", "b"), graph.findCycle());
+        FmlGraph self = new FmlGraph();
+        self.addEdge(edge("a", "a"));
+        assertEquals(Arrays.asList("a", "a"), self.findCycle());
+    }
+
+    @Test
+    public void testLargeGraph() {
+        FmlGraph graph = new FmlGraph();
+        int size = 30000;
+        for (int i = 0; i < size; i++) {
+            graph.addEdge(edge("t" + i, "t" + (i + 1)));
+        }
+        assertFalse(graph.hasCycle());
+        assertEquals(size, graph.downstream("t0", -1).size());
+        assertEquals(10, graph.upstream("t" + size, 10).size());
+        assertEquals(size + 1, graph.shortestPath("t0", "t" + size).size());
+        graph.addEdge(edge("t" + size, "t0"));
+        assertEquals(size + 2, graph.findCycle().size());
+    }
+
+    private static TableEdge edge(String source, String target) {
+        return TableEdge.builder().source(source).target(target).build();
+    }
+
+    private static TableVertex vertex(String name) {
+        return new TableVertex(CreateTable.builder()
+            .tableName(QualifiedName.of(name))
+            .detailType(TableDetailType.NORMAL_DIM)
+            .build());
+    }
+}
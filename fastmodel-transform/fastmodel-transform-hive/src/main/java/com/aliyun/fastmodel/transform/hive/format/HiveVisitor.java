@@ -109,24 +109,24 @@ public class HiveVisitor extends FastModelVisitor {
             builder.append(newLine(")"));
         }
         if (node.getComment() != null) {
-            builder.append(formatComment(node.getComment(), isEndNewLine(builder.toString())));
+            builder.append(formatComment(node.getComment(), isEndNewLine()));
         } else if (node.getAliasedNameValue() != null) {
             Comment comment = new Comment(node.getAliasedNameValue());
-            builder.append(formatComment(comment, isEndNewLine(builder.toString())));
+            builder.append(formatComment(comment, isEndNewLine()));
         }
         if (!node.isPartitionEmpty()) {
             builder.append(
                 formatPartitions(
                     node.getPartitionedBy().getColumnDefinitions(),
-                    isEndNewLine(builder.toString()),
+                    isEndNewLine(),
                     elementIndent)
             );
         }
-        builder.append(formatRowFormat(context, isEndNewLine(builder.toString())));
-        builder.append(formatFileFormat(context, isEndNewLine(builder.toString())));
-        builder.append(formatLocation(context, isEndNewLine(builder.toString())));
+        builder.append(formatRowFormat(context, isEndNewLine()));
+        builder.append(formatFileFormat(context, isEndNewLine()));
+        builder.append(formatLocation(context, isEndNewLine()));
         if (!node.isPropertyEmpty()) {
-            String s = formatTblProperties(node.getProperties(), isEndNewLine(builder.toString()));
+            String s = formatTblProperties(node.getProperties(), isEndNewLine());
             builder.append(s);
         }
         removeNewLine(builder);
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.hive.parser;
+
+import com.aliyun.fastmodel.common.parser.cache.GrammarCache;
+import com.aliyun.fastmodel.common.parser.cache.GrammarCacheProvider;
+import com.aliyun.fastmodel.transform.api.context.ReverseContext;
+import com.google.auto.service.AutoService;
+
+/**
+ * hive语法的缓存注册
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@AutoService(GrammarCacheProvider.class)
+public class HiveGrammarCacheProvider implements GrammarCacheProvider {
+
+    @Override
+    public GrammarCache getGrammarCache() {
+        HiveLanguageParser parser = new HiveLanguageParser();
+        return GrammarCache.builder()
+            .name("hive")
+            .lexer(new HiveLexer(null))
+            .parser(new HiveParser(null))
+            .warmer(text -> parser.parseNode(text, ReverseContext.builder().build()))
+            .corpus("/warmup/hive.sql")
+            .resourceOwner(HiveGrammarCacheProvider.class)
+            .build();
+    }
+}
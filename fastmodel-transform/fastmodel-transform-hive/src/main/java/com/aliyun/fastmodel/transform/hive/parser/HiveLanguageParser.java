@@ -16,19 +16,26 @@
 
 package com.aliyun.fastmodel.transform.hive.parser;
 
+import java.util.List;
+
+import com.aliyun.fastmodel.common.parser.PredictionStats;
+import com.aliyun.fastmodel.common.parser.ScriptRule;
 import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
 import com.aliyun.fastmodel.common.utils.StripUtils;
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.parser.LanguageParser;
 import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.transform.api.context.ReverseContext;
+import com.aliyun.fastmodel.transform.hive.parser.HiveParser.StatementsContext;
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.Token;
 
 /**
  * HiveLanguageParser
@@ -40,6 +47,15 @@ import org.antlr.v4.runtime.atn.PredictionMode;
 public class HiveLanguageParser implements LanguageParser<Node, ReverseContext> {
     public static final ThrowingErrorListener LISTENER = new ThrowingErrorListener();
 
+    private static final TwoStageParser<HiveParser> TWO_STAGE_PARSER = new TwoStageParser<>("hive");
+
+    private static final ScriptRule<HiveParser> SCRIPT_RULE = new ScriptRule<>(
+        HiveParser::statements,
+        HiveParser::statement,
+        ImmutableSet.of(HiveParser.SEMICOLON),
+        true,
+        HiveLanguageParser::assemble);
+
     @Override
     public Node parseNode(String text, ReverseContext context) throws ParseException {
         String code = StripUtils.appendSemicolon(text);
@@ -52,15 +68,27 @@ public class HiveLanguageParser implements LanguageParser<Node, ReverseContext>
         HiveParser fastModelGrammarParser = new HiveParser(commonTokenStream);
         fastModelGrammarParser.removeErrorListeners();
         fastModelGrammarParser.addErrorListener(LISTENER);
-        ParserRuleContext tree;
-        try {
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-            tree = fastModelGrammarParser.statements();
-        } catch (Throwable e) {
-            commonTokenStream.seek(0);
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            tree = fastModelGrammarParser.statements();
-        }
+        ParserRuleContext tree = TWO_STAGE_PARSER.parseScript(fastModelGrammarParser, SCRIPT_RULE);
         return tree.accept(new HiveAstBuilder(context));
     }
+
+    /**
+     * 获取两阶段解析的统计
+     *
+     * @return {@link PredictionStats}
+     */
+    public static PredictionStats getPredictionStats() {
+        return TWO_STAGE_PARSER.getStats();
+    }
+
+    private static ParserRuleContext assemble(List<ParserRuleContext> statements, Token start, Token stop) {
+        StatementsContext root = new StatementsContext(null, -1);
+        for (ParserRuleContext statement : statements) {
+            statement.setParent(root);
+            root.addChild(statement);
+        }
+        root.start = start;
+        root.stop = stop;
+        return root;
+    }
 }
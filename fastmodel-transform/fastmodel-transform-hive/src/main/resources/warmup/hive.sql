@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS dim_shop
+(
+    shop_code     STRING COMMENT 'shop code',
+    shop_name     STRING COMMENT 'shop name',
+    shop_type     STRING COMMENT 'shop type',
+    merchant_code BIGINT COMMENT 'merchant code'
+) COMMENT 'shop'
+PARTITIONED BY (ds STRING COMMENT 'date')
+TBLPROPERTIES ('life_cycle'='10');
+
+CREATE TABLE fact_pay_order
+(
+    order_id   BIGINT COMMENT 'order id',
+    sku_code   STRING COMMENT 'sku code',
+    shop_code  STRING COMMENT 'shop code',
+    pay_price  DECIMAL(18,2) COMMENT 'pay price',
+    tags       ARRAY<STRING>,
+    attrs      MAP<STRING,STRING>,
+    gmt_create TIMESTAMP
+) COMMENT 'pay order';
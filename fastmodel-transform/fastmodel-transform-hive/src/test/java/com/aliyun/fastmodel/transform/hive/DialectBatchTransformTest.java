@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.hive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import com.aliyun.fastmodel.transform.api.dialect.transform.BatchTransformItem;
+import com.aliyun.fastmodel.transform.api.dialect.transform.BatchTransformResult;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectBatchTransform;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransform;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransformParam;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * DialectBatchTransformTest
+ *
+ * @author panguanjing
+ * @date 2022/7/5
+ */
+public class DialectBatchTransformTest {
+
+    private static final DialectMeta HIVE2 = new DialectMeta(DialectName.HIVE, "2");
+
+    @Test
+    public void testTransform() {
+        DialectBatchTransform batchTransform = DialectBatchTransform.builder()
+            .sourceMeta(HIVE2)
+            .targetMeta(DialectMeta.DEFAULT_HIVE)
+            .build();
+        List<DialectNode> nodes = new ArrayList<>();
+        nodes.add(new DialectNode("create table a(c bigint);"));
+        nodes.add(new DialectNode("create table a(c"));
+        nodes.add(new DialectNode("create table b(d string);"));
+        BatchTransformResult result = batchTransform.transform(nodes);
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(1, result.getFailureCount());
+        BatchTransformItem failure = result.getFailures().get(0);
+        assertEquals(1, failure.getIndex());
+        assertNotNull(failure.getError());
+        BatchTransformItem item = result.getItems().get(2);
+        assertTrue(item.isSuccess());
+        assertEquals(transform(nodes.get(2)).getNode(), item.getTarget().getNode());
+    }
+
+    @Test
+    public void testParallel() {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            DialectBatchTransform batchTransform = DialectBatchTransform.builder()
+                .sourceMeta(HIVE2)
+                .targetMeta(DialectMeta.DEFAULT_HIVE)
+                .executor(executorService)
+                .maxInFlight(3)
+                .build();
+            List<DialectNode> nodes = IntStream.range(0, 50)
+                .mapToObj(i -> new DialectNode("create table t" + i + (i % 7 == 0 ? "(c" : "(c bigint);")))
+                .collect(Collectors.toList());
+            List<BatchTransformItem> items = new ArrayList<>();
+            batchTransform.transform(nodes.stream(), items::add);
+            assertEquals(50, items.size());
+            for (int i = 0; i < items.size(); i++) {
+                BatchTransformItem item = items.get(i);
+                assertEquals(i, item.getIndex());
+                assertEquals(nodes.get(i), item.getSource());
+                if (i % 7 == 0) {
+                    assertFalse(item.isSuccess());
+                } else {
+                    assertEquals(transform(nodes.get(i)).getNode(), item.getTarget().getNode());
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSameDialect() {
+        DialectBatchTransform batchTransform = DialectBatchTransform.builder()
+            .sourceMeta(DialectMeta.DEFAULT_HIVE)
+            .targetMeta(DialectMeta.DEFAULT_HIVE)
+            .build();
+        DialectNode node = new DialectNode("create table a(c bigint);");
+        BatchTransformResult result = batchTransform.transform(Collections.singletonList(node));
+        assertEquals(node, result.getItems().get(0).getTarget());
+    }
+
+    private DialectNode transform(DialectNode node) {
+        return DialectTransform.transform(DialectTransformParam.builder()
+            .sourceMeta(HIVE2)
+            .targetMeta(DialectMeta.DEFAULT_HIVE)
+            .sourceNode(node)
+            .build());
+    }
+}
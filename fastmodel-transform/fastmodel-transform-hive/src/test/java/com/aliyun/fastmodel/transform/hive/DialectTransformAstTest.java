@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.aliyun.fastmodel.transform.hive;
+
+import com.aliyun.fastmodel.core.tree.Node;
+import com.aliyun.fastmodel.transform.api.TransformerFactory;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
+import com.aliyun.fastmodel.transform.api.dialect.DialectName;
+import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransform;
+import com.aliyun.fastmodel.transform.api.dialect.transform.DialectTransformParam;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 传入内存中的节点转换，结果与文本转换一致
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DialectTransformAstTest {
+
+    private static final DialectMeta HIVE2 = new DialectMeta(DialectName.HIVE, "2");
+
+    @Test
+    public void testSourceAst() {
+        DialectNode sourceNode = new DialectNode(
+            "create table a(c bigint comment 'c', d string) comment 'table a' partitioned by (ds string);");
+        DialectNode expected = DialectTransform.transform(DialectTransformParam.builder()
+            .sourceMeta(HIVE2)
+            .targetMeta(DialectMeta.DEFAULT_HIVE)
+            .sourceNode(sourceNode)
+            .build());
+
+        Node sourceAst = TransformerFactory.getInstance().get(HIVE2).reverse(sourceNode, null);
+        DialectNode actual = DialectTransform.transform(DialectTransformParam.builder()
+            .sourceMeta(HIVE2)
+            .targetMeta(DialectMeta.DEFAULT_HIVE)
+            .sourceAst(sourceAst)
+            .build());
+        assertTrue(expected.getNode().startsWith("CREATE TABLE"));
+        assertEquals(expected.getNode(), actual.getNode());
+    }
+}
@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.transform.api.compare.NodeCompareFactory;
+import com.aliyun.fastmodel.transform.api.dialect.DialectMeta;
 import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
 import org.junit.Test;
 
@@ -42,6 +44,18 @@ public class HiveNodeCompareTest {
         assertEquals(print, "ALTER TABLE a CHANGE COLUMN b b STRING COMMENT 'comment'");
     }
 
+    @Test
+    public void testCompareAndFormat() {
+        String format = NodeCompareFactory.getInstance().compareAndFormat(DialectMeta.DEFAULT_HIVE,
+            "create table a (b bigint);",
+            "create table a (b string comment 'comment', c decimal(10,2));");
+        assertEquals("ALTER TABLE a CHANGE COLUMN b b STRING COMMENT 'comment';\n"
+            + "ALTER TABLE a ADD COLUMNS\n"
+            + "(\n"
+            + "   c DECIMAL(10, 2)\n"
+            + ")", format);
+    }
+
     @Test
     public void compareWithNoCol() {
         List<BaseStatement> compare = hiveNodeCompare.compare(new DialectNode("create table a comment 'comment';"),
@@ -16,18 +16,26 @@
 
 package com.aliyun.fastmodel.transform.mysql.parser;
 
+import java.util.List;
+
+import com.aliyun.fastmodel.common.parser.PredictionStats;
+import com.aliyun.fastmodel.common.parser.ScriptRule;
 import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.parser.LanguageParser;
 import com.aliyun.fastmodel.core.tree.Node;
 import com.aliyun.fastmodel.transform.api.context.ReverseContext;
+import com.aliyun.fastmodel.transform.mysql.parser.MySqlParser.RootContext;
+import com.aliyun.fastmodel.transform.mysql.parser.MySqlParser.SqlStatementsContext;
 import com.google.auto.service.AutoService;
+import com.google.common.collect.ImmutableSet;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.Token;
 
 /**
  * oracle Parser
@@ -40,6 +48,15 @@ public class MysqlTransformerParser implements LanguageParser<Node, ReverseConte
 
     public static final ThrowingErrorListener LISTENER = new ThrowingErrorListener();
 
+    private static final TwoStageParser<MySqlParser> TWO_STAGE_PARSER = new TwoStageParser<>("mysql");
+
+    private static final ScriptRule<MySqlParser> SCRIPT_RULE = new ScriptRule<>(
+        MySqlParser::root,
+        MySqlParser::sqlStatement,
+        ImmutableSet.of(MySqlParser.SEMI, MySqlParser.MINUSMINUS),
+        false,
+        MysqlTransformerParser::assemble);
+
     @Override
     public Node parseNode(String text) throws ParseException {
         return parseNode(text, ReverseContext.builder().build());
@@ -56,16 +73,32 @@ public class MysqlTransformerParser implements LanguageParser<Node, ReverseConte
         MySqlParser fastModelGrammarParser = new MySqlParser(commonTokenStream);
         fastModelGrammarParser.removeErrorListeners();
         fastModelGrammarParser.addErrorListener(LISTENER);
-        ParserRuleContext tree;
-        try {
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-            tree = fastModelGrammarParser.root();
-        } catch (Throwable e) {
-            commonTokenStream.seek(0);
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            tree = fastModelGrammarParser.root();
-        }
+        ParserRuleContext tree = TWO_STAGE_PARSER.parseScript(fastModelGrammarParser, SCRIPT_RULE);
         return tree.accept(new MysqlAstBuilder(context));
     }
 
+    /**
+     * 获取两阶段解析的统计
+     *
+     * @return {@link PredictionStats}
+     */
+    public static PredictionStats getPredictionStats() {
+        return TWO_STAGE_PARSER.getStats();
+    }
+
+    private static ParserRuleContext assemble(List<ParserRuleContext> statements, Token start, Token stop) {
+        RootContext root = new RootContext(null, -1);
+        SqlStatementsContext sqlStatements = new SqlStatementsContext(root, -1);
+        for (ParserRuleContext statement : statements) {
+            statement.setParent(sqlStatements);
+            sqlStatements.addChild(statement);
+        }
+        sqlStatements.start = start;
+        sqlStatements.stop = stop;
+        root.addChild(sqlStatements);
+        root.start = start;
+        root.stop = stop;
+        return root;
+    }
+
 }
@@ -0,0 +1,18 @@
+CREATE TABLE `dim_shop` (
+  `id` bigint(20) unsigned NOT NULL AUTO_INCREMENT COMMENT 'id',
+  `gmt_create` datetime NOT NULL COMMENT 'create time',
+  `shop_code` varchar(64) NOT NULL COMMENT 'shop code',
+  `shop_name` varchar(256) DEFAULT NULL COMMENT 'shop name',
+  `shop_type` tinyint(4) NOT NULL COMMENT 'shop type',
+  `pay_price` decimal(18,2) DEFAULT NULL COMMENT 'pay price',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_shop_code` (`shop_code`),
+  KEY `idx_shop_type` (`shop_type`,`shop_code`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='shop';
+
+CREATE TABLE `fact_pay_order` (
+  `order_id` bigint(20) NOT NULL COMMENT 'order id',
+  `shop_code` varchar(64) NOT NULL COMMENT 'shop code',
+  `is_deleted` tinyint(4) NOT NULL DEFAULT '0' COMMENT 'deleted',
+  PRIMARY KEY (`order_id`)
+) ENGINE=InnoDB COMMENT='pay order';
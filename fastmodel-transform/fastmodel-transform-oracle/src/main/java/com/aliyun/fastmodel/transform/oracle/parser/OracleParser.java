@@ -16,7 +16,9 @@
 
 package com.aliyun.fastmodel.transform.oracle.parser;
 
+import com.aliyun.fastmodel.common.parser.PredictionStats;
 import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
 import com.aliyun.fastmodel.core.exception.ParseException;
 import com.aliyun.fastmodel.core.parser.LanguageParser;
@@ -27,7 +29,6 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.atn.PredictionMode;
 
 /**
  * oracle Parser
@@ -40,6 +41,8 @@ public class OracleParser implements LanguageParser<Node, ReverseContext> {
 
     public static final ThrowingErrorListener LISTENER = new ThrowingErrorListener();
 
+    private static final TwoStageParser<PlSqlParser> TWO_STAGE_PARSER = new TwoStageParser<>("oracle");
+
     @Override
     public Node parseNode(String oracle, ReverseContext context) throws ParseException {
         CodePointCharStream charStream = CharStreams.fromString(oracle);
@@ -51,16 +54,17 @@ public class OracleParser implements LanguageParser<Node, ReverseContext> {
         PlSqlParser fastModelGrammarParser = new PlSqlParser(commonTokenStream);
         fastModelGrammarParser.removeErrorListeners();
         fastModelGrammarParser.addErrorListener(LISTENER);
-        ParserRuleContext tree;
-        try {
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-            tree = fastModelGrammarParser.sql_script();
-        } catch (Throwable e) {
-            commonTokenStream.seek(0);
-            fastModelGrammarParser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            tree = fastModelGrammarParser.sql_script();
-        }
+        ParserRuleContext tree = TWO_STAGE_PARSER.parse(fastModelGrammarParser, PlSqlParser::sql_script);
         return tree.accept(new OracleAstBuilder(context));
     }
 
+    /**
+     * 获取两阶段解析的统计
+     *
+     * @return {@link PredictionStats}
+     */
+    public static PredictionStats getPredictionStats() {
+        return TWO_STAGE_PARSER.getStats();
+    }
+
 }
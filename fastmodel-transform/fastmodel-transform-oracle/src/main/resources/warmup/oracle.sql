@@ -0,0 +1,15 @@
+CREATE TABLE dim_shop (
+  shop_code VARCHAR2(64) NOT NULL,
+  shop_name VARCHAR2(256),
+  shop_type NUMBER(4),
+  pay_price NUMBER(18,2),
+  gmt_create DATE,
+  CONSTRAINT pk_dim_shop PRIMARY KEY (shop_code)
+);
+COMMENT ON TABLE dim_shop IS 'shop';
+COMMENT ON COLUMN dim_shop.shop_code IS 'shop code';
+CREATE TABLE fact_pay_order (
+  order_id NUMBER(20),
+  shop_code VARCHAR2(64),
+  CONSTRAINT fk_shop FOREIGN KEY (shop_code) REFERENCES dim_shop (shop_code)
+);
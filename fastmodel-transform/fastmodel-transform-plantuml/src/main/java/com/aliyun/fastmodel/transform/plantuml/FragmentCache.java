@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * 语句片段的缓存，用于反复生成相同模型的场景，例如编辑器每次修改后重新生成整个模型的图
+ * <p>
+ * 使用语句的类型以及原始文本的sha256作为key，只有解析得到的语句才有原始文本，
+ * 没有原始文本的语句不会被缓存。解析后被修改过的语句，原始文本与内容不一致，不能使用缓存。
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class FragmentCache {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+
+    private final Cache<HashCode, String> fragments;
+
+    /**
+     * @param maximumSize 最大缓存的片段数
+     */
+    public FragmentCache(long maximumSize) {
+        fragments = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * 获取语句的片段，没有缓存时使用renderFunction生成
+     *
+     * @param statement      语句
+     * @param renderFunction 生成片段的方法
+     * @return 片段的内容
+     */
+    public String get(BaseStatement statement, Function<BaseStatement, String> renderFunction) {
+        String origin = statement.getOrigin();
+        if (origin == null) {
+            return renderFunction.apply(statement);
+        }
+        HashCode key = HASH_FUNCTION.newHasher()
+            .putString(statement.getClass().getName(), StandardCharsets.UTF_8)
+            .putString(origin, StandardCharsets.UTF_8)
+            .hash();
+        String content = fragments.getIfPresent(key);
+        if (content == null) {
+            content = renderFunction.apply(statement);
+            fragments.put(key, content);
+        }
+        return content;
+    }
+
+    public CacheStats getStats() {
+        return fragments.stats();
+    }
+
+    public void invalidateAll() {
+        fragments.invalidateAll();
+    }
+}
@@ -22,7 +22,10 @@ import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 
 import com.aliyun.fastmodel.core.tree.BaseStatement;
 import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
@@ -33,7 +36,6 @@ import com.aliyun.fastmodel.transform.api.dialect.DialectName;
 import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
 import com.aliyun.fastmodel.transform.plantuml.exception.VisualParseException;
 import com.aliyun.fastmodel.transform.plantuml.exception.VisualTemplateNotFoundException;
-import com.aliyun.fastmodel.transform.plantuml.parser.Fragment;
 import com.aliyun.fastmodel.transform.plantuml.parser.FragmentFactory;
 import com.aliyun.fastmodel.transform.plantuml.parser.FragmentParser;
 import com.google.auto.service.AutoService;
@@ -56,7 +58,17 @@ public class PlantUmlTransformer implements Transformer<CompositeStatement> {
     public static final String LIBRARY_IUML = "/Library.iuml";
     private String libraryText;
 
+    private final FragmentCache fragmentCache;
+
     public PlantUmlTransformer() {
+        this(null);
+    }
+
+    /**
+     * @param fragmentCache 片段的缓存，为null时不缓存
+     */
+    public PlantUmlTransformer(FragmentCache fragmentCache) {
+        this.fragmentCache = fragmentCache;
         //load the library iuml
         try {
             libraryText = IOUtils.resourceToString(LIBRARY_IUML, StandardCharsets.UTF_8);
@@ -76,23 +88,74 @@ public class PlantUmlTransformer implements Transformer<CompositeStatement> {
      * @param fileOutputStream outputStream
      */
     public void generate(List<BaseStatement> statements, OutputStream fileOutputStream) throws VisualParseException {
-        StringBuilder stringBuilder = new StringBuilder();
+        String[] contents = new String[statements.size()];
+        List<BaseStatement> list = toRandomAccess(statements);
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = render(list.get(i));
+        }
+        write(contents, fileOutputStream);
+    }
+
+    /**
+     * 在pool中并行的生成片段，按照语句的顺序拼接，输出与串行生成的完全一致
+     *
+     * @param statements       statements
+     * @param fileOutputStream outputStream
+     * @param pool             生成片段使用的线程池
+     */
+    public void generate(List<BaseStatement> statements, OutputStream fileOutputStream, ForkJoinPool pool)
+        throws VisualParseException {
+        if (statements.size() <= RenderFragmentAction.THRESHOLD) {
+            generate(statements, fileOutputStream);
+            return;
+        }
+        String[] contents = new String[statements.size()];
+        try {
+            pool.invoke(new RenderFragmentAction(toRandomAccess(statements), contents, 0, contents.length,
+                this::render));
+        } catch (RuntimeException e) {
+            //串行重新生成，保证异常与串行生成一致
+            generate(statements, fileOutputStream);
+            return;
+        }
+        write(contents, fileOutputStream);
+    }
+
+    /**
+     * 生成单个语句的片段，不支持的语句返回null
+     */
+    private String render(BaseStatement statement) {
+        FragmentParser fragmentParser = FragmentFactory.getInstance().get(statement);
+        if (fragmentParser == null) {
+            return null;
+        }
+        if (fragmentCache == null) {
+            return fragmentParser.parse(statement).content();
+        }
+        return fragmentCache.get(statement, s -> fragmentParser.parse(s).content());
+    }
+
+    private void write(String[] contents, OutputStream fileOutputStream) {
+        boolean hasLibrary = StringUtils.isNotBlank(libraryText);
+        int capacity = START_TAG.length() + END_TAG.length() + 2 + (hasLibrary ? libraryText.length() + 1 : 0);
+        for (String content : contents) {
+            capacity += content == null ? 0 : content.length() + 1;
+        }
+        StringBuilder stringBuilder = new StringBuilder(capacity);
         stringBuilder.append(START_TAG);
         stringBuilder.append(NEW_LINE);
-        if (StringUtils.isNotBlank(libraryText)) {
+        if (hasLibrary) {
             stringBuilder.append(libraryText);
             stringBuilder.append(NEW_LINE);
         }
-        for (BaseStatement statement : statements) {
-            FragmentParser fragmentParser = FragmentFactory.getInstance().get(statement);
-            if (fragmentParser == null) {
+        for (String content : contents) {
+            if (content == null) {
                 continue;
             }
-            Fragment fragment = fragmentParser.parse(statement);
-            stringBuilder.append(fragment.content());
+            stringBuilder.append(content);
             stringBuilder.append(NEW_LINE);
         }
-        if (!isEndNewLine(stringBuilder.toString())) {
+        if (!isEndNewLine(stringBuilder)) {
             stringBuilder.append(NEW_LINE);
         }
         stringBuilder.append(END_TAG);
@@ -103,14 +166,19 @@ public class PlantUmlTransformer implements Transformer<CompositeStatement> {
         }
     }
 
-    private boolean isEndNewLine(String toString) {
-        return toString.endsWith(NEW_LINE);
+    private static List<BaseStatement> toRandomAccess(List<BaseStatement> statements) {
+        return statements instanceof RandomAccess ? statements : new ArrayList<>(statements);
+    }
+
+    private boolean isEndNewLine(StringBuilder stringBuilder) {
+        int length = stringBuilder.length();
+        return length > 0 && stringBuilder.charAt(length - 1) == NEW_LINE.charAt(0);
     }
 
     @Override
     public DialectNode transform(CompositeStatement source, TransformContext context) {
         ByteArrayOutputStream fileOutputStream = new ByteArrayOutputStream();
-        generate(source.getChildren(), fileOutputStream);
+        generate(source.getChildren(), fileOutputStream, ForkJoinPool.commonPool());
         try {
             return new DialectNode(fileOutputStream.toString(Charset.defaultCharset().name()));
         } catch (UnsupportedEncodingException e) {
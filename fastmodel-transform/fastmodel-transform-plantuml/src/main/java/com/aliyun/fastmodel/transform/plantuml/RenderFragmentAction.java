@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+
+/**
+ * 并行的生成语句的片段，结果按照语句的下标写入数组，不支持的语句对应null
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+class RenderFragmentAction extends RecursiveAction {
+
+    /**
+     * 单个任务最多生成的片段数
+     */
+    static final int THRESHOLD = 16;
+
+    private final List<BaseStatement> statements;
+
+    private final String[] contents;
+
+    private final int from;
+
+    private final int to;
+
+    private final Function<BaseStatement, String> renderFunction;
+
+    RenderFragmentAction(List<BaseStatement> statements, String[] contents, int from, int to,
+                         Function<BaseStatement, String> renderFunction) {
+        this.statements = statements;
+        this.contents = contents;
+        this.from = from;
+        this.to = to;
+        this.renderFunction = renderFunction;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= THRESHOLD) {
+            for (int i = from; i < to; i++) {
+                contents[i] = renderFunction.apply(statements.get(i));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new RenderFragmentAction(statements, contents, from, middle, renderFunction),
+            new RenderFragmentAction(statements, contents, middle, to, renderFunction));
+    }
+}
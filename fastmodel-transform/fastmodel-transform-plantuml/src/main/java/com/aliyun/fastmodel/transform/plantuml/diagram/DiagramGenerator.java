@@ -43,13 +43,37 @@ public class DiagramGenerator {
      * @throws VisualParseException
      */
     public static void exportPng(String uml, OutputStream outputStream) throws VisualParseException {
+        export(uml, outputStream, FileFormat.PNG);
+    }
+
+    /**
+     * export svg image
+     *
+     * @param uml          UML text
+     * @param outputStream 流内容
+     * @throws VisualParseException
+     */
+    public static void exportSvg(String uml, OutputStream outputStream) throws VisualParseException {
+        export(uml, outputStream, FileFormat.SVG);
+    }
+
+    /**
+     * export image with the file format
+     *
+     * @param uml          UML text
+     * @param outputStream 流内容
+     * @param fileFormat   图片格式
+     * @throws VisualParseException
+     */
+    public static void export(String uml, OutputStream outputStream, FileFormat fileFormat)
+        throws VisualParseException {
         List<BlockUml> blocks = new SourceStringReader(uml).getBlocks();
         if (blocks.isEmpty()) {
             throw new VisualParseException("format is invalid");
         }
         BlockUml blockUml = blocks.get(0);
         Diagram diagram = blockUml.getDiagram();
-        FileFormatOption fileFormatOption = new FileFormatOption(FileFormat.PNG);
+        FileFormatOption fileFormatOption = new FileFormatOption(fileFormat);
         try {
             diagram.exportDiagram(outputStream, 0, fileFormatOption);
         } catch (IOException e) {
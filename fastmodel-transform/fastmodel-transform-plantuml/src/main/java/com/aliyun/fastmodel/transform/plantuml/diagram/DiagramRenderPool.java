@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml.diagram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.aliyun.fastmodel.transform.plantuml.exception.VisualRenderRejectedException;
+import net.sourceforge.plantuml.FileFormat;
+
+/**
+ * 异步生成图片的线程池
+ * <p>
+ * plantuml的布局以及光栅化比较耗时，在独立的线程中执行，不阻塞调用方的线程。
+ * 线程数以及排队的请求数都有上限，队列已满时返回{@link VisualRenderRejectedException}。
+ * 每个请求有超时时间，超时或者调用方取消返回的future时，会中断正在执行的任务，排队中的任务不再执行。
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DiagramRenderPool implements Closeable {
+
+    private final ThreadPoolExecutor executor;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final int queueCapacity;
+
+    /**
+     * @param threads       生成图片的线程数
+     * @param queueCapacity 最多排队的请求数
+     */
+    public DiagramRenderPool(int threads, int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new DaemonThreadFactory("diagram-render"));
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("diagram-render-timer"));
+    }
+
+    /**
+     * 提交生成图片的请求
+     *
+     * @param uml        UML text
+     * @param fileFormat 图片格式，例如png、svg
+     * @param timeout    超时时间，包括排队的时间
+     * @param timeUnit   超时时间的单位
+     * @return 图片的内容，超时时以{@link TimeoutException}结束
+     */
+    public CompletableFuture<byte[]> submit(String uml, FileFormat fileFormat, long timeout, TimeUnit timeUnit) {
+        return submit(() -> uml, fileFormat, timeout, timeUnit);
+    }
+
+    /**
+     * 提交生成图片的请求，UML文本也在线程池中生成，例如需要先解析模型时
+     *
+     * @param uml        生成UML text，异常时返回的future以该异常结束
+     * @param fileFormat 图片格式，例如png、svg
+     * @param timeout    超时时间，包括排队的时间
+     * @param timeUnit   超时时间的单位
+     * @return 图片的内容，超时时以{@link TimeoutException}结束
+     */
+    public CompletableFuture<byte[]> submit(Supplier<String> uml, FileFormat fileFormat, long timeout,
+                                            TimeUnit timeUnit) {
+        return submit(() -> {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DiagramGenerator.export(uml.get(), outputStream, fileFormat);
+            return outputStream.toByteArray();
+        }, timeout, timeUnit);
+    }
+
+    CompletableFuture<byte[]> submit(Callable<byte[]> render, long timeout, TimeUnit timeUnit) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(render.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(
+                new VisualRenderRejectedException("render queue is full, capacity:" + queueCapacity, e));
+            return result;
+        }
+        ScheduledFuture<?> timer = scheduler.schedule(() -> result.completeExceptionally(
+            new TimeoutException("render timeout:" + timeout + " " + timeUnit)), timeout, timeUnit);
+        result.whenComplete((bytes, e) -> {
+            timer.cancel(false);
+            if (e != null && task.cancel(true)) {
+                //取消的任务从队列中移除，不再占用队列的容量
+                executor.purge();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 排队中的请求数
+     *
+     * @return 请求数
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 正在生成的请求数
+     *
+     * @return 请求数
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        private DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
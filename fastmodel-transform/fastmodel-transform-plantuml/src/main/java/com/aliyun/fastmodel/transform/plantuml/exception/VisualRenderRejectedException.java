@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml.exception;
+
+/**
+ * 生成图片的队列已满，拒绝新的请求
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class VisualRenderRejectedException extends VisualParseException {
+
+    public VisualRenderRejectedException(String message, Throwable e) {
+        super(message, e);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.aliyun.fastmodel.transform.plantuml.parser;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,24 +32,31 @@ import com.aliyun.fastmodel.transform.plantuml.parser.impl.TableFragmentParser;
 
 /**
  * 分段factory内容
+ * <p>
+ * 全局共享一个实例，各个parser持有编译好的模版，线程安全，创建时加载模版。
  *
  * @author panguanjing
  * @date 2020/9/18
  */
 public class FragmentFactory {
 
-    Map<String, FragmentParser> maps = new HashMap<>();
+    private static final FragmentFactory INSTANCE = new FragmentFactory();
+
+    private final Map<String, FragmentParser> maps;
 
     private FragmentFactory() {
-        maps.put(CreateDimTable.class.getName(), new TableFragmentParser());
-        maps.put(CreateFactTable.class.getName(), new TableFragmentParser());
-        maps.put(CreateTable.class.getName(), new TableFragmentParser());
-        maps.put(CreateIndicator.class.getName(), new IndicatorFragmentParser());
-        maps.put(RefRelation.class.getName(), new RefRelationFragmentParser());
+        Map<String, FragmentParser> map = new HashMap<>();
+        TableFragmentParser tableFragmentParser = new TableFragmentParser();
+        map.put(CreateDimTable.class.getName(), tableFragmentParser);
+        map.put(CreateFactTable.class.getName(), tableFragmentParser);
+        map.put(CreateTable.class.getName(), tableFragmentParser);
+        map.put(CreateIndicator.class.getName(), new IndicatorFragmentParser());
+        map.put(RefRelation.class.getName(), new RefRelationFragmentParser());
+        maps = Collections.unmodifiableMap(map);
     }
 
     public static FragmentFactory getInstance() {
-        return new FragmentFactory();
+        return INSTANCE;
     }
 
     public FragmentParser get(BaseStatement statement) {
@@ -36,7 +36,7 @@ import com.aliyun.fastmodel.transform.template.FmlTemplate;
  */
 public class IndicatorFragmentParser implements FragmentParser {
 
-    private FmlTemplate fmlTemplate;
+    private final FmlTemplate fmlTemplate;
 
     public IndicatorFragmentParser() {
         fmlTemplate = BaseFmlTemplateFactory.getInstance().getTemplate("fragment/indicator.ftl");
@@ -36,7 +36,7 @@ public class TableFragmentParser implements FragmentParser {
 
     private final FmlTemplate template;
 
-    private TableDomainFactory tableDomainFactory;
+    private final TableDomainFactory tableDomainFactory;
 
     public TableFragmentParser() {
         template = BaseFmlTemplateFactory.getInstance().getTemplate("fragment/table.ftl");
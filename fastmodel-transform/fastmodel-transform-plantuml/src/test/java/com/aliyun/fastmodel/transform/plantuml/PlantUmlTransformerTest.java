@@ -20,8 +20,11 @@ import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import com.aliyun.fastmodel.core.parser.DomainLanguage;
 import com.aliyun.fastmodel.core.parser.FastModelParserFactory;
@@ -34,11 +37,13 @@ import com.aliyun.fastmodel.core.tree.statement.CompositeStatement;
 import com.aliyun.fastmodel.core.tree.statement.table.ColumnDefinition;
 import com.aliyun.fastmodel.core.tree.statement.table.CreateFactTable;
 import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.core.tree.statement.table.DropTable;
 import com.aliyun.fastmodel.core.tree.util.DataTypeUtil;
 import com.aliyun.fastmodel.transform.api.dialect.DialectNode;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -211,6 +216,43 @@ public class PlantUmlTransformerTest {
         assertTrue(transform.getNode().contains("Table"));
     }
 
+    @Test
+    public void testGenerateParallel() {
+        List<BaseStatement> list = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(CreateFactTable.builder().tableName(QualifiedName.of("t" + i)).columns(getColNameType())
+                .comment(new Comment("comment" + i)).build());
+            if (i % 10 == 0) {
+                list.add(new DropTable(QualifiedName.of("t" + i)));
+            }
+        }
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        plantUmlEngine.generate(list, sequential);
+        ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+        plantUmlEngine.generate(list, parallel, new ForkJoinPool(4));
+        assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+        String output = new String(parallel.toByteArray(), Charset.defaultCharset());
+        assertTrue(output.indexOf("Table(t1,") < output.indexOf("Table(t99,"));
+    }
+
+    @Test
+    public void testFragmentCache() {
+        FragmentCache fragmentCache = new FragmentCache(10);
+        PlantUmlTransformer transformer = new PlantUmlTransformer(fragmentCache);
+        List<BaseStatement> statements = FastModelParserFactory.getInstance().get().multiParse(
+            new DomainLanguage("create dim table a (b bigint) comment 'a';create dim table c (d bigint);"));
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        transformer.generate(statements, cached);
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        transformer.generate(statements, again);
+        ByteArrayOutputStream expect = new ByteArrayOutputStream();
+        plantUmlEngine.generate(statements, expect);
+        assertArrayEquals(expect.toByteArray(), cached.toByteArray());
+        assertArrayEquals(expect.toByteArray(), again.toByteArray());
+        assertEquals(2, fragmentCache.getStats().hitCount());
+        assertEquals(2, fragmentCache.getStats().missCount());
+    }
+
     private List<ColumnDefinition> getColNameType() {
         List<ColumnDefinition> list = new ArrayList<>();
         ColumnDefinition columnDefine = ColumnDefinition.builder().colName(new Identifier("col1")).dataType(
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml.diagram;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.aliyun.fastmodel.core.tree.BaseStatement;
+import com.aliyun.fastmodel.core.tree.QualifiedName;
+import com.aliyun.fastmodel.core.tree.datatype.DataTypeEnums;
+import com.aliyun.fastmodel.core.tree.expr.Identifier;
+import com.aliyun.fastmodel.core.tree.statement.table.ColumnDefinition;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import com.aliyun.fastmodel.core.tree.util.DataTypeUtil;
+import com.aliyun.fastmodel.transform.plantuml.PlantUmlTransformer;
+import com.aliyun.fastmodel.transform.plantuml.exception.VisualRenderRejectedException;
+import com.google.common.collect.ImmutableList;
+import net.sourceforge.plantuml.FileFormat;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * DiagramRenderPoolTest
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class DiagramRenderPoolTest {
+
+    private static final String SEQUENCE_UML = "@startuml\nBob -> Alice : hello\n@enduml";
+
+    DiagramRenderPool diagramRenderPool = new DiagramRenderPool(1, 1);
+
+    @After
+    public void tearDown() {
+        diagramRenderPool.close();
+    }
+
+    @Test
+    public void testPngAndSvg() throws Exception {
+        byte[] png = diagramRenderPool.submit(SEQUENCE_UML, FileFormat.PNG, 30, TimeUnit.SECONDS).get();
+        assertEquals("PNG", new String(png, 1, 3, StandardCharsets.US_ASCII));
+        byte[] svg = diagramRenderPool.submit(SEQUENCE_UML, FileFormat.SVG, 30, TimeUnit.SECONDS).get();
+        assertTrue(new String(svg, StandardCharsets.UTF_8).contains("<svg"));
+    }
+
+    @Test
+    public void testUmlSupplier() throws Exception {
+        List<String> threads = new ArrayList<>();
+        byte[] bytes = diagramRenderPool.submit(() -> {
+            threads.add(Thread.currentThread().getName());
+            return SEQUENCE_UML;
+        }, FileFormat.SVG, 30, TimeUnit.SECONDS).get();
+        assertTrue(new String(bytes, StandardCharsets.UTF_8).contains("<svg"));
+        assertTrue(threads.get(0).startsWith("diagram-render-"));
+
+        CompletableFuture<byte[]> future = diagramRenderPool.submit(() -> {
+            throw new IllegalArgumentException("parse error");
+        }, FileFormat.SVG, 30, TimeUnit.SECONDS);
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void testLargeModel() throws Exception {
+        List<BaseStatement> statements = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            statements.add(CreateDimTable.builder().tableName(QualifiedName.of("t" + i))
+                .columns(ImmutableList.of(ColumnDefinition.builder().colName(new Identifier("c" + i))
+                    .dataType(DataTypeUtil.simpleType(DataTypeEnums.BIGINT)).build())).build());
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new PlantUmlTransformer().generate(statements, outputStream);
+        String uml = new String(outputStream.toByteArray());
+        byte[] png = diagramRenderPool.submit(uml, FileFormat.PNG, 60, TimeUnit.SECONDS).get();
+        assertTrue(png.length > 0);
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<byte[]> future = diagramRenderPool.submit(() -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new byte[0];
+        }, 50, TimeUnit.MILLISECONDS);
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectAndCancel() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<byte[]> first = diagramRenderPool.submit(() -> {
+            running.countDown();
+            release.await();
+            return new byte[] {1};
+        }, 30, TimeUnit.SECONDS);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<byte[]> queued = diagramRenderPool.submit(() -> new byte[] {2}, 30, TimeUnit.SECONDS);
+        assertEquals(1, diagramRenderPool.getQueueSize());
+        CompletableFuture<byte[]> rejected = diagramRenderPool.submit(() -> new byte[] {3}, 30, TimeUnit.SECONDS);
+        try {
+            rejected.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof VisualRenderRejectedException);
+        }
+        //取消后释放队列的容量
+        queued.cancel(true);
+        assertEquals(0, diagramRenderPool.getQueueSize());
+        CompletableFuture<byte[]> next = diagramRenderPool.submit(() -> new byte[] {4}, 30, TimeUnit.SECONDS);
+        release.countDown();
+        assertEquals(1, first.get()[0]);
+        assertEquals(4, next.get()[0]);
+    }
+}
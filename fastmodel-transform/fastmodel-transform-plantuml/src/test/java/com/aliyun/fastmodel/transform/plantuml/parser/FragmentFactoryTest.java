@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.fastmodel.transform.plantuml.parser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.aliyun.fastmodel.core.tree.QualifiedName;
+import com.aliyun.fastmodel.core.tree.datatype.DataTypeEnums;
+import com.aliyun.fastmodel.core.tree.expr.Identifier;
+import com.aliyun.fastmodel.core.tree.statement.table.ColumnDefinition;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateDimTable;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateFactTable;
+import com.aliyun.fastmodel.core.tree.statement.table.CreateTable;
+import com.aliyun.fastmodel.core.tree.util.DataTypeUtil;
+import com.aliyun.fastmodel.transform.template.BaseFmlTemplateFactory;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * FragmentFactoryTest
+ *
+ * @author panguanjing
+ * @date 2022/7/8
+ */
+public class FragmentFactoryTest {
+
+    @Test
+    public void testShared() {
+        FragmentFactory fragmentFactory = FragmentFactory.getInstance();
+        assertSame(fragmentFactory, FragmentFactory.getInstance());
+        assertSame(fragmentFactory.get(table("a", true)), fragmentFactory.get(table("b", false)));
+        assertSame(BaseFmlTemplateFactory.getInstance().getTemplate("fragment/table.ftl"),
+            BaseFmlTemplateFactory.getInstance().getTemplate("fragment/table.ftl"));
+    }
+
+    @Test
+    public void testConcurrentParse() {
+        FragmentParser fragmentParser = FragmentFactory.getInstance().get(table("a", true));
+        List<String> contents = IntStream.range(0, 100).parallel()
+            .mapToObj(i -> fragmentParser.parse(table("t" + i, i % 2 == 0)).content())
+            .collect(Collectors.toList());
+        for (int i = 0; i < contents.size(); i++) {
+            assertEquals(fragmentParser.parse(table("t" + i, i % 2 == 0)).content(), contents.get(i));
+        }
+    }
+
+    private static CreateTable table(String name, boolean dim) {
+        List<ColumnDefinition> columns = ImmutableList.of(ColumnDefinition.builder()
+            .colName(new Identifier("c1"))
+            .dataType(DataTypeUtil.simpleType(DataTypeEnums.BIGINT))
+            .build());
+        if (dim) {
+            return CreateDimTable.builder().tableName(QualifiedName.of(name)).columns(columns).build();
+        }
+        return CreateFactTable.builder().tableName(QualifiedName.of(name)).columns(columns).build();
+    }
+}
@@ -16,17 +16,20 @@
 
 package com.aliyun.fastmodel.transform.template.freemarker;
 
-import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.aliyun.fastmodel.transform.template.FmlTemplate;
 import com.aliyun.fastmodel.transform.template.FmlTemplateFactory;
 import com.aliyun.fastmodel.transform.template.exception.FmlTemplateException;
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.template.Configuration;
-import freemarker.template.Template;
 
 /**
  * Desc:
+ * <p>
+ * 模版在classpath中，加载后不会改变，{@link Configuration}只在类加载时配置一次，
+ * 编译后的模版按照路径缓存，每个模版只编译一次。{@link freemarker.template.Template}是线程安全的，可以共享。
  *
  * @author panguanjing
  * @date 2020/10/19
@@ -35,20 +38,28 @@ public class FreeMarkerTemplateFactoryImpl implements FmlTemplateFactory {
     private static final Configuration CONFIGURATION = new Configuration(
         Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
 
-    private static Template get(String name) throws IOException {
+    static {
         CONFIGURATION.setLogTemplateExceptions(true);
-        ClassTemplateLoader classTemplateLoader = new ClassTemplateLoader(FmlTemplateFactory.class, "/");
-        CONFIGURATION.setTemplateLoader(classTemplateLoader);
-        return CONFIGURATION.getTemplate(name);
+        CONFIGURATION.setTemplateLoader(new ClassTemplateLoader(FmlTemplateFactory.class, "/"));
+        //classpath中的模版不会修改，不需要检查更新
+        CONFIGURATION.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
     }
 
-    @Override
-    public FmlTemplate getTemplate(String relativePath) throws FmlTemplateException {
+    /**
+     * 编译后的模版，加载失败的模版不会被缓存
+     */
+    private static final Map<String, FmlTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private static FmlTemplate load(String name) {
         try {
-            Template f = get(relativePath);
-            return new FreeMarkerTemplate(f);
+            return new FreeMarkerTemplate(CONFIGURATION.getTemplate(name));
         } catch (Exception e) {
-            throw new FmlTemplateException("getTemplate Occur Exception:" + relativePath, e);
+            throw new FmlTemplateException("getTemplate Occur Exception:" + name, e);
         }
     }
+
+    @Override
+    public FmlTemplate getTemplate(String relativePath) throws FmlTemplateException {
+        return TEMPLATES.computeIfAbsent(relativePath, FreeMarkerTemplateFactoryImpl::load);
+    }
 }
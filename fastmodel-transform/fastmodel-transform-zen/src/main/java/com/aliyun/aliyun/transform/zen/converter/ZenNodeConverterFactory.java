@@ -16,10 +16,9 @@
 
 package com.aliyun.aliyun.transform.zen.converter;
 
-import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
 
+import com.aliyun.fastmodel.common.registry.ClassRegistry;
 import com.aliyun.fastmodel.converter.util.GenericTypeUtil;
 import com.aliyun.fastmodel.core.tree.Node;
 
@@ -31,7 +30,7 @@ import com.aliyun.fastmodel.core.tree.Node;
  */
 public class ZenNodeConverterFactory {
 
-    protected static Map<String, ZenNodeConverter> maps = new ConcurrentHashMap<>();
+    protected static ClassRegistry<Void, ZenNodeConverter> registry = new ClassRegistry<>();
 
     public static final ZenNodeConverterFactory INSTANCE = new ZenNodeConverterFactory();
 
@@ -43,7 +42,7 @@ public class ZenNodeConverterFactory {
         ServiceLoader<ZenNodeConverter> load = ServiceLoader.load(ZenNodeConverter.class);
         for (ZenNodeConverter transformer : load) {
             Class superClassGenericType = GenericTypeUtil.getSuperInterfaceGenericType(transformer.getClass(), 0);
-            maps.put(superClassGenericType.getName(), transformer);
+            registry.register(superClassGenericType, transformer);
         }
     }
 
@@ -52,12 +51,7 @@ public class ZenNodeConverterFactory {
     }
 
     public ZenNodeConverter create(Class<? extends Node> nodeClass) {
-        ZenNodeConverter statementConverter = maps.get(nodeClass.getName());
-        if (statementConverter == null) {
-            return maps.get(nodeClass.getSuperclass().getName());
-        } else {
-            return statementConverter;
-        }
+        return registry.get(nodeClass);
     }
 
 }
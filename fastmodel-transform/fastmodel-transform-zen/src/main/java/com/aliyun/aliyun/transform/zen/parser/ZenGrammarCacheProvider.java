@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021-2022 Alibaba Group Holding Ltd.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.aliyun.aliyun.transform.zen.parser;
+
+import com.aliyun.fastmodel.common.parser.cache.GrammarCache;
+import com.aliyun.fastmodel.common.parser.cache.GrammarCacheProvider;
+import com.aliyun.fastmodel.transform.zen.parser.FastModelZenLexer;
+import com.aliyun.fastmodel.transform.zen.parser.FastModelZenParser;
+import com.google.auto.service.AutoService;
+
+/**
+ * zen语法的缓存注册
+ *
+ * @author panguanjing
+ * @date 2022/6/22
+ */
+@AutoService(GrammarCacheProvider.class)
+public class ZenGrammarCacheProvider implements GrammarCacheProvider {
+
+    @Override
+    public GrammarCache getGrammarCache() {
+        ZenParserImpl parser = new ZenParserImpl();
+        return GrammarCache.builder()
+            .name("zen")
+            .lexer(new FastModelZenLexer(null))
+            .parser(new FastModelZenParser(null))
+            .warmer(parser::parseNode)
+            .corpus("/warmup/zen.txt")
+            .resourceOwner(ZenGrammarCacheProvider.class)
+            .build();
+    }
+}
@@ -18,7 +18,9 @@ package com.aliyun.aliyun.transform.zen.parser;
 
 import java.util.function.Function;
 
+import com.aliyun.fastmodel.common.parser.PredictionStats;
 import com.aliyun.fastmodel.common.parser.ThrowingErrorListener;
+import com.aliyun.fastmodel.common.parser.TwoStageParser;
 import com.aliyun.fastmodel.common.parser.lexer.CaseChangingCharStream;
 import com.aliyun.fastmodel.common.utils.StripUtils;
 import com.aliyun.fastmodel.core.exception.ParseException;
@@ -31,7 +33,6 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -44,6 +45,8 @@ import org.apache.commons.lang3.StringUtils;
 public class ZenParserImpl implements ZenParser {
     public static final ThrowingErrorListener LISTENER = new ThrowingErrorListener();
 
+    private static final TwoStageParser<FastModelZenParser> TWO_STAGE_PARSER = new TwoStageParser<>("zen");
+
     @Override
     public <T> T parseNode(String text, Void context) throws ParseException {
         return (T)invokerParser(text, FastModelZenParser::zencoding);
@@ -69,18 +72,17 @@ public class ZenParserImpl implements ZenParser {
         FastModelZenParser fastModelZenParser = new FastModelZenParser(commonTokenStream);
         fastModelZenParser.removeErrorListeners();
         fastModelZenParser.addErrorListener(LISTENER);
-
-        ParserRuleContext tree;
-        try {
-            fastModelZenParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-            tree = parseFunction.apply(fastModelZenParser);
-        } catch (Throwable e) {
-            commonTokenStream.seek(0);
-            fastModelZenParser.reset();
-            fastModelZenParser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            tree = parseFunction.apply(fastModelZenParser);
-        }
+        ParserRuleContext tree = TWO_STAGE_PARSER.parse(fastModelZenParser, parseFunction);
         return new ZenAstBuilder().visit(tree);
     }
 
+    /**
+     * 获取两阶段解析的统计
+     *
+     * @return {@link PredictionStats}
+     */
+    public static PredictionStats getPredictionStats() {
+        return TWO_STAGE_PARSER.getStats();
+    }
+
 }